@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Headless 아티팩트를 추출하고 AppCDS 아카이브를 생성한다.
+#
+#   ./scripts/cds-archive.sh            # build/cds/app/*.jar + build/cds/app.jsa
+#   java -XX:SharedArchiveFile=build/cds/app.jsa -jar build/cds/app/aboutFoongdoll-*-headless.jar \
+#        --spring.profiles.active=headless
+#
+# 학습 실행은 컨텍스트 refresh 직후 종료(spring.context.exit=onRefresh)하므로 DB 접속 없이 진행된다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+OUT=build/cds
+GRADLE=${GRADLE:-sh ./gradlew}
+
+$GRADLE -q bootJar -Pheadless
+
+JAR=$(ls build/libs/*-headless.jar | head -n 1)
+rm -rf "$OUT"
+mkdir -p "$OUT"
+
+java -Djarmode=tools -jar "$JAR" extract --destination "$OUT/app"
+APP_JAR=$(ls "$OUT"/app/*.jar | head -n 1)
+
+java -XX:ArchiveClassesAtExit="$OUT/app.jsa" \
+     -Dspring.context.exit=onRefresh \
+     -jar "$APP_JAR" \
+     --spring.profiles.active=headless \
+     --spring.jpa.hibernate.ddl-auto=none \
+     --spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false
+
+echo "CDS archive: $OUT/app.jsa ($(du -h "$OUT/app.jsa" | cut -f1))"
+echo "Run: java -XX:SharedArchiveFile=$OUT/app.jsa -jar $APP_JAR --spring.profiles.active=headless"
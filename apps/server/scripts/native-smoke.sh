@@ -0,0 +1,82 @@
+#!/usr/bin/env bash
+# 네이티브 바이너리 스모크 테스트 + JVM(headless) 대비 기동 시간/RSS 비교.
+#
+#   ./gradlew nativeSmokeTest -Pnative        (nativeCompile 후 실행)
+#   APP_ARGS="--spring.datasource.url=..." ./scripts/native-smoke.sh
+#
+# 공개 GET 엔드포인트가 200 + ResponseVO JSON 을 돌려주는지, 인증 없는 쓰기가 401 로 막히는지 확인한다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+BIN=${BIN:-build/native/nativeCompile/aboutfoongdoll}
+PORT=${PORT:-18081}
+BASE="http://localhost:$PORT"
+read -r -a EXTRA <<< "${APP_ARGS:-}"
+
+[ -x "$BIN" ] || { echo "native binary not found: $BIN" >&2; exit 1; }
+
+FAILED=0
+PID=""
+LOG=$(mktemp)
+trap '[ -n "$PID" ] && kill "$PID" 2>/dev/null; rm -f "$LOG"' EXIT
+
+boot() {
+  : > "$LOG"
+  local start
+  start=$(date +%s%N)
+  "$@" --server.port="$PORT" --spring.profiles.active=headless "${EXTRA[@]}" >"$LOG" 2>&1 &
+  PID=$!
+  for _ in $(seq 1 600); do
+    if curl -s -o /dev/null "$BASE/api/posts?page=1&size=1"; then break; fi
+    kill -0 "$PID" 2>/dev/null || { cat "$LOG" >&2; exit 1; }
+    sleep 0.05
+  done
+  local ready=$(( ($(date +%s%N) - start) / 1000000 ))
+  local rss
+  rss=$(awk '/VmRSS/ {print $2}' "/proc/$PID/status")
+  echo "$ready $rss"
+}
+
+stop() {
+  kill "$PID" 2>/dev/null || true
+  wait "$PID" 2>/dev/null || true
+  PID=""
+}
+
+expect() {
+  local desc=$1 method=$2 path=$3 status=$4
+  local out code
+  out=$(mktemp)
+  code=$(curl -s -o "$out" -w '%{http_code}' -X "$method" -H 'Content-Type: application/json' "$BASE$path" \
+         ${5:+--data "$5"})
+  if [ "$code" != "$status" ]; then
+    echo "FAIL  $desc: $method $path -> $code (expected $status)"; FAILED=1
+  elif [ "$status" = "200" ] && ! grep -q '"success"' "$out"; then
+    echo "FAIL  $desc: $method $path -> body is not a ResponseVO"; FAILED=1
+  else
+    echo "ok    $desc"
+  fi
+  rm -f "$out"
+}
+
+read -r NATIVE_MS NATIVE_RSS < <(boot "$BIN")
+expect "resume section"       GET    /api/resume                 200
+expect "experience section"   GET    /api/experience             200
+expect "post page"            GET    "/api/posts?page=1&size=5"  200
+expect "single post"          GET    /api/posts/1                200
+expect "write requires auth"  POST   /api/posts                  401 '{"title":"t","content":"c"}'
+expect "delete requires auth" DELETE /api/posts/1                401
+stop
+
+JVM_JAR=$(ls build/libs/*-headless.jar 2>/dev/null | head -n 1 || true)
+echo
+printf "%-8s %12s %12s\n" variant ready_ms rss_mb
+printf "%-8s %12s %12.1f\n" native "$NATIVE_MS" "$(echo "$NATIVE_RSS / 1024" | bc -l)"
+if [ -n "$JVM_JAR" ]; then
+  read -r JVM_MS JVM_RSS < <(boot java -jar "$JVM_JAR")
+  stop
+  printf "%-8s %12s %12.1f\n" jvm "$JVM_MS" "$(echo "$JVM_RSS / 1024" | bc -l)"
+fi
+
+exit $FAILED
@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+# fat(Vaadin) 빌드 / headless / headless+AppCDS 의 기동 시간과 RSS 비교.
+#
+#   ./scripts/startup-compare.sh [runs] [-- 추가 애플리케이션 인자...]
+#
+# 각 변형을 runs 회 기동하여 "Started AboutFoongdollApplication" 로그까지의 JVM 기준 시간과
+# 기동 직후 VmRSS 를 측정하고, 결과를 build/startup-compare.csv 로 남긴다.
+# 세 변형 모두 동일한 인자/DB 로 기동해야 비교가 의미 있다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+shift || true
+[ "${1:-}" = "--" ] && shift
+APP_ARGS=("$@")
+
+GRADLE=${GRADLE:-sh ./gradlew}
+PORT=${PORT:-18080}
+RESULT=build/startup-compare.csv
+
+$GRADLE -q bootJar
+FAT_JAR=$(ls build/libs/*.jar | grep -v -- '-plain.jar' | grep -v -- '-headless.jar' | head -n 1)
+./scripts/cds-archive.sh >/dev/null
+CDS_JAR=$(ls build/cds/app/*.jar | head -n 1)
+HEADLESS_JAR=$(ls build/libs/*-headless.jar | head -n 1)
+
+measure() {
+  local name=$1; shift
+  local log
+  log=$(mktemp)
+  "$@" --server.port="$PORT" "${APP_ARGS[@]}" >"$log" 2>&1 &
+  local pid=$!
+  for _ in $(seq 1 600); do
+    if grep -q "Started AboutFoongdollApplication" "$log"; then break; fi
+    if ! kill -0 "$pid" 2>/dev/null; then break; fi
+    sleep 0.1
+  done
+  local started rss
+  started=$(grep -o "Started AboutFoongdollApplication in [0-9.]* seconds" "$log" | grep -o "[0-9.]*" | head -n 1 || true)
+  rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status" 2>/dev/null || echo "")
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  rm -f "$log"
+  echo "$name,${started:-NA},${rss:-NA}" | tee -a "$RESULT"
+}
+
+echo "variant,startup_seconds,rss_kb" > "$RESULT"
+for _ in $(seq 1 "$RUNS"); do
+  measure fat      java -jar "$FAT_JAR" --vaadin.launch-browser=false
+  measure headless java -jar "$HEADLESS_JAR" --spring.profiles.active=headless
+  measure cds      java -XX:SharedArchiveFile=build/cds/app.jsa -jar "$CDS_JAR" --spring.profiles.active=headless
+done
+
+echo
+awk -F, 'NR > 1 && $2 != "NA" { n[$1]++; s[$1] += $2; r[$1] += $3 }
+  END { printf "%-10s %8s %12s\n", "variant", "avg(s)", "avg RSS(MB)";
+        for (v in n) printf "%-10s %8.2f %12.1f\n", v, s[v] / n[v], r[v] / n[v] / 1024 }' "$RESULT"
@@ -0,0 +1,127 @@
+package foongdoll.portfolio.aboutfoongdoll.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import foongdoll.portfolio.aboutfoongdoll.AboutFoongdollApplication;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostRequest;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.service.PostService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 두 인스턴스가 같은 DB 를 쓸 때 캐시 일관성 확인.
+ *
+ * 같은 JVM 에 노드 A/B 를 하나의 H2 인메모리 DB 로 띄우고,
+ * B 의 응답 캐시/자동완성에 포스트를 올려 둔 뒤 A 에서 수정해 B 가 poll-interval 안팎의 시간 내에 새 내용을 돌려주는지 본다.
+ * 제한 시간(--max-staleness-ms, 기본 poll-interval * 3 + 500)을 넘으면 종료 코드 1.
+ *
+ * ./gradlew clusterCheck
+ */
+public class ClusterCoherenceCheck {
+
+    private static final String DB_URL = "jdbc:h2:mem:cluster;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        long pollIntervalMs = 200;
+        long maxStalenessMs = pollIntervalMs * 3 + 500;
+        for (String arg : args) {
+            if (arg.startsWith("--poll-interval-ms=")) pollIntervalMs = Long.parseLong(arg.substring(19));
+            if (arg.startsWith("--max-staleness-ms=")) maxStalenessMs = Long.parseLong(arg.substring(19));
+        }
+
+        try (ConfigurableApplicationContext nodeA = start("node-a", "create", pollIntervalMs);
+             ConfigurableApplicationContext nodeB = start("node-b", "none", pollIntervalMs)) {
+
+            HttpClient http = HttpClient.newHttpClient();
+            String baseB = "http://localhost:" + nodeB.getEnvironment().getProperty("local.server.port");
+            PostService postsA = nodeA.getBean(PostService.class);
+
+            PostResponse created = postsA.createPost(request("coherence before", "cluster"));
+            String path = "/api/posts/" + created.getId();
+
+            // 생성도 B 에 전파되어야 자동완성에 잡힌다
+            long createLag = awaitOnB(http, baseB + "/api/posts/suggest?prefix=coherence", "coherence before", maxStalenessMs);
+            // B 의 응답 캐시에 올려 둔다 (두 번째 요청은 HIT)
+            get(http, baseB + path);
+            String cache = get(http, baseB + path).headers().firstValue("X-Cache").orElse("?");
+
+            postsA.updatePost(created.getId(), request("coherence after", "cluster"));
+            long updateLag = awaitOnB(http, baseB + path, "coherence after", maxStalenessMs);
+            long suggestLag = awaitOnB(http, baseB + "/api/posts/suggest?prefix=coherence", "coherence after", maxStalenessMs);
+
+            postsA.deletePost(created.getId());
+            long deleteLag = awaitOnB(http, baseB + path, "Post not found", maxStalenessMs);
+
+            System.out.printf("[cluster] B cache before update: %s%n", cache);
+            System.out.printf("[cluster] create->suggest %d ms, update->get %d ms, update->suggest %d ms, delete->get %d ms (limit %d ms)%n",
+                    createLag, updateLag, suggestLag, deleteLag, maxStalenessMs);
+            if (!"HIT".equals(cache)) {
+                System.out.println("[cluster] FAIL response cache on node B was not populated, check is not meaningful");
+                System.exit(1);
+            }
+            System.out.println("[cluster] coherence check passed");
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String nodeId, String ddl, long pollIntervalMs) {
+        Map<String, Object> p = new HashMap<>();
+        p.put("server.port", 0);
+        p.put("spring.datasource.url", DB_URL);
+        p.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        p.put("spring.datasource.username", "sa");
+        p.put("spring.datasource.password", "");
+        p.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        // 스키마는 A 만 만든다 (B 가 create 하면 A 의 테이블을 지운다)
+        p.put("spring.jpa.hibernate.ddl-auto", ddl);
+        p.put("spring.jpa.show-sql", false);
+        p.put("spring.flyway.enabled", false);
+        p.put("app.warmup.enabled", false);
+        p.put("app.cluster.node-id", nodeId);
+        p.put("app.cluster.invalidation.poll-interval-ms", pollIntervalMs);
+        p.put("spring.jmx.enabled", false);
+        p.put("logging.level.root", "WARN");
+        return new SpringApplicationBuilder(AboutFoongdollApplication.class)
+                .profiles("headless")
+                .properties(p)
+                .run();
+    }
+
+    private static PostRequest request(String title, String category) {
+        PostRequest request = new PostRequest();
+        request.setTitle(title);
+        request.setCategory(category);
+        request.setContent("cluster coherence check");
+        return request;
+    }
+
+    /** url 응답 본문에 expected 가 나타날 때까지 폴링하고 걸린 시간(ms)을 돌려준다 */
+    private static long awaitOnB(HttpClient http, String url, String expected, long limitMs) throws Exception {
+        long start = System.nanoTime();
+        while (true) {
+            HttpResponse<String> response = get(http, url);
+            if (response.body().contains(expected)) {
+                return (System.nanoTime() - start) / 1_000_000;
+            }
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            if (elapsed > limitMs) {
+                JsonNode body = MAPPER.readTree(response.body());
+                System.out.printf("[cluster] FAIL %s still stale after %d ms: %s%n", url, elapsed, body);
+                System.exit(1);
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static HttpResponse<String> get(HttpClient http, String url) throws Exception {
+        return http.send(HttpRequest.newBuilder(URI.create(url)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
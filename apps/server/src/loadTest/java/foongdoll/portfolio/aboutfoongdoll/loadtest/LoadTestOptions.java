@@ -0,0 +1,103 @@
+package foongdoll.portfolio.aboutfoongdoll.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * --key=value 형태의 실행 인자.
+ *
+ * 데이터 규모 : --posts=100000 --companies=50 --experiences=500 --post-body-kb=8 --detail-lines=40 --categories=12
+ * 부하       : --threads=32 --warmup-seconds=10 --duration-seconds=60 --write-percent=5
+ *             --clients=1000 (reactiveBenchmark 동시 클라이언트 수)
+ * 결과       : --out=build/loadtest --baseline=build/loadtest/baseline.json --save-baseline --max-regression=0.2
+ * 기타       : --response-cache=true --query-budget-check=true --seed=42
+ */
+@Getter
+public class LoadTestOptions {
+
+    private final int posts;
+    private final int companies;
+    private final int experiences;
+    private final int postBodyKb;
+    private final int detailLines;
+    private final int categories;
+
+    private final int threads;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int writePercent;
+    private final int clients;
+
+    private final Path outDir;
+    private final Path baseline;
+    private final boolean saveBaseline;
+    private final double maxRegression;
+
+    private final boolean responseCache;
+    private final boolean queryBudgetCheck;
+    private final long seed;
+
+    private LoadTestOptions(Map<String, String> args) {
+        this.posts = intArg(args, "posts", 100_000);
+        this.companies = intArg(args, "companies", 50);
+        this.experiences = intArg(args, "experiences", 500);
+        this.postBodyKb = intArg(args, "post-body-kb", 8);
+        this.detailLines = intArg(args, "detail-lines", 40);
+        this.categories = intArg(args, "categories", 12);
+
+        this.threads = intArg(args, "threads", 32);
+        this.warmupSeconds = intArg(args, "warmup-seconds", 10);
+        this.durationSeconds = intArg(args, "duration-seconds", 60);
+        this.writePercent = intArg(args, "write-percent", 5);
+        this.clients = intArg(args, "clients", 1000);
+
+        this.outDir = Path.of(args.getOrDefault("out", "build/loadtest"));
+        this.baseline = Path.of(args.getOrDefault("baseline", outDir.resolve("baseline.json").toString()));
+        this.saveBaseline = Boolean.parseBoolean(args.getOrDefault("save-baseline", "false"));
+        this.maxRegression = Double.parseDouble(args.getOrDefault("max-regression", "0.2"));
+
+        this.responseCache = Boolean.parseBoolean(args.getOrDefault("response-cache", "true"));
+        this.queryBudgetCheck = Boolean.parseBoolean(args.getOrDefault("query-budget-check", "true"));
+        this.seed = Long.parseLong(args.getOrDefault("seed", "42"));
+    }
+
+    public static LoadTestOptions parse(String[] argv) {
+        Map<String, String> args = new HashMap<>();
+        for (String a : argv) {
+            if (a == null || !a.startsWith("--")) continue;
+            int eq = a.indexOf('=');
+            if (eq < 0) {
+                args.put(a.substring(2), "true");
+            } else {
+                args.put(a.substring(2, eq), a.substring(eq + 1));
+            }
+        }
+        return new LoadTestOptions(args);
+    }
+
+    /** 결과 파일에 함께 기록하여 같은 조건끼리만 비교되도록 한다 */
+    public Map<String, Object> describe() {
+        Map<String, Object> d = new LinkedHashMap<>();
+        d.put("posts", posts);
+        d.put("companies", companies);
+        d.put("experiences", experiences);
+        d.put("postBodyKb", postBodyKb);
+        d.put("detailLines", detailLines);
+        d.put("categories", categories);
+        d.put("threads", threads);
+        d.put("durationSeconds", durationSeconds);
+        d.put("writePercent", writePercent);
+        d.put("responseCache", responseCache);
+        d.put("seed", seed);
+        return d;
+    }
+
+    private static int intArg(Map<String, String> args, String key, int def) {
+        String v = args.get(key);
+        return v == null ? def : Integer.parseInt(v.replace("_", ""));
+    }
+}
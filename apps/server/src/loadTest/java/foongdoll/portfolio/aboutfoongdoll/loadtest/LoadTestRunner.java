@@ -0,0 +1,160 @@
+package foongdoll.portfolio.aboutfoongdoll.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import foongdoll.portfolio.aboutfoongdoll.AboutFoongdollApplication;
+import foongdoll.portfolio.aboutfoongdoll.post.service.PostSuggestService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 로컬 부하 테스트 진입점.
+ *
+ * 1. H2(MySQL 모드) 인메모리 DB 로 애플리케이션을 임의 포트에 띄운다 (원격 MySQL 을 건드리지 않음)
+ *    스키마는 운영과 같은 Flyway 마이그레이션(V1..Vn)으로 만든다 (ddl-auto 로 만들면 인덱스/제약이 엔티티 선언만큼만 생김)
+ * 2. 같은 seed 로 동일한 규모의 합성 데이터를 적재하고, 조회 경로별 SQL 수를 확인한다 (QueryBudgetCheck)
+ * 3. 워밍업 후 측정 구간 동안 읽기/쓰기 혼합 부하를 걸고 엔드포인트별 지연 분포를 기록한다
+ * 4. build/loadtest/result-*.json 으로 저장하고, 기준선이 있으면 p99/처리량 회귀를 검사한다
+ *
+ * ./gradlew loadTest -PloadTestArgs="--posts=20000 --duration-seconds=30"
+ * ./gradlew loadTest -PloadTestArgs="--save-baseline"
+ * 회귀가 허용치(--max-regression)를 넘으면 종료 코드 1 로 끝난다.
+ */
+public class LoadTestRunner {
+
+    private static final DateTimeFormatter TS = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        System.out.println("[loadtest] options " + options.describe());
+
+        Map<String, Object> results;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AboutFoongdollApplication.class)
+                .profiles("headless")
+                .properties(embeddedProperties(options))
+                .run()) {
+
+            long loadStart = System.nanoTime();
+            SyntheticDataGenerator data = new SyntheticDataGenerator(
+                    context.getBean(JdbcTemplate.class), options, new Random(options.getSeed()));
+            data.generate();
+            // JDBC 로 직접 적재했으므로 변경 이벤트가 없다. 자동완성 색인을 다시 만든다
+            context.getBean(PostSuggestService.class).rebuild();
+            System.out.printf("[loadtest] synthetic data loaded in %.1fs%n", (System.nanoTime() - loadStart) / 1e9);
+            if (options.isQueryBudgetCheck()) new QueryBudgetCheck(context).verify(data);
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            results = new WorkloadDriver("http://localhost:" + port, options, data, objectMapper).run();
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", LocalDateTime.now().toString());
+        report.put("options", options.describe());
+        report.put("results", results);
+
+        Files.createDirectories(options.getOutDir());
+        Path result = options.getOutDir().resolve("result-" + LocalDateTime.now().format(TS) + ".json");
+        objectMapper.writeValue(result.toFile(), report);
+        objectMapper.writeValue(options.getOutDir().resolve("latest.json").toFile(), report);
+
+        printTable(results);
+        System.out.println("[loadtest] result written to " + result);
+
+        if (options.isSaveBaseline()) {
+            Files.createDirectories(options.getBaseline().toAbsolutePath().getParent());
+            objectMapper.writeValue(options.getBaseline().toFile(), report);
+            System.out.println("[loadtest] baseline saved to " + options.getBaseline());
+            return;
+        }
+
+        if (Files.exists(options.getBaseline())) {
+            List<String> regressions = compare(objectMapper.readTree(options.getBaseline().toFile()),
+                    objectMapper.valueToTree(report), options.getMaxRegression());
+            if (!regressions.isEmpty()) {
+                regressions.forEach(r -> System.out.println("[loadtest] REGRESSION " + r));
+                System.exit(1);
+            }
+            System.out.println("[loadtest] no regression against " + options.getBaseline());
+        }
+    }
+
+    static Map<String, Object> embeddedProperties(LoadTestOptions options) {
+        Map<String, Object> p = new HashMap<>();
+        p.put("server.port", 0);
+        p.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        p.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        p.put("spring.datasource.username", "sa");
+        p.put("spring.datasource.password", "");
+        p.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        // 스키마는 Flyway 가 만든다. 타입 검증(validate)은 MySQL 기준이라 H2 에서는 하지 않는다 (queryPlanCheck 가 MySQL 에서 검증)
+        p.put("spring.jpa.hibernate.ddl-auto", "none");
+        p.put("spring.jpa.show-sql", false);
+        p.put("spring.flyway.enabled", true);
+        // 데이터 적재 전에 예열이 돌면 빈 결과만 캐시되므로 끈다 (측정 전 예열은 WorkloadDriver 가 담당)
+        p.put("app.warmup.enabled", false);
+        p.put("spring.main.lazy-initialization", false);
+        p.put("app.response-cache.enabled", options.isResponseCache());
+        // 매번 새로 만드는 인메모리 DB 라 이전 실행의 stale 사본을 디스크에서 읽어 오지 않도록 메모리에만 둔다
+        p.put("app.stale-reads.directory", "");
+        p.put("logging.level.root", "WARN");
+        return p;
+    }
+
+    /** 옵션이 다른 기준선과는 비교하지 않는다 (데이터 규모가 다르면 수치가 의미 없음) */
+    static List<String> compare(JsonNode baseline, JsonNode current, double maxRegression) {
+        List<String> regressions = new ArrayList<>();
+        if (!baseline.path("options").equals(current.path("options"))) {
+            System.out.println("[loadtest] baseline options differ, skipping comparison");
+            return regressions;
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> ops = current.path("results").fields();
+        while (ops.hasNext()) {
+            Map.Entry<String, JsonNode> op = ops.next();
+            JsonNode base = baseline.path("results").path(op.getKey());
+            JsonNode now = op.getValue();
+            if (base.isMissingNode() || base.path("count").asLong() == 0) continue;
+
+            double baseP99 = base.path("p99Ms").asDouble();
+            double nowP99 = now.path("p99Ms").asDouble();
+            if (baseP99 > 0 && nowP99 > baseP99 * (1 + maxRegression)) {
+                regressions.add(String.format("%s p99 %.2fms -> %.2fms", op.getKey(), baseP99, nowP99));
+            }
+
+            double baseTput = base.path("throughput").asDouble();
+            double nowTput = now.path("throughput").asDouble();
+            if (baseTput > 0 && nowTput < baseTput * (1 - maxRegression)) {
+                regressions.add(String.format("%s throughput %.1f/s -> %.1f/s", op.getKey(), baseTput, nowTput));
+            }
+        }
+        return regressions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printTable(Map<String, Object> results) {
+        System.out.printf("%-28s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max");
+        for (Map.Entry<String, Object> e : results.entrySet()) {
+            Map<String, Object> s = (Map<String, Object>) e.getValue();
+            System.out.printf("%-28s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    e.getKey(), s.get("count"), s.get("errors"), s.get("throughput"),
+                    s.get("p50Ms"), s.get("p90Ms"), s.get("p99Ms"), s.get("p999Ms"), s.get("maxMs"));
+        }
+    }
+}
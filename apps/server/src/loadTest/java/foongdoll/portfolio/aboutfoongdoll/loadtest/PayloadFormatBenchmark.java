@@ -0,0 +1,185 @@
+package foongdoll.portfolio.aboutfoongdoll.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import foongdoll.portfolio.aboutfoongdoll.AboutFoongdollApplication;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
+import foongdoll.portfolio.aboutfoongdoll.experience.service.ExperienceService;
+import foongdoll.portfolio.aboutfoongdoll.post.service.PostService;
+import foongdoll.portfolio.aboutfoongdoll.resume.service.ResumeService;
+import foongdoll.portfolio.aboutfoongdoll.section.service.SectionService;
+import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 같은 응답 객체를 JSON / CBOR / Smile 로 인코딩/디코딩해 크기와 시간을 비교한다.
+ *
+ * - 응답 객체는 합성 데이터로 실제 서비스가 만든 것 (포스트 목록/상세, 이력서/경험 섹션, 섹션 묶음)
+ * - 매퍼는 애플리케이션이 응답에 쓰는 것 그대로 (Boot ObjectMapper, BinaryFormatConfig 의 컨버터)
+ * - 디코딩은 readTree (클라이언트가 DTO 없이 파싱하는 비용)
+ * - gzip 크기도 함께 본다 (HTML 본문이 많아 압축 후에는 차이가 줄어든다)
+ * 먼저 HTTP 로 Accept 협상(기본 JSON, application/cbor -> CBOR)을 확인하고, 어긋나면 종료 코드 1.
+ *
+ * ./gradlew payloadBenchmark -PloadTestArgs="--posts=2000 --post-body-kb=16"
+ */
+public class PayloadFormatBenchmark {
+
+    private static final long WARMUP_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long MEASURE_NANOS = TimeUnit.MILLISECONDS.toNanos(1500);
+    private static final int PAGE_SIZE = 20;
+
+    // 측정 결과를 여기 흘려 JIT 가 인코딩/디코딩 호출을 지우지 않게 한다
+    private static volatile long blackhole;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper reportMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        System.out.println("[payload] options " + options.describe());
+
+        Map<String, Object> properties = LoadTestRunner.embeddedProperties(options);
+        properties.put("app.response-cache.enabled", false);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AboutFoongdollApplication.class)
+                .profiles("headless")
+                .properties(properties)
+                .run()) {
+
+            SyntheticDataGenerator data = new SyntheticDataGenerator(
+                    context.getBean(JdbcTemplate.class), options, new Random(options.getSeed()));
+            data.generate();
+
+            Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+            formats.put("json", context.getBean(ObjectMapper.class));
+            formats.put("cbor", context.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper());
+            formats.put("smile", context.getBean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper());
+
+            checkNegotiation("http://localhost:" + context.getEnvironment().getProperty("local.server.port"), formats.get("cbor"));
+
+            PostService postService = context.getBean(PostService.class);
+            ResumeService resumeService = context.getBean(ResumeService.class);
+            ExperienceService experienceService = context.getBean(ExperienceService.class);
+            SectionService sectionService = context.getBean(SectionService.class);
+
+            Map<String, Object> payloads = new LinkedHashMap<>();
+            payloads.put("posts-page", ResponseVO.ok(postService.getPosts(null, 1, PAGE_SIZE)));
+            payloads.put("post", ResponseVO.ok(postService.getPost(data.getMaxPostId()).orElseThrow()));
+            payloads.put("resume-section", ResponseVO.ok(resumeService.getResume(SectionView.EDITOR).orElseThrow()));
+            payloads.put("experience-section", ResponseVO.ok(experienceService.getExperience(null, SectionView.EDITOR).orElseThrow()));
+            payloads.put("sections-public", ResponseVO.ok(sectionService.getSections(null, SectionView.PUBLIC)));
+
+            for (Map.Entry<String, Object> payload : payloads.entrySet()) {
+                Map<String, Object> byFormat = new LinkedHashMap<>();
+                for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+                    byFormat.put(format.getKey(), measure(format.getValue(), payload.getValue()));
+                }
+                results.put(payload.getKey(), byFormat);
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", LocalDateTime.now().toString());
+        report.put("options", options.describe());
+        report.put("results", results);
+        Files.createDirectories(options.getOutDir());
+        Path out = options.getOutDir().resolve("payload-formats.json");
+        reportMapper.writeValue(out.toFile(), report);
+
+        System.out.printf("%-20s %-6s %10s %10s %8s %12s %12s%n",
+                "payload", "format", "bytes", "gzip", "ratio", "encode(us)", "decode(us)");
+        for (Map.Entry<String, Object> payload : results.entrySet()) {
+            @SuppressWarnings("unchecked")
+            Map<String, Map<String, Object>> byFormat = (Map<String, Map<String, Object>>) payload.getValue();
+            double jsonBytes = ((Number) byFormat.get("json").get("bytes")).doubleValue();
+            for (Map.Entry<String, Map<String, Object>> f : byFormat.entrySet()) {
+                Map<String, Object> s = f.getValue();
+                System.out.printf("%-20s %-6s %10d %10d %8.2f %12.2f %12.2f%n",
+                        payload.getKey(), f.getKey(), s.get("bytes"), s.get("gzipBytes"),
+                        ((Number) s.get("bytes")).doubleValue() / jsonBytes, s.get("encodeUs"), s.get("decodeUs"));
+            }
+        }
+        System.out.println("[payload] result written to " + out);
+    }
+
+    private static Map<String, Object> measure(ObjectMapper mapper, Object payload) throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(payload);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("bytes", encoded.length);
+        stats.put("gzipBytes", gzip(encoded).length);
+        stats.put("encodeUs", timePerOpMicros(() -> mapper.writeValueAsBytes(payload)));
+        stats.put("decodeUs", timePerOpMicros(() -> mapper.readTree(encoded)));
+        return stats;
+    }
+
+    private interface Op {
+        Object run() throws IOException;
+    }
+
+    /** 예열 후 정해진 시간 동안 반복한 1회 평균(us) */
+    private static double timePerOpMicros(Op op) throws IOException {
+        long sink = 0;
+        long deadline = System.nanoTime() + WARMUP_NANOS;
+        while (System.nanoTime() < deadline) sink += op.run().hashCode();
+
+        long ops = 0;
+        long start = System.nanoTime();
+        long end = start + MEASURE_NANOS;
+        long now;
+        do {
+            sink += op.run().hashCode();
+            ops++;
+            now = System.nanoTime();
+        } while (now < end);
+        blackhole = sink;
+        return (now - start) / 1000.0 / ops;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    /** Accept 가 없으면 JSON, application/cbor 면 CBOR 로 응답하고 그대로 읽히는지 */
+    private static void checkNegotiation(String base, ObjectMapper cbor) throws Exception {
+        HttpClient http = HttpClient.newHttpClient();
+        URI uri = URI.create(base + "/api/posts?size=5");
+
+        HttpResponse<byte[]> json = http.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> binary = http.send(HttpRequest.newBuilder(uri).header("Accept", "application/cbor").GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        String jsonType = json.headers().firstValue("Content-Type").orElse("");
+        String binaryType = binary.headers().firstValue("Content-Type").orElse("");
+        boolean ok = jsonType.startsWith("application/json")
+                && binaryType.startsWith("application/cbor")
+                && cbor.readTree(binary.body()).path("success").asBoolean();
+        System.out.printf("[payload] negotiation: default=%s, cbor=%s (%d vs %d bytes)%n",
+                jsonType, binaryType, json.body().length, binary.body().length);
+        if (!ok) {
+            System.out.println("[payload] FAIL content negotiation did not return the expected formats");
+            System.exit(1);
+        }
+    }
+}
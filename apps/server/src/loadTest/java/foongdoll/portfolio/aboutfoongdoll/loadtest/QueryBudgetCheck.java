@@ -0,0 +1,52 @@
+package foongdoll.portfolio.aboutfoongdoll.loadtest;
+
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
+import foongdoll.portfolio.aboutfoongdoll.experience.service.ExperienceService;
+import foongdoll.portfolio.aboutfoongdoll.post.service.PostService;
+import foongdoll.portfolio.aboutfoongdoll.resume.service.ResumeService;
+import foongdoll.portfolio.aboutfoongdoll.section.service.SectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationContext;
+
+import static foongdoll.portfolio.aboutfoongdoll.common.sql.QueryStats.assertQueryCount;
+
+/**
+ * 조회 경로별 SQL 수를 고정한다. 부하를 걸기 전에 실행되며, 연관 로딩이 바뀌어 N+1 이 생기면 여기서 실패한다.
+ * 숫자를 바꿔야 한다면 쿼리가 늘어난 이유를 먼저 확인할 것.
+ */
+@RequiredArgsConstructor
+public class QueryBudgetCheck {
+
+    private final ApplicationContext context;
+
+    public void verify(SyntheticDataGenerator data) {
+        SectionView view = SectionView.EDITOR;
+        ResumeService resumeService = context.getBean(ResumeService.class);
+        ExperienceService experienceService = context.getBean(ExperienceService.class);
+        PostService postService = context.getBean(PostService.class);
+        SectionService sectionService = context.getBean(SectionService.class);
+        String companyCode = data.getCompanyCodes().get(0);
+
+        // 이력서 1건
+        assertQueryCount(1, () -> resumeService.getResume(view));
+        // 경험 목록은 company 를 EntityGraph 로 함께 가져오므로 행 수와 무관하게 1
+        assertQueryCount(1, () -> experienceService.getExperience(null, view));
+        assertQueryCount(1, () -> experienceService.getExperience(companyCode, view));
+        // 페이지 조회 + count
+        assertQueryCount(2, () -> postService.getPosts(null, 1, 1));
+        assertQueryCount(1, () -> postService.getPost(data.getMaxPostId()));
+        // 포트폴리오별 조회도 같은 수 (member_code 인덱스 경로)
+        String member = SyntheticDataGenerator.MEMBER_CODE;
+        assertQueryCount(1, () -> resumeService.getResume(member, view));
+        assertQueryCount(1, () -> experienceService.getExperience(member, null, view));
+        assertQueryCount(2, () -> postService.getPosts(member, null, 1, 1));
+        // 섹션 병렬 조회도 원 요청의 집계로 합산된다 (resume 1 + experience 1 + posts 2)
+        assertQueryCount(4, () -> sectionService.getSections("resume,experience,posts:latest:1", view));
+        // 보기/필드 선택은 렌더링만 줄이고 조회는 그대로
+        SectionView sparse = SectionView.of("public", "header,content", false);
+        assertQueryCount(1, () -> resumeService.getResume(sparse));
+        assertQueryCount(1, () -> experienceService.getExperience(null, sparse));
+
+        System.out.println("[loadtest] query budget check passed");
+    }
+}
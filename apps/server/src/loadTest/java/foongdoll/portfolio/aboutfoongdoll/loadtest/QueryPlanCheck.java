@@ -0,0 +1,111 @@
+package foongdoll.portfolio.aboutfoongdoll.loadtest;
+
+import foongdoll.portfolio.aboutfoongdoll.AboutFoongdollApplication;
+import foongdoll.portfolio.aboutfoongdoll.common.sql.QueryPlanVerifier;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 실행 계획 점검 (QueryPlanVerifier) 을 실제 MySQL 에서 돌린다.
+ *
+ * 1. MySQL 8 컨테이너(Testcontainers)를 띄운다. --jdbc-url 을 주면 이미 떠 있는 MySQL(CI 서비스 컨테이너 등)을 쓴다
+ * 2. Flyway 로 V1..Vn 마이그레이션을 적용해 애플리케이션을 띄운다 (ddl-auto=validate, 운영과 같은 스키마)
+ * 3. 합성 데이터를 적재하고 ANALYZE TABLE 로 통계를 갱신한다 (빈 테이블이면 옵티마이저가 풀 스캔을 골라도 의미가 없음)
+ * 4. 리포지토리 메서드를 실제로 호출해 Hibernate 가 보낸 SQL(바인딩 값 포함)을 EXPLAIN 한다.
+ *    풀 스캔(type=ALL) 또는 filesort 가 있거나, 점검 항목이 없는 리포지토리 쿼리 메서드가 있으면 종료 코드 1
+ *
+ * H2 는 MySQL 형식의 EXPLAIN(type / Extra)을 주지 않으므로 여기서는 쓰지 않는다.
+ *
+ * ./gradlew queryPlanCheck
+ * ./gradlew queryPlanCheck -PloadTestArgs="--jdbc-url=jdbc:mysql://localhost:3306/plan --username=root --password=secret"
+ */
+public class QueryPlanCheck {
+
+    private static final String IMAGE = "mysql:8.0";
+    private static final String[] TABLES = {
+            "post", "company", "experience", "resume", "post_attachment", "post_section", "change_log", "users"
+    };
+
+    public static void main(String[] args) {
+        Map<String, String> db = new HashMap<>();
+        List<String> dataArgs = new ArrayList<>(List.of(
+                "--posts=5000", "--companies=20", "--experiences=200", "--post-body-kb=1", "--detail-lines=5"));
+        for (String arg : args) {
+            if (arg.startsWith("--jdbc-url=")) db.put("url", arg.substring(11));
+            else if (arg.startsWith("--username=")) db.put("username", arg.substring(11));
+            else if (arg.startsWith("--password=")) db.put("password", arg.substring(11));
+            else dataArgs.add(arg);
+        }
+        LoadTestOptions options = LoadTestOptions.parse(dataArgs.toArray(String[]::new));
+
+        List<String> violations;
+        if (db.containsKey("url")) {
+            violations = check(db.get("url"), db.getOrDefault("username", "root"), db.getOrDefault("password", ""), options);
+        } else {
+            try (MySQLContainer<?> mysql = new MySQLContainer<>(IMAGE).withDatabaseName("plan_check")) {
+                mysql.start();
+                System.out.println("[plan-check] started " + IMAGE + " at " + mysql.getJdbcUrl());
+                violations = check(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword(), options);
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            violations.forEach(v -> System.out.println("[plan-check] VIOLATION " + v));
+            System.exit(1);
+        }
+        System.out.println("[plan-check] passed");
+    }
+
+    private static List<String> check(String url, String username, String password, LoadTestOptions options) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AboutFoongdollApplication.class)
+                .profiles("headless")
+                .properties(properties(url, username, password))
+                .run()) {
+
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            String version = jdbc.queryForObject("SELECT version FROM flyway_schema_history WHERE success = 1 "
+                    + "ORDER BY installed_rank DESC LIMIT 1", String.class);
+            System.out.println("[plan-check] flyway schema version " + version);
+
+            new SyntheticDataGenerator(jdbc, options, new Random(options.getSeed())).generate();
+            jdbc.execute("ANALYZE TABLE " + String.join(", ", Arrays.asList(TABLES)));
+
+            // 기동 시 점검(app.query-plan-check.enabled)은 꺼 두었으므로 빈으로 등록되어 있지 않다. 같은 의존성으로 만들어 쓴다
+            QueryPlanVerifier verifier = context.getAutowireCapableBeanFactory().createBean(QueryPlanVerifier.class);
+            List<String> violations = verifier.findViolations();
+            System.out.printf("[plan-check] %d repository calls checked, %d violation(s)%n", verifier.queryCount(), violations.size());
+            return violations;
+        }
+    }
+
+    private static Map<String, Object> properties(String url, String username, String password) {
+        Map<String, Object> p = new HashMap<>();
+        p.put("server.port", 0);
+        p.put("spring.datasource.url", url);
+        p.put("spring.datasource.driver-class-name", "com.mysql.cj.jdbc.Driver");
+        p.put("spring.datasource.username", username);
+        p.put("spring.datasource.password", password);
+        p.put("spring.jpa.hibernate.ddl-auto", "validate");
+        p.put("spring.jpa.show-sql", false);
+        p.put("spring.flyway.enabled", true);
+        // 점검은 데이터 적재 뒤에 직접 호출한다 (기동 시점에는 테이블이 비어 있음)
+        p.put("app.query-plan-check.enabled", false);
+        p.put("app.warmup.enabled", false);
+        p.put("app.post-outline.backfill.enabled", false);
+        p.put("app.stale-reads.directory", "");
+        p.put("spring.main.lazy-initialization", false);
+        // 실행된 SQL 을 QueryStats 로 받아 EXPLAIN 한다
+        p.put("app.query-stats.enabled", true);
+        p.put("logging.level.root", "WARN");
+        return p;
+    }
+}
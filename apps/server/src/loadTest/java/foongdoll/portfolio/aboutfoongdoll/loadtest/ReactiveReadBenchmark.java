@@ -0,0 +1,224 @@
+package foongdoll.portfolio.aboutfoongdoll.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import foongdoll.portfolio.aboutfoongdoll.AboutFoongdollApplication;
+import foongdoll.portfolio.aboutfoongdoll.reactive.ReactiveReadServer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 같은 데이터/같은 GET 혼합 부하를 블로킹 경로(Tomcat + JPA/Hikari)와 리액티브 경로(Netty + R2DBC)에 차례로 걸고
+ * 처리량, 지연, 요청 처리 중 점유된 DB 커넥션(과 Tomcat 스레드)을 비교한다.
+ *
+ * - H2 를 JDBC/R2DBC 양쪽에서 같은 인메모리 DB 로 연다 (원격 MySQL 대용)
+ * - 응답 캐시와 동시성 제한은 끈다 (두 경로 모두 매 요청 DB 를 읽도록)
+ * - H2 는 네트워크 왕복이 없으므로 원격 DB 에서보다 블로킹 경로가 유리하게 나온다. 점유 커넥션 수를 함께 볼 것
+ *
+ * ./gradlew reactiveBenchmark -PloadTestArgs="--posts=20000 --clients=2000 --duration-seconds=30"
+ */
+public class ReactiveReadBenchmark {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+    private static final long SAMPLE_INTERVAL_MS = 50;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        System.out.println("[benchmark] options " + options.describe() + " clients=" + options.getClients());
+
+        Map<String, Object> properties = LoadTestRunner.embeddedProperties(options);
+        properties.put("spring.r2dbc.url", "r2dbc:h2:mem:///loadtest?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.r2dbc.username", "sa");
+        properties.put("spring.r2dbc.password", "");
+        properties.put("app.reactive-read.enabled", true);
+        properties.put("app.reactive-read.port", 0);
+        properties.put("app.response-cache.enabled", false);
+        properties.put("app.concurrency-limit.enabled", false);
+        properties.put("server.tomcat.mbeanregistry.enabled", true);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AboutFoongdollApplication.class)
+                .profiles("headless")
+                .properties(properties)
+                .run()) {
+
+            SyntheticDataGenerator data = new SyntheticDataGenerator(
+                    context.getBean(JdbcTemplate.class), options, new Random(options.getSeed()));
+            data.generate();
+
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            String blocking = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            String reactive = "http://localhost:" + context.getBean(ReactiveReadServer.class).getPort();
+
+            results.put("blocking", new Phase(blocking, options, data,
+                    () -> gauge(registry, "hikaricp.connections.active"),
+                    () -> gauge(registry, "tomcat.threads.busy")).run());
+            results.put("reactive", new Phase(reactive, options, data,
+                    () -> gauge(registry, "r2dbc.pool.acquired"),
+                    () -> Double.NaN).run());
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", LocalDateTime.now().toString());
+        report.put("options", options.describe());
+        report.put("clients", options.getClients());
+        report.put("results", results);
+        Files.createDirectories(options.getOutDir());
+        Path out = options.getOutDir().resolve("reactive-read.json");
+        objectMapper.writeValue(out.toFile(), report);
+
+        System.out.printf("%-10s %9s %7s %10s %9s %9s %9s %12s %12s %12s%n",
+                "path", "count", "errors", "req/s", "p50", "p99", "max", "conn(avg)", "conn(max)", "threads(max)");
+        for (Map.Entry<String, Object> e : results.entrySet()) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> s = (Map<String, Object>) e.getValue();
+            System.out.printf("%-10s %9d %7d %10.1f %9.2f %9.2f %9.2f %12.2f %12.0f %12.0f%n",
+                    e.getKey(), s.get("count"), s.get("errors"), s.get("throughput"), s.get("p50Ms"), s.get("p99Ms"),
+                    s.get("maxMs"), s.get("connectionsAvg"), s.get("connectionsMax"), s.get("busyThreadsMax"));
+        }
+        System.out.println("[benchmark] result written to " + out);
+    }
+
+    private static double gauge(MeterRegistry registry, String name) {
+        double sum = 0;
+        boolean found = false;
+        for (Gauge g : registry.find(name).gauges()) {
+            double v = g.value();
+            if (Double.isNaN(v)) continue;
+            sum += v;
+            found = true;
+        }
+        return found ? sum : Double.NaN;
+    }
+
+    /** clients 개 스레드가 각자 요청-응답을 반복한다 (닫힌 루프, 1 클라이언트 = 동시 요청 1) */
+    private static final class Phase {
+
+        private final String baseUrl;
+        private final LoadTestOptions options;
+        private final SyntheticDataGenerator data;
+        private final DoubleSupplier connections;
+        private final DoubleSupplier busyThreads;
+        private final HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private volatile boolean running;
+        private volatile boolean measuring;
+
+        Phase(String baseUrl, LoadTestOptions options, SyntheticDataGenerator data,
+              DoubleSupplier connections, DoubleSupplier busyThreads) {
+            this.baseUrl = baseUrl;
+            this.options = options;
+            this.data = data;
+            this.connections = connections;
+            this.busyThreads = busyThreads;
+        }
+
+        Map<String, Object> run() throws InterruptedException {
+            System.out.println("[benchmark] " + options.getClients() + " clients -> " + baseUrl);
+            running = true;
+            ExecutorService workers = Executors.newFixedThreadPool(options.getClients());
+            for (int i = 0; i < options.getClients(); i++) workers.execute(this::loop);
+
+            TimeUnit.SECONDS.sleep(options.getWarmupSeconds());
+            measuring = true;
+            long start = System.nanoTime();
+            long deadline = start + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+            double connSum = 0, connMax = 0, threadMax = 0;
+            int samples = 0;
+            while (System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(SAMPLE_INTERVAL_MS);
+                double c = connections.getAsDouble();
+                if (!Double.isNaN(c)) {
+                    connSum += c;
+                    connMax = Math.max(connMax, c);
+                    samples++;
+                }
+                double t = busyThreads.getAsDouble();
+                if (!Double.isNaN(t)) threadMax = Math.max(threadMax, t);
+            }
+            measuring = false;
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            running = false;
+            workers.shutdown();
+            workers.awaitTermination(60, TimeUnit.SECONDS);
+
+            Map<String, Object> s = new LinkedHashMap<>();
+            s.put("count", histogram.getTotalCount());
+            s.put("errors", errors.sum());
+            s.put("throughput", round(histogram.getTotalCount() / elapsedSeconds));
+            s.put("p50Ms", round(histogram.getValueAtPercentile(50) / 1000.0));
+            s.put("p99Ms", round(histogram.getValueAtPercentile(99) / 1000.0));
+            s.put("maxMs", round(histogram.getMaxValue() / 1000.0));
+            s.put("connectionsAvg", samples == 0 ? -1 : round(connSum / samples));
+            s.put("connectionsMax", samples == 0 ? -1 : connMax);
+            s.put("busyThreadsMax", threadMax);
+            return s;
+        }
+
+        private void loop() {
+            while (running) {
+                long begin = System.nanoTime();
+                boolean ok;
+                try {
+                    HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + nextPath()))
+                            .timeout(Duration.ofSeconds(30)).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+                    ok = response.statusCode() == 200;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    ok = false;
+                }
+                if (!measuring) continue;
+                histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin), HIGHEST_TRACKABLE_MICROS));
+                if (!ok) errors.increment();
+            }
+        }
+
+        // WorkloadDriver 의 읽기 가중치와 같은 비율
+        private String nextPath() {
+            ThreadLocalRandom r = ThreadLocalRandom.current();
+            List<String> categories = data.getCategories();
+            List<String> companies = data.getCompanyCodes();
+            int n = r.nextInt(100);
+            if (n < 20) return "/api/posts?page=" + (1 + r.nextInt(20)) + "&size=10";
+            if (n < 40) return "/api/posts?category=" + categories.get(r.nextInt(categories.size())) + "&page=" + (1 + r.nextInt(5)) + "&size=10";
+            if (n < 70) return "/api/posts/" + (1 + r.nextLong(Math.max(data.getMaxPostId(), 1)));
+            if (n < 80) return "/api/resume";
+            if (n < 90) return "/api/experience";
+            return "/api/experience?company=" + companies.get(r.nextInt(companies.size()));
+        }
+
+        private static double round(double v) {
+            return Math.round(v * 100.0) / 100.0;
+        }
+    }
+}
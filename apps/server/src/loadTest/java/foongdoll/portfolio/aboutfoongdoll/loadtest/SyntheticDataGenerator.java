@@ -0,0 +1,170 @@
+package foongdoll.portfolio.aboutfoongdoll.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 설정한 규모의 Post / Company / Experience / Resume 데이터를 JDBC 배치로 적재한다.
+ * (IDENTITY 키라 JPA saveAll 은 배치가 되지 않으므로 직접 INSERT)
+ * 긴 마크다운 본문과 긴 상세 목록을 만들어 실제 렌더링(정규식 강조/칩 분리) 비용이 드러나도록 한다.
+ */
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    private static final int BATCH = 1_000;
+    public static final String MEMBER_CODE = "foongdoll";
+
+    private static final String[] WORDS = {
+            "스프링", "트랜잭션", "인덱스", "캐시", "성능", "쿼리", "배포", "모니터링", "리팩터링", "아키텍처",
+            "spring", "jpa", "mysql", "react", "docker", "latency", "throughput", "gc", "thread", "pool",
+            "backend", "frontend", "api", "kotlin", "java", "redis", "kafka", "nginx", "aws", "linux"
+    };
+
+    private final JdbcTemplate jdbc;
+    private final LoadTestOptions options;
+    private final Random random;
+
+    @Getter
+    private final List<String> categories = new ArrayList<>();
+    @Getter
+    private final List<String> companyCodes = new ArrayList<>();
+    @Getter
+    private long maxPostId;
+
+    public void generate() {
+        for (int i = 0; i < options.getCategories(); i++) categories.add("category-" + i);
+
+        insertResume();
+        insertCompanies();
+        insertExperiences();
+        insertPosts();
+        maxPostId = jdbc.queryForObject("SELECT COALESCE(MAX(post_id), 0) FROM post", Long.class);
+    }
+
+    private void insertResume() {
+        StringBuilder careers = new StringBuilder();
+        for (int i = 0; i < options.getDetailLines(); i++) {
+            careers.append("회사").append(i).append(" | 20").append(10 + i % 15).append(".0").append(1 + i % 9)
+                    .append(" - ").append(i == 0 ? "현재" : "20" + (11 + i % 14) + ".12")
+                    .append(" | 플랫폼팀 | ").append(i % 2 == 0 ? "선임" : "책임").append('\n');
+        }
+        jdbc.update("INSERT INTO resume (member_code, name, gender, email, phone, address, summary, skills, experiences, activities, education) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                MEMBER_CODE, "풍돌", "남", "foongdoll@example.com", "010-0000-0000", "서울",
+                sentence(20), chips(30), careers.toString(), lines(options.getDetailLines()), lines(5));
+    }
+
+    private void insertCompanies() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < options.getCompanies(); i++) {
+            String code = "C-" + i;
+            companyCodes.add(code);
+            rows.add(new Object[]{code, "회사 " + i, "서울시 " + i, "02-000-" + i, "IT", "플랫폼팀", "선임", 5000 + i});
+        }
+        jdbc.batchUpdate("INSERT INTO company (company_code, name, address, phone, industry, department, position, salary) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void insertExperiences() {
+        List<Long> companyIds = jdbc.queryForList("SELECT company_id FROM company ORDER BY company_id", Long.class);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < options.getExperiences(); i++) {
+            rows.add(new Object[]{
+                    "EXP-" + i, "프로젝트 " + i, MEMBER_CODE, companyIds.get(i % companyIds.size()),
+                    "2021.03 - 2023.07", "백엔드 개발", chips(12), chips(8), details(options.getDetailLines())
+            });
+            if (rows.size() == BATCH) flushExperiences(rows);
+        }
+        flushExperiences(rows);
+    }
+
+    private void flushExperiences(List<Object[]> rows) {
+        if (rows.isEmpty()) return;
+        jdbc.batchUpdate("INSERT INTO experience (experience_code, name, member_code, company_id, period, role, tech_stack, keywords, details) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private void insertPosts() {
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.now().minusDays(options.getPosts());
+        for (int i = 0; i < options.getPosts(); i++) {
+            Timestamp at = Timestamp.valueOf(base.plusMinutes(i));
+            rows.add(new Object[]{
+                    MEMBER_CODE, sentence(6), categories.get(random.nextInt(categories.size())), chips(5),
+                    markdown(options.getPostBodyKb() * 1024), sentence(25), at, at
+            });
+            if (rows.size() == BATCH) flushPosts(rows);
+        }
+        flushPosts(rows);
+    }
+
+    private void flushPosts(List<Object[]> rows) {
+        if (rows.isEmpty()) return;
+        jdbc.batchUpdate("INSERT INTO post (member_code, title, category, keywords, content, summary, published_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    // ===================== 텍스트 생성 =====================
+
+    public String markdown(int targetBytes) {
+        StringBuilder b = new StringBuilder(targetBytes + 256);
+        int section = 0;
+        while (b.length() < targetBytes) {
+            b.append("## ").append(sentence(4)).append(" ").append(++section).append("\n\n");
+            b.append(sentence(60)).append("\n\n");
+            b.append("- ").append(sentence(8)).append("\n- ").append(sentence(8)).append("\n\n");
+            if (section % 3 == 0) {
+                b.append("```java\nclass Sample").append(section).append(" { int v = ").append(section).append("; }\n```\n\n");
+            }
+        }
+        return b.toString();
+    }
+
+    public String details(int count) {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            b.append(word()).append(" 개선 - ").append(sentence(10))
+                    .append(" (2023.0").append(1 + i % 9).append("– ) 처리량 ")
+                    .append(1_000 + random.nextInt(90_000)).append("건, 지연 ")
+                    .append(random.nextInt(90)).append('.').append(random.nextInt(10)).append("% 감소\n");
+        }
+        return b.toString();
+    }
+
+    public String chips(int count) {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) b.append(", ");
+            b.append(word());
+        }
+        return b.toString();
+    }
+
+    public String sentence(int words) {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) b.append(' ');
+            b.append(word());
+        }
+        return b.toString();
+    }
+
+    private String lines(int count) {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < count; i++) b.append(sentence(8)).append('\n');
+        return b.toString();
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
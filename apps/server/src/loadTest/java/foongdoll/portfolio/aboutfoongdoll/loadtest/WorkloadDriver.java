@@ -0,0 +1,270 @@
+package foongdoll.portfolio.aboutfoongdoll.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PostController / ResumeController / ExperienceController 에 읽기/쓰기 혼합 부하를 건다.
+ * 워밍업 구간은 기록하지 않고, 측정 구간의 요청별 지연을 HdrHistogram(µs)에 누적한다.
+ */
+@RequiredArgsConstructor
+public class WorkloadDriver {
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Operation {
+        LIST_POSTS(false, 20),
+        LIST_POSTS_BY_CATEGORY(false, 20),
+        GET_POST(false, 30),
+        GET_RESUME(false, 10),
+        GET_EXPERIENCE(false, 10),
+        GET_EXPERIENCE_BY_COMPANY(false, 10),
+        SUGGEST(false, 10),
+        CREATE_POST(true, 40),
+        UPDATE_POST(true, 40),
+        SAVE_EXPERIENCE(true, 20),
+        SAVE_RESUME(true, 10);
+
+        private final boolean write;
+        private final int weight;
+    }
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final String baseUrl;
+    private final LoadTestOptions options;
+    private final SyntheticDataGenerator data;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Operation, ConcurrentHistogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final AtomicLong experienceSeq = new AtomicLong();
+
+    // 읽기는 세션 쿠키 없는 익명 클라이언트로 보내야 ResponseCacheFilter 경로를 그대로 탄다
+    private HttpClient anonymous;
+    private HttpClient admin;
+    private String token;
+    private volatile boolean measuring;
+    private volatile boolean running;
+
+    public Map<String, Object> run() throws Exception {
+        for (Operation op : Operation.values()) {
+            histograms.put(op, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(op, new LongAdder());
+        }
+        anonymous = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        admin = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        token = login();
+
+        running = true;
+        ExecutorService workers = Executors.newFixedThreadPool(options.getThreads());
+        for (int i = 0; i < options.getThreads(); i++) {
+            workers.execute(this::loop);
+        }
+
+        TimeUnit.SECONDS.sleep(options.getWarmupSeconds());
+        measuring = true;
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(options.getDurationSeconds());
+        measuring = false;
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        running = false;
+
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+        return summarize(elapsedSeconds);
+    }
+
+    private void loop() {
+        while (running) {
+            Operation op = pick();
+            long begin = System.nanoTime();
+            boolean ok;
+            try {
+                ok = execute(op);
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!measuring) continue;
+            long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin), HIGHEST_TRACKABLE_MICROS);
+            histograms.get(op).recordValue(micros);
+            if (!ok) errors.get(op).increment();
+        }
+    }
+
+    private Operation pick() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        boolean write = r.nextInt(100) < options.getWritePercent();
+        int total = 0;
+        for (Operation op : Operation.values()) if (op.isWrite() == write) total += op.getWeight();
+        int n = r.nextInt(total);
+        for (Operation op : Operation.values()) {
+            if (op.isWrite() != write) continue;
+            n -= op.getWeight();
+            if (n < 0) return op;
+        }
+        return Operation.GET_POST;
+    }
+
+    private boolean execute(Operation op) throws IOException, InterruptedException {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        List<String> categories = data.getCategories();
+        List<String> companies = data.getCompanyCodes();
+        long postId = 1 + r.nextLong(Math.max(data.getMaxPostId(), 1));
+
+        return switch (op) {
+            case LIST_POSTS -> get("/api/posts?page=" + (1 + r.nextInt(20)) + "&size=10");
+            case LIST_POSTS_BY_CATEGORY -> get("/api/posts?category=" + categories.get(r.nextInt(categories.size()))
+                    + "&page=" + (1 + r.nextInt(5)) + "&size=10");
+            case GET_POST -> get("/api/posts/" + postId);
+            case GET_RESUME -> get("/api/resume");
+            case GET_EXPERIENCE -> get("/api/experience");
+            case SUGGEST -> get("/api/posts/suggest?prefix=" + categories.get(r.nextInt(categories.size()))
+                    .substring(0, 1 + r.nextInt(10)));
+            case GET_EXPERIENCE_BY_COMPANY -> get("/api/experience?company=" + companies.get(r.nextInt(companies.size())));
+            case CREATE_POST -> send("POST", "/api/posts", postBody());
+            case UPDATE_POST -> send("PUT", "/api/posts/" + postId, postBody());
+            case SAVE_EXPERIENCE -> send("POST", "/api/experience", experienceBody(companies.get(r.nextInt(companies.size()))));
+            case SAVE_RESUME -> send("POST", "/api/resume", resumeBody());
+        };
+    }
+
+    private Map<String, Object> postBody() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("title", data.sentence(6));
+        body.put("category", data.getCategories().get(ThreadLocalRandom.current().nextInt(data.getCategories().size())));
+        body.put("keywords", data.chips(5));
+        body.put("summary", data.sentence(25));
+        body.put("content", data.markdown(options.getPostBodyKb() * 1024));
+        return body;
+    }
+
+    private Map<String, Object> experienceBody(String companyCode) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("experienceCode", "LT-" + experienceSeq.incrementAndGet() % Math.max(options.getExperiences(), 1));
+        body.put("name", data.sentence(3));
+        body.put("companyCode", companyCode);
+        body.put("period", "2022.01 - 2024.06");
+        body.put("role", "백엔드 개발");
+        body.put("techStack", data.chips(10));
+        body.put("keywords", data.chips(6));
+        body.put("details", data.details(options.getDetailLines()));
+        return body;
+    }
+
+    /** 적재된 이력서(같은 memberCode)를 덮어쓴다. 매번 내용이 달라 변경 이벤트와 캐시 무효화가 실제로 일어난다 */
+    private Map<String, Object> resumeBody() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("memberCode", SyntheticDataGenerator.MEMBER_CODE);
+        body.put("name", "풍돌");
+        body.put("gender", "남");
+        body.put("email", "foongdoll@example.com");
+        body.put("phone", "010-0000-0000");
+        body.put("address", "서울");
+        body.put("summary", data.sentence(20));
+        body.put("skills", data.chips(30));
+        body.put("experiences", data.details(options.getDetailLines()));
+        body.put("activities", data.details(options.getDetailLines()));
+        body.put("education", data.details(5));
+        return body;
+    }
+
+    private boolean get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        return succeeded(anonymous.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    private boolean send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("Authorization", token)
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        return succeeded(admin.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    private boolean succeeded(HttpResponse<byte[]> response) throws IOException {
+        if (response.statusCode() / 100 != 2) return false;
+        JsonNode node = objectMapper.readTree(response.body());
+        // 없는 id 조회(ResponseVO.fail)도 정상 처리된 요청으로 본다
+        return node.has("success");
+    }
+
+    /** 첫 로그인은 기본 관리자를 생성하고, 두 번째 로그인에서 세션 토큰을 받는다 */
+    private String login() throws IOException, InterruptedException {
+        Map<String, String> credentials = Map.of("username", "healim5028", "password", "1234");
+        for (int attempt = 0; attempt < 2; attempt++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(credentials)))
+                    .build();
+            JsonNode data = objectMapper.readTree(admin.send(request, HttpResponse.BodyHandlers.ofByteArray()).body()).path("data");
+            if (data.isTextual()) return data.asText();
+        }
+        throw new IllegalStateException("Login failed");
+    }
+
+    private Map<String, Object> summarize(double elapsedSeconds) {
+        Map<String, Object> results = new LinkedHashMap<>();
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        for (Operation op : Operation.values()) {
+            Histogram h = histograms.get(op);
+            total.add(h);
+            totalErrors += errors.get(op).sum();
+            results.put(op.name(), stats(h, errors.get(op).sum(), elapsedSeconds));
+        }
+        results.put("TOTAL", stats(total, totalErrors, elapsedSeconds));
+        return results;
+    }
+
+    private Map<String, Object> stats(Histogram h, long errorCount, double elapsedSeconds) {
+        Map<String, Object> s = new LinkedHashMap<>();
+        s.put("count", h.getTotalCount());
+        s.put("errors", errorCount);
+        s.put("throughput", round(h.getTotalCount() / elapsedSeconds));
+        s.put("meanMs", round(h.getMean() / 1000.0));
+        s.put("p50Ms", round(h.getValueAtPercentile(50) / 1000.0));
+        s.put("p90Ms", round(h.getValueAtPercentile(90) / 1000.0));
+        s.put("p99Ms", round(h.getValueAtPercentile(99) / 1000.0));
+        s.put("p999Ms", round(h.getValueAtPercentile(99.9) / 1000.0));
+        s.put("maxMs", round(h.getMaxValue() / 1000.0));
+        return s;
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,79 @@
+package foongdoll.portfolio.aboutfoongdoll.attachment.controller;
+
+import foongdoll.portfolio.aboutfoongdoll.attachment.dto.AttachmentResponse;
+import foongdoll.portfolio.aboutfoongdoll.attachment.service.AttachmentService;
+import foongdoll.portfolio.aboutfoongdoll.attachment.storage.BlobResponseWriter;
+import foongdoll.portfolio.aboutfoongdoll.attachment.storage.BlobStore;
+import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 업로드: 요청 본문 자체가 파일 (multipart 아님)
+ *   POST /api/posts/{postId}/attachments?name=diagram.png   Content-Type: image/png
+ * 조회: 응답의 url(/api/attachments/{hash}) 로 받는다. 본문에 이미지로 넣을 때는 ![](url)
+ */
+@Observed(name = "app.controller")
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+    private final BlobStore blobStore;
+    private final BlobResponseWriter blobResponseWriter;
+
+    @PostMapping("/posts/{postId}/attachments")
+    public ResponseVO<AttachmentResponse> upload(@PathVariable Long postId,
+                                                 @RequestParam(value = "name", required = false) String name,
+                                                 @RequestHeader(value = "X-File-Name", required = false) String headerName,
+                                                 HttpServletRequest request) throws IOException {
+        try {
+            return ResponseVO.ok(attachmentService.upload(postId, name != null ? name : headerName,
+                    request.getContentType(), request.getContentLengthLong(), request.getInputStream()));
+        } catch (IllegalArgumentException e) {
+            return ResponseVO.fail(e.getMessage());
+        }
+    }
+
+    @GetMapping("/posts/{postId}/attachments")
+    public ResponseVO<List<AttachmentResponse>> getAttachments(@PathVariable Long postId) {
+        return ResponseVO.ok(attachmentService.getAttachments(postId));
+    }
+
+    @DeleteMapping("/posts/{postId}/attachments/{attachmentId}")
+    public ResponseVO<String> deleteAttachment(@PathVariable Long postId, @PathVariable Long attachmentId) {
+        try {
+            attachmentService.deleteAttachment(postId, attachmentId);
+            return ResponseVO.ok("deleted");
+        } catch (IllegalArgumentException e) {
+            return ResponseVO.fail(e.getMessage());
+        }
+    }
+
+    @GetMapping("/attachments/{hash}")
+    public void download(@PathVariable String hash,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        AttachmentResponse attachment = attachmentService.findByHash(hash).orElse(null);
+        if (attachment == null || !blobStore.exists(hash)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        blobResponseWriter.write(request, response, blobStore.path(hash), attachment.getSize(),
+                hash, attachment.getContentType(), attachment.getFileName());
+    }
+}
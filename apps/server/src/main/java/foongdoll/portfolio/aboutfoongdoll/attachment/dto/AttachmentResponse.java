@@ -0,0 +1,35 @@
+package foongdoll.portfolio.aboutfoongdoll.attachment.dto;
+
+import foongdoll.portfolio.aboutfoongdoll.attachment.entity.Attachment;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class AttachmentResponse {
+
+    private final Long id;
+    private final Long postId;
+    private final String hash;
+    private final String fileName;
+    private final String contentType;
+    private final Long size;
+    /** 내용이 같으면 URL 도 같다 (불변 캐시) */
+    private final String url;
+    private final LocalDateTime createdAt;
+
+    public static AttachmentResponse from(Attachment a) {
+        return AttachmentResponse.builder()
+                .id(a.getId())
+                .postId(a.getPostId())
+                .hash(a.getContentHash())
+                .fileName(a.getFileName())
+                .contentType(a.getContentType())
+                .size(a.getSize())
+                .url("/api/attachments/" + a.getContentHash())
+                .createdAt(a.getCreatedAt())
+                .build();
+    }
+}
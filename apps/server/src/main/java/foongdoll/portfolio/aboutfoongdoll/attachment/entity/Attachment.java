@@ -0,0 +1,50 @@
+package foongdoll.portfolio.aboutfoongdoll.attachment.entity;
+
+import foongdoll.portfolio.aboutfoongdoll.common.sql.EntityLoadListener;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포스트 첨부파일 메타데이터. 바이트는 BlobStore 에 contentHash 로 저장되며 여러 행이 같은 blob 을 공유할 수 있다.
+ * post 와 FK 를 두지 않는다 (포스트 삭제 후 행/blob 정리는 AttachmentServiceImpl 이 비동기로 처리).
+ */
+@Entity
+@EntityListeners(EntityLoadListener.class)
+@Table(name = "post_attachment", indexes = {
+        @Index(name = "idx_post_attachment_post_id", columnList = "post_id, attachment_id"),
+        @Index(name = "idx_post_attachment_content_hash", columnList = "content_hash")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class Attachment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "attachment_id")
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long size;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
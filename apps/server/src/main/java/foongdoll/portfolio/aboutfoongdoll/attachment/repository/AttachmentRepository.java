@@ -0,0 +1,18 @@
+package foongdoll.portfolio.aboutfoongdoll.attachment.repository;
+
+import foongdoll.portfolio.aboutfoongdoll.attachment.entity.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    List<Attachment> findByPostIdOrderByIdAsc(Long postId);
+
+    Optional<Attachment> findByIdAndPostId(Long id, Long postId);
+
+    Optional<Attachment> findFirstByContentHash(String contentHash);
+
+    boolean existsByContentHash(String contentHash);
+}
@@ -0,0 +1,19 @@
+package foongdoll.portfolio.aboutfoongdoll.attachment.service;
+
+import foongdoll.portfolio.aboutfoongdoll.attachment.dto.AttachmentResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentService {
+
+    AttachmentResponse upload(Long postId, String fileName, String contentType, long contentLength, InputStream body) throws IOException;
+
+    List<AttachmentResponse> getAttachments(Long postId);
+
+    Optional<AttachmentResponse> findByHash(String hash);
+
+    void deleteAttachment(Long postId, Long attachmentId);
+}
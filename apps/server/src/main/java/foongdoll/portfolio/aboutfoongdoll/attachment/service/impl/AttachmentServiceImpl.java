@@ -0,0 +1,163 @@
+package foongdoll.portfolio.aboutfoongdoll.attachment.service.impl;
+
+import foongdoll.portfolio.aboutfoongdoll.attachment.dto.AttachmentResponse;
+import foongdoll.portfolio.aboutfoongdoll.attachment.entity.Attachment;
+import foongdoll.portfolio.aboutfoongdoll.attachment.repository.AttachmentRepository;
+import foongdoll.portfolio.aboutfoongdoll.attachment.service.AttachmentService;
+import foongdoll.portfolio.aboutfoongdoll.attachment.storage.BlobStore;
+import foongdoll.portfolio.aboutfoongdoll.attachment.storage.BlobStore.StoredBlob;
+import foongdoll.portfolio.aboutfoongdoll.common.event.ContentChangeEvent;
+import foongdoll.portfolio.aboutfoongdoll.post.repository.PostRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드는 트랜잭션 밖에서 BlobStore 로 스트리밍한 뒤, 메타데이터 행만 짧은 트랜잭션으로 저장한다
+ * (큰 파일을 받는 동안 DB 커넥션을 잡고 있지 않도록).
+ * 포스트 삭제 커밋 이후 해당 포스트의 행을 지우고, 유예 시간 뒤 더 이상 참조되지 않는 blob 을 삭제한다.
+ */
+@Slf4j
+@Observed(name = "app.service")
+@Service
+public class AttachmentServiceImpl implements AttachmentService {
+
+    private static final int MAX_FILE_NAME = 255;
+
+    private final AttachmentRepository attachmentRepository;
+    private final PostRepository postRepository;
+    private final BlobStore blobStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler cleanupScheduler;
+    private final long maxBytes;
+    private final Duration orphanGrace;
+
+    public AttachmentServiceImpl(AttachmentRepository attachmentRepository,
+                                 PostRepository postRepository,
+                                 BlobStore blobStore,
+                                 ApplicationEventPublisher eventPublisher,
+                                 TransactionTemplate transactionTemplate,
+                                 @Qualifier("attachmentCleanupScheduler") TaskScheduler cleanupScheduler,
+                                 @Value("${app.attachments.max-bytes:20971520}") long maxBytes,
+                                 @Value("${app.attachments.orphan-grace-seconds:60}") long orphanGraceSeconds) {
+        this.attachmentRepository = attachmentRepository;
+        this.postRepository = postRepository;
+        this.blobStore = blobStore;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.cleanupScheduler = cleanupScheduler;
+        this.maxBytes = maxBytes;
+        this.orphanGrace = Duration.ofSeconds(orphanGraceSeconds);
+    }
+
+    @Override
+    public AttachmentResponse upload(Long postId, String fileName, String contentType,
+                                     long contentLength, InputStream body) throws IOException {
+        if (!postRepository.existsById(postId)) throw new IllegalArgumentException("Post not found");
+        if (contentLength > maxBytes) throw new IllegalArgumentException("File too large (max " + maxBytes + " bytes)");
+
+        StoredBlob blob = blobStore.store(body, maxBytes);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                // 스트리밍 도중 포스트가 삭제됐을 수 있으므로 행 저장 직전에 다시 확인
+                if (!postRepository.existsById(postId)) throw new IllegalArgumentException("Post not found");
+                Attachment saved = attachmentRepository.save(Attachment.builder()
+                        .postId(postId)
+                        .contentHash(blob.hash())
+                        .fileName(sanitizeFileName(fileName))
+                        .contentType(StringUtils.hasText(contentType) ? contentType : "application/octet-stream")
+                        .size(blob.size())
+                        .build());
+                eventPublisher.publishEvent(ContentChangeEvent.post(postId, ContentChangeEvent.UPDATED));
+                return AttachmentResponse.from(saved);
+            });
+        } catch (RuntimeException e) {
+            if (blob.created()) scheduleBlobCheck(Set.of(blob.hash()));
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttachmentResponse> getAttachments(Long postId) {
+        return attachmentRepository.findByPostIdOrderByIdAsc(postId).stream()
+                .map(AttachmentResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<AttachmentResponse> findByHash(String hash) {
+        if (!BlobStore.isValidHash(hash)) return Optional.empty();
+        return attachmentRepository.findFirstByContentHash(hash).map(AttachmentResponse::from);
+    }
+
+    @Override
+    @Transactional
+    public void deleteAttachment(Long postId, Long attachmentId) {
+        Attachment attachment = attachmentRepository.findByIdAndPostId(attachmentId, postId)
+                .orElseThrow(() -> new IllegalArgumentException("Attachment not found"));
+        attachmentRepository.delete(attachment);
+        eventPublisher.publishEvent(ContentChangeEvent.post(postId, ContentChangeEvent.UPDATED));
+        scheduleBlobCheck(Set.of(attachment.getContentHash()));
+    }
+
+    /** 포스트 삭제가 커밋된 뒤 해당 포스트의 첨부 행을 지우고 blob 정리를 예약한다 (요청 스레드 밖에서) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentChange(ContentChangeEvent event) {
+        if (event.isReplicated()) return;
+        if (!ContentChangeEvent.POST.equals(event.getType()) || !ContentChangeEvent.DELETED.equals(event.getAction())) return;
+        Long postId = event.getId();
+        cleanupScheduler.schedule(() -> purgePost(postId), Instant.now());
+    }
+
+    private void purgePost(Long postId) {
+        List<Attachment> attachments = attachmentRepository.findByPostIdOrderByIdAsc(postId);
+        if (attachments.isEmpty()) return;
+        attachmentRepository.deleteAllInBatch(attachments);
+        scheduleBlobCheck(attachments.stream().map(Attachment::getContentHash).collect(Collectors.toSet()));
+        log.info("[attachments] post {} deleted, removed {} attachment row(s)", postId, attachments.size());
+    }
+
+    private void scheduleBlobCheck(Set<String> hashes) {
+        // 유예 시간 + 여유를 두고 확인 (그 사이 같은 내용이 다시 올라오면 mtime 이 갱신되어 보존됨)
+        cleanupScheduler.schedule(() -> hashes.forEach(this::deleteIfOrphan),
+                Instant.now().plus(orphanGrace).plusSeconds(1));
+    }
+
+    private void deleteIfOrphan(String hash) {
+        try {
+            blobStore.deleteIfUnreferenced(hash, () -> attachmentRepository.existsByContentHash(hash), orphanGrace);
+        } catch (IOException e) {
+            log.warn("[attachments] failed to delete blob {}: {}", hash, e.getMessage());
+        }
+    }
+
+    private static String sanitizeFileName(String fileName) {
+        if (!StringUtils.hasText(fileName)) return "attachment";
+        String name = fileName.replace('\\', '/');
+        name = name.substring(name.lastIndexOf('/') + 1).replaceAll("[\\p{Cntrl}\"]", "").trim();
+        if (name.isEmpty()) return "attachment";
+        return name.length() > MAX_FILE_NAME ? name.substring(name.length() - MAX_FILE_NAME) : name;
+    }
+}
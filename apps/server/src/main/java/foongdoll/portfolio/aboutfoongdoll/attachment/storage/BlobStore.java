@@ -0,0 +1,132 @@
+package foongdoll.portfolio.aboutfoongdoll.attachment.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * SHA-256 내용 주소 기반 로컬 파일 저장소.
+ * - 업로드는 고정 크기 버퍼로 임시 파일에 흘려 쓰면서 해시를 계산한다 (파일 전체를 힙에 올리지 않음)
+ * - 최종 경로는 {root}/ab/cd/{hash} 이며 이미 있으면 임시 파일을 버리고 기존 blob 을 재사용한다 (중복 제거)
+ * - blob 은 한 번 쓰면 바뀌지 않으므로 응답은 해시를 ETag 로 하는 불변 캐시가 가능하다
+ *
+ * 업로드(기존 blob 재사용)와 정리(참조 없는 blob 삭제)가 엇갈리지 않도록 해시 단위 락 + 유예 시간을 둔다.
+ * 재사용 시 mtime 을 갱신하므로, 행이 아직 커밋되지 않은 blob 은 유예 시간 동안 삭제되지 않는다.
+ */
+@Slf4j
+@Component
+public class BlobStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path tmp;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public BlobStore(@Value("${app.attachments.dir:./data/attachments}") String dir) throws IOException {
+        this.root = Path.of(dir).toAbsolutePath().normalize();
+        this.tmp = root.resolve("tmp");
+        Files.createDirectories(tmp);
+        for (int i = 0; i < LOCK_STRIPES; i++) locks[i] = new Object();
+    }
+
+    public record StoredBlob(String hash, long size, boolean created) {
+    }
+
+    /**
+     * in 을 끝까지 읽어 저장한다. maxBytes 를 넘으면 IllegalArgumentException (임시 파일은 삭제).
+     */
+    public StoredBlob store(InputStream in, long maxBytes) throws IOException {
+        Path temp = Files.createTempFile(tmp, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            try (DigestInputStream source = new DigestInputStream(in, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int n;
+                while ((n = source.read(buffer)) != -1) {
+                    size += n;
+                    if (size > maxBytes) throw new IllegalArgumentException("File too large (max " + maxBytes + " bytes)");
+                    out.write(buffer, 0, n);
+                }
+            }
+            if (size == 0) throw new IllegalArgumentException("Empty file");
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = path(hash);
+            synchronized (lockFor(hash)) {
+                if (Files.exists(target)) {
+                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                    return new StoredBlob(hash, size, false);
+                }
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                return new StoredBlob(hash, size, true);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 참조가 없고 유예 시간 동안 재사용되지 않은 blob 을 삭제한다.
+     * referenced 는 락 안에서 평가되므로 같은 해시의 업로드와 동시에 판단되지 않는다.
+     */
+    public boolean deleteIfUnreferenced(String hash, BooleanSupplier referenced, Duration grace) throws IOException {
+        if (!isValidHash(hash)) return false;
+        Path target = path(hash);
+        synchronized (lockFor(hash)) {
+            if (!Files.exists(target)) return false;
+            if (referenced.getAsBoolean()) return false;
+            Instant touched = Files.getLastModifiedTime(target).toInstant();
+            if (touched.isAfter(Instant.now().minus(grace))) return false;
+            Files.delete(target);
+            log.info("[attachments] deleted orphan blob {}", hash);
+            return true;
+        }
+    }
+
+    public Path path(String hash) {
+        if (!isValidHash(hash)) throw new IllegalArgumentException("Invalid content hash");
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    public boolean exists(String hash) {
+        return isValidHash(hash) && Files.isRegularFile(path(hash));
+    }
+
+    public static boolean isValidHash(String hash) {
+        return hash != null && HASH.matcher(hash).matches();
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Integer.parseInt(hash.substring(0, 2), 16) % LOCK_STRIPES];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -3,10 +3,12 @@ package foongdoll.portfolio.aboutfoongdoll.auth.controller;
 import foongdoll.portfolio.aboutfoongdoll.auth.service.AuthService;
 import foongdoll.portfolio.aboutfoongdoll.utils.RequestVO;
 import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+@Observed(name = "app.controller")
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/auth")
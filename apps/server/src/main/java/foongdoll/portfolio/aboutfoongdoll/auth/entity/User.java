@@ -1,9 +1,11 @@
 package foongdoll.portfolio.aboutfoongdoll.auth.entity;
 
+import foongdoll.portfolio.aboutfoongdoll.common.sql.EntityLoadListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@EntityListeners(EntityLoadListener.class)
 @Table(name = "users")  // 테이블명: users
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
@@ -8,7 +8,6 @@ import foongdoll.portfolio.aboutfoongdoll.utils.RequestVO;
 import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -0,0 +1,139 @@
+package foongdoll.portfolio.aboutfoongdoll.change.cluster;
+
+import foongdoll.portfolio.aboutfoongdoll.change.entity.ChangeLog;
+import foongdoll.portfolio.aboutfoongdoll.change.entity.ChangeSequence;
+import foongdoll.portfolio.aboutfoongdoll.change.repository.ChangeLogRepository;
+import foongdoll.portfolio.aboutfoongdoll.change.repository.ChangeSequenceRepository;
+import foongdoll.portfolio.aboutfoongdoll.common.event.ContentChangeEvent;
+import io.micrometer.core.instrument.Gauge;
+import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 다른 노드의 쓰기를 로컬 캐시에 반영한다.
+ *
+ * 쓰기는 이미 같은 트랜잭션 안에서 change_log 에 기록되므로(ChangeFeedServiceImpl) 이를 무효화 로그로 쓴다.
+ * 각 노드는 poll-interval 마다 seq > 마지막으로 본 seq 를 PK 구간 조회로 읽고, 다른 노드(origin_node)가 기록한 행을
+ * replicated ContentChangeEvent 로 다시 발행한다. 캐시/자동완성/WebSocket 리스너가 이를 받아 로컬 항목을 비운다.
+ * seq 는 커밋 순서대로 할당되므로 읽는 쪽이 건너뛰는 행은 없고, 압축으로 지워지는 것은 같은 엔티티의 이전 기록뿐이다.
+ *
+ * 최대 지연 ≈ poll-interval + 조회 시간. 조회가 실패했다가 회복하면 그 사이 보존 기간 정리로 잘려 나간 구간이 있는지 확인하고,
+ * 있으면 모든 타입을 통째로 무효화한다.
+ */
+@Slf4j
+@Component
+@Lazy(false) // headless 의 지연 초기화와 무관하게 기동 중에 시작 seq 를 정한다 (init)
+public class ClusterInvalidationTailer {
+
+    private static final List<String> TYPES = List.of(
+            ContentChangeEvent.POST, ContentChangeEvent.RESUME, ContentChangeEvent.EXPERIENCE);
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterNode clusterNode;
+    private final TaskScheduler scheduler;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final int batchSize;
+
+    private volatile long lastSeq;
+    private volatile long lastPollMillis = System.currentTimeMillis();
+    private boolean recovering;
+
+    public ClusterInvalidationTailer(ChangeLogRepository changeLogRepository,
+                                     ChangeSequenceRepository changeSequenceRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     ClusterNode clusterNode,
+                                     @Qualifier("changeLogScheduler") TaskScheduler scheduler,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.cluster.invalidation.enabled:true}") boolean enabled,
+                                     @Value("${app.cluster.invalidation.poll-interval-ms:1000}") long pollIntervalMillis,
+                                     @Value("${app.cluster.invalidation.batch-size:500}") int batchSize) {
+        this.changeLogRepository = changeLogRepository;
+        this.changeSequenceRepository = changeSequenceRepository;
+        this.eventPublisher = eventPublisher;
+        this.clusterNode = clusterNode;
+        this.scheduler = scheduler;
+        this.enabled = enabled;
+        this.pollInterval = Duration.ofMillis(pollIntervalMillis);
+        this.batchSize = batchSize;
+
+        Gauge.builder("app.cluster.invalidation.last-seq", this, t -> t.lastSeq).register(meterRegistry);
+        Gauge.builder("app.cluster.invalidation.staleness", this, t -> System.currentTimeMillis() - t.lastPollMillis)
+                .baseUnit("milliseconds")
+                .description("마지막으로 성공한 폴링 이후 경과 시간 (다른 노드 쓰기가 반영되기까지의 최대 지연)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 위치는 웹 서버가 요청을 받기 전에 정한다. 그 뒤에 다른 노드가 쓴 변경은 모두 이 노드의 캐시에 반영된다
+     * (기동 전 변경은 아직 비어 있는 로컬 캐시와 무관).
+     */
+    @PostConstruct
+    public void init() {
+        if (enabled) lastSeq = changeLogRepository.findMaxSeq();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        scheduler.scheduleWithFixedDelay(this::pollSafely, pollInterval);
+        log.info("[cluster] node {} tailing change_log every {} ms", clusterNode.getId(), pollInterval.toMillis());
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+            lastPollMillis = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            recovering = true;
+            log.warn("[cluster] invalidation poll failed: {}", e.getMessage());
+        }
+    }
+
+    /** 새 변경을 읽어 반영하고 반영한 행 수를 돌려준다. 트랜잭션 밖에서 호출해야 한다 (이벤트가 즉시 전달되도록) */
+    public synchronized int poll() {
+        if (recovering) {
+            ChangeSequence sequence = changeSequenceRepository.findById(ChangeSequence.SINGLETON_ID).orElse(null);
+            if (sequence != null && sequence.getTruncatedSeq() > lastSeq) {
+                log.warn("[cluster] change_log truncated past seq {}, invalidating all local caches", lastSeq);
+                TYPES.forEach(type -> eventPublisher.publishEvent(ContentChangeEvent.replicatedResync(type)));
+                lastSeq = sequence.getTruncatedSeq();
+            }
+            recovering = false;
+        }
+
+        int applied = 0;
+        List<ChangeLog> rows;
+        do {
+            rows = changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(lastSeq, PageRequest.of(0, batchSize));
+            for (ChangeLog row : rows) {
+                if (!clusterNode.getId().equals(row.getOriginNode())) {
+                    eventPublisher.publishEvent(ContentChangeEvent.replicated(row.getEntityType(), row.getAction(),
+                            row.getEntityKey(), row.getCompanyCode(), row.getMemberCode(), row.getVersion()));
+                    applied++;
+                }
+                lastSeq = row.getSeq();
+            }
+        } while (rows.size() == batchSize);
+        return applied;
+    }
+
+    public long getLastSeq() {
+        return lastSeq;
+    }
+}
@@ -0,0 +1,37 @@
+package foongdoll.portfolio.aboutfoongdoll.change.cluster;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * 이 인스턴스의 식별자. change_log.origin_node 에 기록되어 자기 쓰기를 다시 무효화하지 않도록 한다.
+ * 기본값은 호스트명-PID-임의값 (재시작하면 바뀌어도 무방하다).
+ */
+@Getter
+@Component
+public class ClusterNode {
+
+    private final String id;
+
+    public ClusterNode(@Value("${app.cluster.node-id:}") String configured) {
+        this.id = StringUtils.hasText(configured) ? configured : generate();
+    }
+
+    private static String generate() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        String id = host + "-" + ManagementFactory.getRuntimeMXBean().getPid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        return id.length() > 64 ? id.substring(id.length() - 64) : id;
+    }
+}
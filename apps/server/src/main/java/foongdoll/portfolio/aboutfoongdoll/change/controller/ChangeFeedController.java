@@ -0,0 +1,31 @@
+package foongdoll.portfolio.aboutfoongdoll.change.controller;
+
+import foongdoll.portfolio.aboutfoongdoll.change.dto.ChangeFeedResponse;
+import foongdoll.portfolio.aboutfoongdoll.change.service.ChangeFeedService;
+import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 증분 동기화: GET /api/changes?since=0&limit=100
+ * 응답의 nextSeq 를 다음 since 로 쓰고, hasMore 면 바로 이어서 요청한다.
+ * resyncRequired 면 목록/섹션을 전부 다시 받은 뒤 nextSeq 부터 이어서 받는다.
+ */
+@Observed(name = "app.controller")
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @GetMapping
+    public ResponseVO<ChangeFeedResponse> getChanges(@RequestParam(defaultValue = "0") long since,
+                                                     @RequestParam(defaultValue = "100") int limit) {
+        return ResponseVO.ok(changeFeedService.getChanges(since, limit));
+    }
+}
@@ -0,0 +1,36 @@
+package foongdoll.portfolio.aboutfoongdoll.change.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import foongdoll.portfolio.aboutfoongdoll.change.entity.ChangeLog;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 예) {seq:42, type:"post", action:"updated", key:"3", memberCode:"foongdoll", version:...}
+ * key: post 는 postId, resume 는 memberCode, experience 는 experienceCode
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEntry {
+
+    private final long seq;
+    private final String type;
+    private final String action;
+    private final String key;
+    private final String companyCode;
+    private final String memberCode;
+    private final long version;
+
+    public static ChangeEntry from(ChangeLog c) {
+        return ChangeEntry.builder()
+                .seq(c.getSeq())
+                .type(c.getEntityType())
+                .action(c.getAction())
+                .key(c.getEntityKey())
+                .companyCode(c.getCompanyCode())
+                .memberCode(c.getMemberCode())
+                .version(c.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package foongdoll.portfolio.aboutfoongdoll.change.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ChangeFeedResponse {
+    private List<ChangeEntry> changes;
+    private long nextSeq;            // 다음 요청의 since
+    private boolean hasMore;         // nextSeq 이후에 바로 더 받을 변경이 있음
+    private boolean resyncRequired;  // since 이후 기록이 잘려 나감: 전체를 다시 받은 뒤 nextSeq 부터 이어서 요청
+}
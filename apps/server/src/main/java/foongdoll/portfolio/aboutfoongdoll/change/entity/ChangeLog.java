@@ -0,0 +1,64 @@
+package foongdoll.portfolio.aboutfoongdoll.change.entity;
+
+import foongdoll.portfolio.aboutfoongdoll.common.sql.EntityLoadListener;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드 한 건. seq 는 ChangeSequence 에서 할당받으므로 항상 새 행이다 (save 시 merge 용 SELECT 생략).
+ */
+@Entity
+@EntityListeners(EntityLoadListener.class)
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_entity", columnList = "entity_type, entity_key, seq"),
+        @Index(name = "idx_change_log_created_at", columnList = "created_at")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class ChangeLog implements Persistable<Long> {
+
+    @Id
+    private Long seq;
+
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private String entityType;
+
+    @Column(name = "entity_key", nullable = false, length = 64)
+    private String entityKey;
+
+    @Column(nullable = false, length = 16)
+    private String action;
+
+    @Column(name = "company_code", length = 64)
+    private String companyCode;
+
+    @Column(name = "member_code", length = 64)
+    private String memberCode;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "origin_node", length = 64)
+    private String originNode;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Override
+    public Long getId() {
+        return seq;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,25 @@
+package foongdoll.portfolio.aboutfoongdoll.change.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 변경 피드 seq 할당용 단일 행 (id = 1). 쓰기 트랜잭션이 커밋 직전에 이 행을 잠그고 다음 seq 를 받는다.
+ */
+@Entity
+@Table(name = "change_seq")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class ChangeSequence {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+
+    @Column(name = "truncated_seq", nullable = false)
+    private Long truncatedSeq;
+}
@@ -0,0 +1,34 @@
+package foongdoll.portfolio.aboutfoongdoll.change.repository;
+
+import foongdoll.portfolio.aboutfoongdoll.change.entity.ChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+
+    List<ChangeLog> findBySeqGreaterThanOrderBySeqAsc(Long seq, Pageable pageable);
+
+    @Query("select coalesce(max(c.seq), 0) from ChangeLog c")
+    long findMaxSeq();
+
+    // 같은 엔티티 + 같은 소유자(member_code)에 더 최근 기록이 있는 행 (소비자는 최신 상태만 받으면 되므로 지워도 된다)
+    // 소유자가 바뀐 기록은 이전 소유자의 테넌트 캐시를 비우는 데 필요하므로 남긴다
+    @Query("select c.seq from ChangeLog c where exists ("
+            + "select 1 from ChangeLog n where n.entityType = c.entityType and n.entityKey = c.entityKey and n.seq > c.seq "
+            + "and (n.memberCode = c.memberCode or (n.memberCode is null and c.memberCode is null))) "
+            + "order by c.seq")
+    List<Long> findSupersededSeqs(Pageable pageable);
+
+    @Query("select max(c.seq) from ChangeLog c where c.createdAt < :cutoff")
+    Long findMaxSeqCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("delete from ChangeLog c where c.seq <= :seq")
+    int deleteUpTo(@Param("seq") Long seq);
+}
@@ -0,0 +1,18 @@
+package foongdoll.portfolio.aboutfoongdoll.change.repository;
+
+import foongdoll.portfolio.aboutfoongdoll.change.entity.ChangeSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ChangeSequenceRepository extends JpaRepository<ChangeSequence, Integer> {
+
+    // SELECT ... FOR UPDATE: 커밋될 때까지 다른 쓰기 트랜잭션의 seq 할당을 막는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ChangeSequence s where s.id = :id")
+    Optional<ChangeSequence> findForUpdate(@Param("id") Integer id);
+}
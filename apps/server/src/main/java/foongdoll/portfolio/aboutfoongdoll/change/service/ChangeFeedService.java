@@ -0,0 +1,11 @@
+package foongdoll.portfolio.aboutfoongdoll.change.service;
+
+import foongdoll.portfolio.aboutfoongdoll.change.dto.ChangeFeedResponse;
+
+public interface ChangeFeedService {
+
+    ChangeFeedResponse getChanges(long since, int limit);
+
+    /** 같은 엔티티/소유자의 이전 기록 제거 + 보존 기간이 지난 기록 정리 */
+    void compact();
+}
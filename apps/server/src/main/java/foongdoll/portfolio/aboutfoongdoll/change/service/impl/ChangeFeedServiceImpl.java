@@ -0,0 +1,167 @@
+package foongdoll.portfolio.aboutfoongdoll.change.service.impl;
+
+import foongdoll.portfolio.aboutfoongdoll.change.cluster.ClusterNode;
+import foongdoll.portfolio.aboutfoongdoll.change.dto.ChangeEntry;
+import foongdoll.portfolio.aboutfoongdoll.change.dto.ChangeFeedResponse;
+import foongdoll.portfolio.aboutfoongdoll.change.entity.ChangeLog;
+import foongdoll.portfolio.aboutfoongdoll.change.entity.ChangeSequence;
+import foongdoll.portfolio.aboutfoongdoll.change.repository.ChangeLogRepository;
+import foongdoll.portfolio.aboutfoongdoll.change.repository.ChangeSequenceRepository;
+import foongdoll.portfolio.aboutfoongdoll.change.service.ChangeFeedService;
+import foongdoll.portfolio.aboutfoongdoll.common.event.ContentChangeEvent;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 변경 피드. 서비스 쓰기가 발행하는 ContentChangeEvent 를 커밋 직전(BEFORE_COMMIT)에 같은 트랜잭션으로 기록하므로
+ * 롤백된 쓰기는 남지 않고, 커밋된 쓰기는 빠짐없이 남는다.
+ *
+ * 압축(주기 실행):
+ * - 같은 엔티티에 같은 소유자(member_code)의 더 최근 기록이 있으면 이전 기록을 지운다. 소비자는 최신 상태만 다시 받으면 된다.
+ *   소유자가 바뀐 경우 이전 소유자의 기록은 남긴다. 소비자(ClusterInvalidationTailer -> TenantSectionCache)가
+ *   테넌트별로 무효화하므로, 지우면 뒤처진 소비자가 이전 소유자 목록에서 그 엔티티를 계속 내보낸다.
+ * - 보존 기간이 지난 기록은 지우고 truncated_seq 를 올린다. since 가 그보다 작으면 resyncRequired 로 응답한다.
+ */
+@Slf4j
+@Observed(name = "app.service")
+@Service
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    private static final int COMPACT_BATCH = 1000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ClusterNode clusterNode;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler scheduler;
+    private final int maxLimit;
+    private final Duration retention;
+    private final Duration compactionInterval;
+
+    public ChangeFeedServiceImpl(ChangeLogRepository changeLogRepository,
+                                 ChangeSequenceRepository changeSequenceRepository,
+                                 ClusterNode clusterNode,
+                                 TransactionTemplate transactionTemplate,
+                                 @Qualifier("changeLogScheduler") TaskScheduler scheduler,
+                                 @Value("${app.change-log.max-limit:500}") int maxLimit,
+                                 @Value("${app.change-log.retention-days:30}") long retentionDays,
+                                 @Value("${app.change-log.compaction-interval-minutes:10}") long compactionMinutes) {
+        this.changeLogRepository = changeLogRepository;
+        this.changeSequenceRepository = changeSequenceRepository;
+        this.clusterNode = clusterNode;
+        this.transactionTemplate = transactionTemplate;
+        this.scheduler = scheduler;
+        this.maxLimit = maxLimit;
+        this.retention = Duration.ofDays(retentionDays);
+        this.compactionInterval = Duration.ofMinutes(compactionMinutes);
+    }
+
+    /** 쓰기 트랜잭션 안에서 실행된다 (커밋 직전) */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(ContentChangeEvent event) {
+        if (event.isReplicated()) return;
+        String key = ContentChangeEvent.POST.equals(event.getType()) ? String.valueOf(event.getId()) : event.getKey();
+        if (key == null) return;
+
+        ChangeSequence sequence = lockSequence();
+        long seq = sequence.getLastSeq() + 1;
+        sequence.setLastSeq(seq);
+
+        changeLogRepository.save(ChangeLog.builder()
+                .seq(seq)
+                .entityType(event.getType())
+                .entityKey(key)
+                .action(event.getAction())
+                .companyCode(event.getCompanyCode())
+                .memberCode(event.getMemberCode())
+                .version(event.getVersion())
+                .originNode(clusterNode.getId())
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse getChanges(long since, int limit) {
+        ChangeSequence sequence = changeSequenceRepository.findById(ChangeSequence.SINGLETON_ID).orElse(null);
+        long lastSeq = sequence == null ? 0 : sequence.getLastSeq();
+        long truncatedSeq = sequence == null ? 0 : sequence.getTruncatedSeq();
+
+        // 잘려 나간 구간을 요구하거나, 서버가 모르는 seq (DB 초기화 등)
+        if (since < truncatedSeq || since > lastSeq) {
+            return new ChangeFeedResponse(List.of(), lastSeq, false, true);
+        }
+
+        int size = Math.min(Math.max(limit, 1), maxLimit);
+        List<ChangeLog> rows = changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(since, PageRequest.of(0, size + 1));
+        boolean hasMore = rows.size() > size;
+        if (hasMore) rows = rows.subList(0, size);
+
+        // 압축으로 중간 seq 가 비어 있을 수 있으므로, 더 받을 것이 없으면 lastSeq 까지 건너뛴다
+        long nextSeq = hasMore ? rows.get(rows.size() - 1).getSeq() : lastSeq;
+        return new ChangeFeedResponse(rows.stream().map(ChangeEntry::from).toList(), nextSeq, hasMore, false);
+    }
+
+    @Override
+    public void compact() {
+        int superseded = 0;
+        List<Long> seqs;
+        do {
+            seqs = changeLogRepository.findSupersededSeqs(PageRequest.of(0, COMPACT_BATCH));
+            if (!seqs.isEmpty()) {
+                List<Long> batch = seqs;
+                transactionTemplate.executeWithoutResult(status -> changeLogRepository.deleteAllByIdInBatch(batch));
+                superseded += seqs.size();
+            }
+        } while (seqs.size() == COMPACT_BATCH);
+
+        Long truncated = transactionTemplate.execute(status -> {
+            Long maxSeq = changeLogRepository.findMaxSeqCreatedBefore(LocalDateTime.now().minus(retention));
+            if (maxSeq == null) return null;
+            ChangeSequence sequence = lockSequence();
+            changeLogRepository.deleteUpTo(maxSeq);
+            sequence.setTruncatedSeq(Math.max(sequence.getTruncatedSeq(), maxSeq));
+            return maxSeq;
+        });
+
+        if (superseded > 0 || truncated != null) {
+            log.info("[changes] compacted {} superseded row(s){}", superseded,
+                    truncated == null ? "" : ", truncated through seq " + truncated);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleCompaction() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                compact();
+            } catch (RuntimeException e) {
+                log.warn("[changes] compaction failed: {}", e.getMessage());
+            }
+        }, compactionInterval);
+    }
+
+    private ChangeSequence lockSequence() {
+        // 마이그레이션이 행을 넣지만, ddl-auto 로 만든 스키마(부하 테스트 등)에서는 처음 쓸 때 만든다
+        return changeSequenceRepository.findForUpdate(ChangeSequence.SINGLETON_ID)
+                .orElseGet(() -> changeSequenceRepository.save(ChangeSequence.builder()
+                        .id(ChangeSequence.SINGLETON_ID)
+                        .lastSeq(0L)
+                        .truncatedSeq(0L)
+                        .build()));
+    }
+}
@@ -0,0 +1,128 @@
+package foongdoll.portfolio.aboutfoongdoll.common.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 직렬화가 끝난 HTTP 응답(상태/헤더/바디 바이트)을 보관하는 공유 캐시.
+ * - 전체 바이트 합계로 크기를 제한하고, 넘치면 가장 오래 조회되지 않은 항목부터 제거 (LRU)
+ * - 항목마다 리소스 태그(posts/resume/experience)를 달아 쓰기 발생 시 태그 단위로 무효화
+ * - 태그마다 무효화 세대를 센다. 응답을 만들기 전에 세대를 받아 두고 put 에 넘기면,
+ *   그 사이 무효화(다른 노드 변경 포함)가 있었던 응답은 저장하지 않는다 (무효화 전에 읽은 내용이 다시 들어가지 않도록)
+ */
+@Component
+public class ResponseCacheStore {
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+    private final Map<String, Long> generations = new HashMap<>();
+    private long clears;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+
+    public ResponseCacheStore(@Value("${app.response-cache.max-bytes:33554432}") long maxBytes,
+                              @Value("${app.response-cache.max-entry-bytes:1048576}") long maxEntryBytes) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    public synchronized CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return cached;
+    }
+
+    /** tags 의 현재 무효화 세대. 세대는 줄지 않으므로 합이 같으면 그 사이 무효화가 없었다 */
+    public synchronized long generation(Set<String> tags) {
+        long sum = clears;
+        for (String tag : tags) sum += generations.getOrDefault(tag, 0L);
+        return sum;
+    }
+
+    /** generation 은 응답을 만들기 전에 generation(tags) 로 받아 둔 값. 그 뒤 무효화가 있었으면 저장하지 않는다 */
+    public synchronized void put(String key, CachedResponse response, long generation) {
+        if (generation(response.getTags()) != generation) {
+            discarded.incrementAndGet();
+            return;
+        }
+        long size = response.weight(key);
+        if (size > maxEntryBytes || size > maxBytes) return;
+
+        CachedResponse previous = entries.put(key, response);
+        if (previous != null) totalBytes -= previous.weight(key);
+        totalBytes += size;
+
+        Iterator<Map.Entry<String, CachedResponse>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, CachedResponse> eldest = it.next();
+            totalBytes -= eldest.getValue().weight(eldest.getKey());
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /** 해당 리소스 태그가 붙은 항목 전부 제거 */
+    public synchronized void invalidate(String tag) {
+        generations.merge(tag, 1L, Long::sum);
+        Iterator<Map.Entry<String, CachedResponse>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, CachedResponse> entry = it.next();
+            if (entry.getValue().getTags().contains(tag)) {
+                totalBytes -= entry.getValue().weight(entry.getKey());
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+        clears++;
+    }
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized long totalBytes() { return totalBytes; }
+    public long hits() { return hits.get(); }
+    public long misses() { return misses.get(); }
+    public long evictions() { return evictions.get(); }
+    public long discarded() { return discarded.get(); }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CachedResponse {
+
+        private final int status;
+        private final String contentType;
+        private final List<Map.Entry<String, String>> headers;
+        private final byte[] body;
+        private final Set<String> tags;
+
+        long weight(String key) {
+            long size = body.length + key.length() * 2L + 64;
+            for (Map.Entry<String, String> h : headers) {
+                size += (h.getKey().length() + h.getValue().length()) * 2L;
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package foongdoll.portfolio.aboutfoongdoll.common.cache;
+
+import foongdoll.portfolio.aboutfoongdoll.common.event.ContentChangeEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 조회 합치기 (single-flight).
+ * 같은 키로 동시에 들어온 조회는 먼저 온 호출(대표)만 loader 를 실행하고, 나머지는 그 결과를 같이 받는다.
+ * 인기 포스트/이력서가 캐시에서 빠지거나 저장 직후 몰린 GET 이 같은 쿼리와 렌더링을 반복하지 않도록.
+ *
+ * - 결과는 보관하지 않는다. 대표 호출이 끝나는 즉시 키를 지우므로 실패/타임아웃도 그 순간 기다리던 호출에만 전달된다
+ * - 대표 호출만 읽기 전용 트랜잭션을 연다. 기다리는 호출은 트랜잭션도 DB 커넥션도 잡지 않는다
+ *   (호출하는 서비스 메서드는 NOT_SUPPORTED 로 트랜잭션을 열지 않을 것)
+ * - 기다리는 호출은 wait-timeout-ms 까지만 기다리고 SingleFlightTimeoutException 을 던진다 (대표 호출은 계속 진행)
+ * - 변경이 커밋되면(ContentChangeEvent) 해당 그룹의 진행 중 키를 잊는다. 이후 호출은 커밋 전에 시작된 조회에 합류하지 않는다
+ *
+ * 메트릭(태그 group=post|resume|experience): app.single-flight.loads(실제 실행), coalesced(아낀 중복 실행),
+ * failures, wait-timeouts (counter), in-flight (gauge)
+ */
+@Component
+public class SingleFlight {
+
+    private final boolean enabled;
+    private final long waitTimeoutMillis;
+    private final TransactionTemplate readOnly;
+    private final Map<String, Group> groups;
+
+    public SingleFlight(PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.single-flight.enabled:true}") boolean enabled,
+                        @Value("${app.single-flight.wait-timeout-ms:5000}") long waitTimeoutMillis) {
+        this.enabled = enabled;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.groups = Map.of(
+                ContentChangeEvent.POST, new Group(ContentChangeEvent.POST),
+                ContentChangeEvent.RESUME, new Group(ContentChangeEvent.RESUME),
+                ContentChangeEvent.EXPERIENCE, new Group(ContentChangeEvent.EXPERIENCE));
+        for (Group group : groups.values()) group.register(meterRegistry);
+    }
+
+    /** 대표 조회가 wait-timeout-ms 안에 끝나지 않음. 요청은 503 으로 끝난다 */
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public static class SingleFlightTimeoutException extends RuntimeException {
+        public SingleFlightTimeoutException(String message) {
+            super(message);
+        }
+    }
+
+    private static final class Group {
+        final String name;
+        final ConcurrentHashMap<String, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+        final LongAdder loads = new LongAdder();
+        final LongAdder coalesced = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder waitTimeouts = new LongAdder();
+
+        Group(String name) {
+            this.name = name;
+        }
+
+        void register(MeterRegistry registry) {
+            for (Map.Entry<String, LongAdder> counter : List.of(
+                    Map.entry("loads", loads), Map.entry("coalesced", coalesced),
+                    Map.entry("failures", failures), Map.entry("wait-timeouts", waitTimeouts))) {
+                FunctionCounter.builder("app.single-flight." + counter.getKey(), counter.getValue(), LongAdder::sum)
+                        .tag("group", name).register(registry);
+            }
+            Gauge.builder("app.single-flight.in-flight", calls, Map::size)
+                    .tag("group", name).description("진행 중인 대표 조회 수").register(registry);
+        }
+    }
+
+    /**
+     * group 안에서 key 가 같은 동시 호출을 하나로 합쳐 loader 를 읽기 전용 트랜잭션에서 실행한다.
+     * @param group ContentChangeEvent 타입 (post / resume / experience)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String group, String key, Supplier<T> loader) {
+        Group g = groups.get(group);
+        if (g == null) throw new IllegalArgumentException("Unknown single-flight group: " + group);
+        if (!enabled) return readOnly.execute(status -> loader.get());
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = g.calls.putIfAbsent(key, mine);
+        if (existing != null) {
+            g.coalesced.increment();
+            return (T) await(g, key, existing);
+        }
+
+        g.loads.increment();
+        try {
+            T value = readOnly.execute(status -> loader.get());
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            g.failures.increment();
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            g.calls.remove(key, mine);
+        }
+    }
+
+    private Object await(Group g, String key, CompletableFuture<Object> call) {
+        try {
+            return call.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            g.waitTimeouts.increment();
+            throw new SingleFlightTimeoutException("Timed out waiting for in-flight load of " + g.name + ":" + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + g.name + ":" + key, e);
+        } catch (ExecutionException e) {
+            // 대표 호출의 예외를 그대로 다시 던진다 (IllegalArgumentException 등 호출부의 처리 그대로 유지)
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentChange(ContentChangeEvent event) {
+        Group g = groups.get(event.getType());
+        // 진행 중인 호출은 그대로 끝나고, 이후 호출만 새로 읽는다
+        if (g != null) g.calls.clear();
+    }
+}
@@ -0,0 +1,172 @@
+package foongdoll.portfolio.aboutfoongdoll.common.cache;
+
+import foongdoll.portfolio.aboutfoongdoll.common.event.ContentChangeEvent;
+import foongdoll.portfolio.aboutfoongdoll.common.resilience.StaleContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 포트폴리오(memberCode)별로 분리된 렌더링 결과 캐시.
+ *
+ * 공정성:
+ * - 테넌트마다 자기 바이트 한도(tenant-max-bytes) 안에서만 LRU 로 교체한다.
+ *   한 포트폴리오에 트래픽이 몰려도 자기 항목끼리만 밀어내고 다른 테넌트 항목은 건드리지 않는다.
+ * - 전체 한도(max-bytes / max-tenants)를 넘으면 가장 오래 접근되지 않은 "테넌트" 를 통째로 비운다.
+ * - 빈 결과(없는 memberCode)는 저장하지 않으므로 임의의 memberCode 요청으로 실제 테넌트를 밀어낼 수 없다.
+ *
+ * 조회/저장/축출은 O(1) 이므로 단일 락으로 충분하다 (수천 테넌트 기준, 전체 무효화만 테넌트 수에 비례).
+ * 적재(loader)는 락 밖에서 수행하고, 그 사이 무효화가 한 번이라도 있었으면 결과를 저장하지 않는다 (epoch 비교).
+ * DB 장애로 마지막 정상 사본을 받은 요청(StaleContext)의 결과도 저장하지 않는다 (복구 후 Warning 없이 계속 나가지 않도록).
+ * ResponseCacheFilter(전역 LRU)는 /api/{memberCode}/** 경로를 캐시하지 않으므로 이 캐시와 겹치지 않는다.
+ */
+@Component
+public class TenantSectionCache {
+
+    private final long maxBytes;
+    private final long tenantMaxBytes;
+    private final int maxTenants;
+
+    private final LinkedHashMap<String, Tenant> tenants = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    private long epoch;
+    private long hits;
+    private long misses;
+    private long entryEvictions;
+    private long tenantEvictions;
+
+    public TenantSectionCache(@Value("${app.tenant-cache.max-bytes:67108864}") long maxBytes,
+                              @Value("${app.tenant-cache.tenant-max-bytes:524288}") long tenantMaxBytes,
+                              @Value("${app.tenant-cache.max-tenants:5000}") int maxTenants) {
+        this.maxBytes = maxBytes;
+        this.tenantMaxBytes = tenantMaxBytes;
+        this.maxTenants = maxTenants;
+    }
+
+    private static final class Tenant {
+        final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        long bytes;
+    }
+
+    private record Entry(Object value, long weight) {
+    }
+
+    /**
+     * 캐시된 값을 돌려주거나 loader 로 적재한다.
+     * cacheable 이 false 인 결과(빈 페이지, 없는 이력서 등)는 저장하지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String tenant, String key, Supplier<T> loader,
+                     ToLongFunction<T> weigher, Predicate<T> cacheable) {
+        long startEpoch;
+        synchronized (this) {
+            Tenant t = tenants.get(tenant);
+            Entry entry = t == null ? null : t.entries.get(key);
+            if (entry != null) {
+                hits++;
+                return (T) entry.value();
+            }
+            misses++;
+            startEpoch = epoch;
+        }
+
+        T value = loader.get();
+        if (value == null || !cacheable.test(value) || StaleContext.isStale()) return value;
+
+        long weight = weigher.applyAsLong(value) + key.length() * 2L + 64;
+        if (weight > tenantMaxBytes) return value;
+
+        synchronized (this) {
+            if (epoch != startEpoch) return value;
+            Tenant t = tenants.computeIfAbsent(tenant, k -> new Tenant());
+
+            Entry previous = t.entries.put(key, new Entry(value, weight));
+            if (previous != null) adjust(t, -previous.weight());
+            adjust(t, weight);
+
+            // 1) 테넌트 자기 한도: 자기 항목만 밀어냄
+            Iterator<Map.Entry<String, Entry>> own = t.entries.entrySet().iterator();
+            while (t.bytes > tenantMaxBytes && own.hasNext()) {
+                Entry eldest = own.next().getValue();
+                own.remove();
+                adjust(t, -eldest.weight());
+                entryEvictions++;
+            }
+
+            // 2) 전체 한도: 가장 오래 쓰이지 않은 테넌트를 통째로 비움 (방금 쓴 테넌트는 마지막)
+            Iterator<Map.Entry<String, Tenant>> lru = tenants.entrySet().iterator();
+            while ((totalBytes > maxBytes || tenants.size() > maxTenants) && lru.hasNext()) {
+                Map.Entry<String, Tenant> eldest = lru.next();
+                if (eldest.getValue() == t) break;
+                totalBytes -= eldest.getValue().bytes;
+                lru.remove();
+                tenantEvictions++;
+            }
+        }
+        return value;
+    }
+
+    /** tenant 의 keyPrefix 로 시작하는 항목 제거. tenant 가 null 이면 모든 테넌트 대상 */
+    public synchronized void invalidate(String tenant, String keyPrefix) {
+        epoch++;
+        if (tenant != null) {
+            Tenant t = tenants.get(tenant);
+            if (t != null) invalidate(t, keyPrefix);
+            return;
+        }
+        for (Tenant t : tenants.values()) invalidate(t, keyPrefix);
+    }
+
+    private void invalidate(Tenant t, String keyPrefix) {
+        Iterator<Map.Entry<String, Entry>> it = t.entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Entry> e = it.next();
+            if (e.getKey().startsWith(keyPrefix)) {
+                adjust(t, -e.getValue().weight());
+                it.remove();
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentChange(ContentChangeEvent event) {
+        invalidate(event.getMemberCode(), event.getType());
+    }
+
+    private void adjust(Tenant t, long delta) {
+        t.bytes += delta;
+        totalBytes += delta;
+    }
+
+    public synchronized int tenantCount() {
+        return tenants.size();
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long entryEvictions() {
+        return entryEvictions;
+    }
+
+    public synchronized long tenantEvictions() {
+        return tenantEvictions;
+    }
+}
@@ -0,0 +1,15 @@
+package foongdoll.portfolio.aboutfoongdoll.common.dto;
+
+/**
+ * 수정 결과. changed 가 false 면 저장된 내용과 같아서 쓰기/변경 이벤트를 건너뛴 것.
+ */
+public record PatchResult<T>(T value, boolean changed) {
+
+    public static <T> PatchResult<T> changed(T value) {
+        return new PatchResult<>(value, true);
+    }
+
+    public static <T> PatchResult<T> unchanged(T value) {
+        return new PatchResult<>(value, false);
+    }
+}
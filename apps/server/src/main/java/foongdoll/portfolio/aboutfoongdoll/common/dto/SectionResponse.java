@@ -1,5 +1,6 @@
 package foongdoll.portfolio.aboutfoongdoll.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)  // SectionView.fields 로 고르지 않은 부분은 null -> 응답에서 빠짐
 public class SectionResponse {
 
     private String header;
@@ -0,0 +1,71 @@
+package foongdoll.portfolio.aboutfoongdoll.common.dto;
+
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 섹션 응답의 보기(view)와 필드 선택(fields). 렌더링 전에 정해지며, 고르지 않은 부분은 만들지도 직렬화하지도 않는다.
+ *   ?view=public|editor      public: metadata 에서 관리자 전용 필드(경험의 회사 주소/연락처/연봉)를 뺌, editor: 편집 폼 전체 (로그인 필요)
+ *   ?fields=header,content   header | content | footer | metadata 중 선택 (생략 시 전부)
+ * view 를 생략하면 로그인한 요청은 editor, 아니면 public. 로그인하지 않은 editor 요청은 public 으로 낮춘다.
+ */
+public record SectionView(boolean editor, Set<String> fields) {
+
+    public static final String HEADER = "header";
+    public static final String CONTENT = "content";
+    public static final String FOOTER = "footer";
+    public static final String METADATA = "metadata";
+
+    // 캐시 키가 요청의 나열 순서와 무관하도록 항상 이 순서로 담는다
+    private static final List<String> ALL_FIELDS = List.of(HEADER, CONTENT, FOOTER, METADATA);
+
+    public static final SectionView PUBLIC = new SectionView(false, Set.copyOf(ALL_FIELDS));
+    public static final SectionView EDITOR = new SectionView(true, Set.copyOf(ALL_FIELDS));
+
+    public static SectionView of(String view, String fields, boolean authenticated) {
+        boolean editor;
+        if (!StringUtils.hasText(view)) {
+            editor = authenticated;
+        } else {
+            editor = switch (view.trim().toLowerCase(Locale.ROOT)) {
+                case "public" -> false;
+                case "editor" -> authenticated;
+                default -> throw new IllegalArgumentException("Unknown view: " + view);
+            };
+        }
+        if (!StringUtils.hasText(fields)) return editor ? EDITOR : PUBLIC;
+
+        Set<String> requested = new LinkedHashSet<>();
+        for (String raw : fields.split(",")) {
+            String field = raw.trim().toLowerCase(Locale.ROOT);
+            if (field.isEmpty()) continue;
+            if (!ALL_FIELDS.contains(field)) throw new IllegalArgumentException("Unknown field: " + raw.trim());
+            requested.add(field);
+        }
+        if (requested.isEmpty()) return editor ? EDITOR : PUBLIC;
+
+        Set<String> ordered = new LinkedHashSet<>();
+        for (String field : ALL_FIELDS) if (requested.contains(field)) ordered.add(field);
+        return new SectionView(editor, ordered);
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    /** 캐시 키 조각. 같은 보기/필드 조합이면 같은 값 */
+    public String key() {
+        StringBuilder key = new StringBuilder(editor ? "editor" : "public");
+        char sep = ':';
+        for (String field : ALL_FIELDS) {
+            if (!fields.contains(field)) continue;
+            key.append(sep).append(field);
+            sep = ',';
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package foongdoll.portfolio.aboutfoongdoll.common.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서비스 계층 쓰기(생성/수정/삭제) 발생 시 발행되는 변경 이벤트.
+ * 그대로 직렬화되어 클라이언트에 푸시되므로 식별에 필요한 최소 필드만 가진다.
+ * 예) {type:"post", action:"updated", id:3, memberCode:"foongdoll", version:...}
+ *     {type:"experience", action:"created", key:"EXP-1", companyCode:"C-1", memberCode:"foongdoll", version:...}
+ * memberCode 는 변경된 포트폴리오(테넌트). 알 수 없으면 null 이며, 이때 테넌트 캐시는 해당 타입을 전부 무효화한다.
+ *
+ * replicated 이벤트는 다른 노드의 쓰기를 change_log 에서 읽어 다시 발행한 것이다 (ClusterInvalidationTailer).
+ * 트랜잭션 밖에서 발행되므로 캐시/알림 리스너는 fallbackExecution 으로 받고,
+ * 기록(change_log)이나 첨부 정리처럼 원 노드에서 한 번만 해야 하는 처리는 받지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ContentChangeEvent {
+
+    public static final String POST = "post";
+    public static final String RESUME = "resume";
+    public static final String EXPERIENCE = "experience";
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    private final String type;
+    private final String action;
+    private final Long id;             // post
+    private final String key;          // resume: memberCode / experience: experienceCode
+    private final String companyCode;  // experience
+    private final String memberCode;   // 테넌트 (nullable)
+    private final long version;        // 변경 시각(epoch ms)
+    @JsonIgnore
+    private final boolean replicated;  // 다른 노드에서 일어난 변경
+
+    public static ContentChangeEvent post(Long postId, String action) {
+        return post(postId, null, action);
+    }
+
+    public static ContentChangeEvent post(Long postId, String memberCode, String action) {
+        return new ContentChangeEvent(POST, action, postId, null, null, memberCode, System.currentTimeMillis(), false);
+    }
+
+    public static ContentChangeEvent resume(String memberCode, String action) {
+        return new ContentChangeEvent(RESUME, action, null, memberCode, null, memberCode, System.currentTimeMillis(), false);
+    }
+
+    public static ContentChangeEvent experience(String experienceCode, String companyCode, String memberCode, String action) {
+        return new ContentChangeEvent(EXPERIENCE, action, null, experienceCode, companyCode, memberCode, System.currentTimeMillis(), false);
+    }
+
+    /** 다른 노드에서 기록된 변경을 다시 발행할 때 사용. key 는 change_log.entity_key (post 는 postId) */
+    public static ContentChangeEvent replicated(String type, String action, String key, String companyCode,
+                                                String memberCode, long version) {
+        Long id = POST.equals(type) ? Long.valueOf(key) : null;
+        return new ContentChangeEvent(type, action, id, POST.equals(type) ? null : key, companyCode, memberCode, version, true);
+    }
+
+    /** 놓친 변경이 있을 수 있을 때 해당 타입 전체를 무효화하도록 다시 발행 (id/key 없음) */
+    public static ContentChangeEvent replicatedResync(String type) {
+        return new ContentChangeEvent(type, UPDATED, null, null, null, null, System.currentTimeMillis(), true);
+    }
+}
@@ -0,0 +1,67 @@
+package foongdoll.portfolio.aboutfoongdoll.common.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 경로 묶음(lane)의 입장 제어. 처리 중인 요청이 한도 이상이면 즉시 거절한다 (대기열 없음).
+ * 대기시키면 그 시간만큼 Hikari 대기와 타임아웃이 함께 쌓이므로, 넘친 요청은 빨리 실패시키는 편이 낫다.
+ */
+public class ConcurrencyLimiter {
+
+    private final String name;
+    private final GradientLimit limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public ConcurrencyLimiter(String name, GradientLimit limit) {
+        this.name = name;
+        this.limit = limit;
+    }
+
+    /** 입장 성공 시 처리 시작 시점의 in-flight 수(>=1), 거절 시 -1 */
+    public int tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit.getLimit()) {
+                rejected.increment();
+                return -1;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return current + 1;
+            }
+        }
+    }
+
+    /** tryAcquire 로 얻은 in-flight 수와 처리 시간을 넘긴다. sample=false 면 한도 계산에 쓰지 않고 반납만 */
+    public void release(long rttNanos, int inflightAtStart, boolean dropped, boolean sample) {
+        inflight.decrementAndGet();
+        if (sample) limit.onSample(rttNanos, inflightAtStart, dropped);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public double getLongRttMillis() {
+        return limit.getLongRttMillis();
+    }
+}
@@ -0,0 +1,73 @@
+package foongdoll.portfolio.aboutfoongdoll.common.limit;
+
+/**
+ * 지연 시간 기울기로 동시 처리 한도를 조정한다 (Netflix concurrency-limits 의 Gradient2 방식).
+ *
+ *   gradient = clamp(tolerance * 장기RTT / 현재RTT, 0.5, 1.0)
+ *   newLimit = limit * gradient + queueSize   (smoothing 으로 완만하게 반영)
+ *
+ * - DB 가 느려져 현재 RTT 가 장기 평균보다 커지면 한도가 줄고, 평소 수준이면 queueSize 만큼씩 늘어난다.
+ * - 한도의 절반도 쓰지 않는 동안에는 늘리지 않는다 (한가할 때 한도가 무한히 커지는 것 방지).
+ * - 장기 RTT 가 현재보다 훨씬 크면(과부하 후 회복) 장기 평균을 빠르게 낮춘다.
+ * - 실패(5xx/예외)는 지연과 무관하게 한도를 10% 줄인다.
+ */
+public class GradientLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double longWindowFactor;
+
+    private volatile double estimatedLimit;
+    private double longRtt;
+    private long samples;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.longWindowFactor = 2.0 / (longWindow + 1);
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    /** 장기 RTT (ms). 메트릭 용 */
+    public synchronized double getLongRttMillis() {
+        return longRtt / 1_000_000.0;
+    }
+
+    public synchronized void onSample(long rttNanos, int inflight, boolean dropped) {
+        double limit = estimatedLimit;
+        if (dropped) {
+            estimatedLimit = clamp(limit * 0.9);
+            return;
+        }
+
+        double shortRtt = Math.max(rttNanos, 1);
+        samples++;
+        if (samples <= WARMUP_SAMPLES) {
+            longRtt += (shortRtt - longRtt) / samples;
+            return;
+        }
+        longRtt += (shortRtt - longRtt) * longWindowFactor;
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        if (inflight < limit / 2) return;
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double queueSize = Math.max(1, Math.sqrt(limit));
+        double target = limit * gradient + queueSize;
+        estimatedLimit = clamp(limit * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    private double clamp(double limit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+}
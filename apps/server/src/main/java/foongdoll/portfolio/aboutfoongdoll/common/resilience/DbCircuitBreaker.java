@@ -0,0 +1,93 @@
+package foongdoll.portfolio.aboutfoongdoll.common.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 경로의 DB 차단기.
+ * - CLOSED: 연속 실패(오류 또는 지연 예산 초과)가 failure-threshold 에 닿으면 OPEN
+ * - OPEN: open-ms 동안 DB 를 부르지 않는다. 다시 열릴 때마다 대기 시간을 두 배로 (max-open-ms 까지)
+ * - HALF_OPEN: 대기 시간이 지나면 호출 하나만 통과시켜 본다. 성공하면 CLOSED, 실패하면 다시 OPEN
+ *
+ * tryAcquire() 가 true 를 돌려준 호출은 반드시 onSuccess()/onFailure() 중 하나로 결과를 알려야 한다
+ * (HALF_OPEN 의 시험 호출이 결과를 알리지 않으면 계속 열린 상태로 남는다).
+ * 메트릭: app.db-breaker.state (0=closed, 1=open, 2=half-open), app.db-breaker.trips
+ */
+@Slf4j
+@Component
+public class DbCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final long maxOpenNanos;
+    private final Counter trips;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int consecutiveTrips;
+    private long openUntil;
+
+    public DbCircuitBreaker(MeterRegistry meterRegistry,
+                            @Value("${app.stale-reads.breaker.failure-threshold:5}") int failureThreshold,
+                            @Value("${app.stale-reads.breaker.open-ms:2000}") long openMillis,
+                            @Value("${app.stale-reads.breaker.max-open-ms:60000}") long maxOpenMillis) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openMillis * 1_000_000L;
+        this.maxOpenNanos = Math.max(openMillis, maxOpenMillis) * 1_000_000L;
+        this.trips = Counter.builder("app.db-breaker.trips").register(meterRegistry);
+        Gauge.builder("app.db-breaker.state", this, b -> b.state().ordinal()).register(meterRegistry);
+    }
+
+    /** DB 를 불러도 되는지. OPEN 대기 시간이 지났으면 이 호출이 시험 호출이 된다 */
+    public synchronized boolean tryAcquire() {
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> false;
+            case OPEN -> {
+                if (System.nanoTime() - openUntil < 0) yield false;
+                state = State.HALF_OPEN;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) log.info("[db-breaker] closed after {} trip(s)", consecutiveTrips);
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        consecutiveTrips = 0;
+    }
+
+    public synchronized void onFailure() {
+        switch (state) {
+            case HALF_OPEN -> trip();
+            case CLOSED -> {
+                if (++consecutiveFailures >= failureThreshold) trip();
+            }
+            case OPEN -> {
+                // 열리기 전에 시작된 호출의 늦은 실패. 대기 시간은 그대로 둔다
+            }
+        }
+    }
+
+    private void trip() {
+        long wait = openNanos << Math.min(consecutiveTrips, 20);
+        if (wait <= 0 || wait > maxOpenNanos) wait = maxOpenNanos;
+        consecutiveTrips++;
+        consecutiveFailures = 0;
+        state = State.OPEN;
+        openUntil = System.nanoTime() + wait;
+        trips.increment();
+        log.warn("[db-breaker] open for {}ms (trip #{})", wait / 1_000_000L, consecutiveTrips);
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,73 @@
+package foongdoll.portfolio.aboutfoongdoll.common.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 요청에서 마지막 정상 사본(stale)을 내보냈는지 기록한다.
+ * - StaleReadFilter 가 /api/** 요청마다 스코프를 열고, StaleResponseAdvice 가 본문 쓰기 전에 Warning / Age 헤더로 옮긴다
+ * - 여러 파트 중 하나라도 stale 이면 요청 전체가 stale 이며, Age 는 가장 오래된 사본 기준
+ * - sectionExecutor 처럼 다른 스레드로 넘기는 작업은 wrap() 으로 같은 인스턴스에 기록 (QueryStats 와 같은 방식)
+ */
+public final class StaleContext {
+
+    public static final String WARNING = "110 - \"Response is Stale\"";
+
+    private static final ThreadLocal<StaleContext> CURRENT = new ThreadLocal<>();
+
+    private final AtomicLong ageSeconds = new AtomicLong(-1);
+
+    private StaleContext() {
+    }
+
+    public static Scope open() {
+        return attach(new StaleContext());
+    }
+
+    public static Scope attach(StaleContext context) {
+        StaleContext previous = CURRENT.get();
+        CURRENT.set(context);
+        return new Scope(context, previous);
+    }
+
+    public static StaleContext current() {
+        return CURRENT.get();
+    }
+
+    /** 호출 스레드의 기록을 작업 스레드로 이어 붙인다 (TaskDecorator 용) */
+    public static Runnable wrap(Runnable task) {
+        StaleContext context = CURRENT.get();
+        if (context == null) return task;
+        return () -> {
+            try (Scope ignored = attach(context)) {
+                task.run();
+            }
+        };
+    }
+
+    public record Scope(StaleContext context, StaleContext previous) implements AutoCloseable {
+        @Override
+        public void close() {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+
+    static void markStale(long ageSeconds) {
+        StaleContext context = CURRENT.get();
+        if (context != null) context.ageSeconds.accumulateAndGet(Math.max(ageSeconds, 0), Math::max);
+    }
+
+    /** 현재 요청에서 stale 사본을 내보냈는지 (캐시에 저장하지 않을 때 확인) */
+    public static boolean isStale() {
+        StaleContext context = CURRENT.get();
+        return context != null && context.isMarked();
+    }
+
+    public boolean isMarked() {
+        return ageSeconds.get() >= 0;
+    }
+
+    public long getAgeSeconds() {
+        return Math.max(ageSeconds.get(), 0);
+    }
+}
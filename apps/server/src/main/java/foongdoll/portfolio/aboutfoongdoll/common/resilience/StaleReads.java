@@ -0,0 +1,271 @@
+package foongdoll.portfolio.aboutfoongdoll.common.resilience;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import foongdoll.portfolio.aboutfoongdoll.common.cache.SingleFlight.SingleFlightTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * DB 가 느리거나 닿지 않을 때 마지막 정상 사본을 내보내는 읽기 래퍼 (stale-while-revalidate).
+ *
+ * - 정상 조회 결과는 JSON 으로 StaleSnapshotStore 에 남긴다 (storable 이 false 인 빈 결과 제외).
+ *   persistent 가 false 인 읽기(편집 화면용 보기)는 메모리에만 남긴다
+ * - 사본이 있는 키는 staleReadExecutor 에서 조회하고 latency-budget-ms 까지만 기다린다.
+ *   넘으면 사본을 내보내고, 조회는 뒤에서 끝까지 진행되어 사본을 갱신한다
+ * - DB 오류(DataAccessException / TransactionException 등)면 사본을, 사본이 없으면 원래 예외를 그대로
+ * - 오류와 예산 초과는 DbCircuitBreaker 에 실패로 기록된다. 열린 동안은 DB 를 부르지 않고 바로 사본을 내보내며
+ *   (없으면 503) 키를 재조회 대기열에 올린다. 재조회는 refresh-interval-ms 마다 차단기가 허락할 때만 시도한다
+ * - 사본이 없는 키는 대신 내보낼 것이 없으므로 스레드를 옮기지 않고 호출 스레드에서 바로 조회한다
+ * - 사본을 내보낸 요청은 StaleContext 에 표시되어 Warning / Age 헤더가 붙고 응답 캐시들에 저장되지 않는다
+ *
+ * IllegalArgumentException 같은 DB 외 예외는 DB 가 응답했다는 뜻이므로 성공으로 보고 그대로 던진다.
+ * 호출하는 서비스 메서드는 트랜잭션을 열지 않아야 한다 (기다리는 동안 커넥션을 잡지 않도록, SingleFlight 와 같은 조건).
+ * 메트릭: app.stale-reads.served (reason=open|error|slow), app.stale-reads.refreshes (outcome=ok|failed),
+ *         app.stale-reads.entries, app.stale-reads.pending-refreshes
+ */
+@Slf4j
+@Component
+@Lazy(false) // 재조회 주기 작업(start)을 기동 시에 등록한다
+public class StaleReads {
+
+    private static final AtomicBoolean NEVER_ABANDONED = new AtomicBoolean(false);
+
+    private final StaleSnapshotStore store;
+    private final DbCircuitBreaker breaker;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor executor;
+    private final TaskScheduler refreshScheduler;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long latencyBudgetMillis;
+    private final Duration refreshInterval;
+    private final int maxPendingRefreshes;
+
+    private final Map<String, Runnable> pendingRefreshes = new ConcurrentHashMap<>();
+
+    public StaleReads(StaleSnapshotStore store,
+                      DbCircuitBreaker breaker,
+                      ObjectMapper objectMapper,
+                      @Qualifier("staleReadExecutor") TaskExecutor executor,
+                      @Qualifier("staleRefreshScheduler") TaskScheduler refreshScheduler,
+                      MeterRegistry meterRegistry,
+                      @Value("${app.stale-reads.enabled:true}") boolean enabled,
+                      @Value("${app.stale-reads.latency-budget-ms:1000}") long latencyBudgetMillis,
+                      @Value("${app.stale-reads.refresh-interval-ms:1000}") long refreshIntervalMillis,
+                      @Value("${app.stale-reads.max-pending-refreshes:500}") int maxPendingRefreshes) {
+        this.store = store;
+        this.breaker = breaker;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.refreshScheduler = refreshScheduler;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.latencyBudgetMillis = latencyBudgetMillis;
+        this.refreshInterval = Duration.ofMillis(refreshIntervalMillis);
+        this.maxPendingRefreshes = maxPendingRefreshes;
+        Gauge.builder("app.stale-reads.entries", store, StaleSnapshotStore::size).register(meterRegistry);
+        Gauge.builder("app.stale-reads.pending-refreshes", pendingRefreshes, Map::size).register(meterRegistry);
+    }
+
+    /** DB 가 없어서 내보낼 사본도 없음 */
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public static class DatabaseUnavailableException extends RuntimeException {
+        public DatabaseUnavailableException(String message) {
+            super(message);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) refreshScheduler.scheduleWithFixedDelay(this::refreshPending, refreshInterval);
+    }
+
+    /**
+     * key 의 조회 결과를 돌려준다. DB 가 느리거나 실패하면 마지막 정상 사본으로 대신한다.
+     * @param key      타입 접두어(post: / resume: ...)를 포함한 전역 키
+     * @param type     사본 역직렬화 타입
+     * @param storable 사본으로 남길 결과인지 (빈 결과는 남기지 않음)
+     */
+    public <T> T read(String key, TypeReference<T> type, Supplier<T> loader, Predicate<T> storable) {
+        return read(key, type, loader, storable, true);
+    }
+
+    /** @param persistent 사본을 디스크에도 남길지. 관리자 전용 필드가 든 결과는 false (재시작하면 사라짐) */
+    public <T> T read(String key, TypeReference<T> type, Supplier<T> loader, Predicate<T> storable, boolean persistent) {
+        if (!enabled) return loader.get();
+
+        if (!breaker.tryAcquire()) {
+            pendRefresh(key, loader, storable, persistent);
+            T stale = stale(key, type, "open");
+            if (stale != null) return stale;
+            throw new DatabaseUnavailableException("Database unavailable and no stale copy of " + key);
+        }
+
+        if (!store.contains(key)) return load(key, loader, storable, persistent, NEVER_ABANDONED);
+
+        AtomicBoolean abandoned = new AtomicBoolean();
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> load(key, loader, storable, persistent, abandoned), executor);
+        } catch (RejectedExecutionException e) {
+            return load(key, loader, storable, persistent, NEVER_ABANDONED);
+        }
+
+        try {
+            return future.get(latencyBudgetMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 늦게 끝난 조회는 사본만 갱신하고 차단기에는 다시 알리지 않는다
+            abandoned.set(true);
+            breaker.onFailure();
+            T stale = stale(key, type, "slow");
+            if (stale != null) return stale;
+            try {
+                return future.join();
+            } catch (CompletionException failed) {
+                throw rethrow(failed.getCause());
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (isDatabaseFailure(cause)) {
+                T stale = stale(key, type, "error");
+                if (stale != null) return stale;
+            }
+            throw rethrow(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + key, e);
+        }
+    }
+
+    /** 내용이 지워진 항목(삭제된 포스트 등)의 사본을 버린다 */
+    public void forget(String key) {
+        store.remove(key);
+        pendingRefreshes.remove(key);
+    }
+
+    /** 어떤 항목이 지워졌는지 알 수 없을 때(놓친 변경의 재동기화) prefix 로 시작하는 사본을 모두 버린다 */
+    public void forgetAll(String prefix) {
+        store.keys(prefix).forEach(this::forget);
+    }
+
+    private <T> T load(String key, Supplier<T> loader, Predicate<T> storable, boolean persistent,
+                       AtomicBoolean abandoned) {
+        // 조회 중에 forget 된 키는 결과를 사본으로 남기지 않는다
+        long mark = store.mark();
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            if (!abandoned.get()) {
+                if (isDatabaseFailure(e)) breaker.onFailure();
+                else breaker.onSuccess();
+            }
+            throw e;
+        }
+        if (!abandoned.get()) breaker.onSuccess();
+        if (value != null && storable.test(value)) remember(key, value, persistent, mark);
+        return value;
+    }
+
+    private void remember(String key, Object value, boolean persistent, long mark) {
+        try {
+            store.put(key, objectMapper.writeValueAsBytes(value), persistent, mark);
+        } catch (JsonProcessingException e) {
+            log.warn("[stale-reads] cannot serialize {}: {}", key, e.getMessage());
+        }
+    }
+
+    private <T> T stale(String key, TypeReference<T> type, String reason) {
+        StaleSnapshotStore.Snapshot snapshot = store.get(key);
+        if (snapshot == null) return null;
+        T value;
+        try {
+            JavaType javaType = objectMapper.getTypeFactory().constructType(type);
+            value = objectMapper.readValue(snapshot.json(), javaType);
+        } catch (IOException e) {
+            log.warn("[stale-reads] dropping unreadable snapshot {}: {}", key, e.getMessage());
+            store.remove(key);
+            return null;
+        }
+        StaleContext.markStale((System.currentTimeMillis() - snapshot.storedAtMillis()) / 1000);
+        Counter.builder("app.stale-reads.served").tag("reason", reason).register(meterRegistry).increment();
+        return value;
+    }
+
+    private <T> void pendRefresh(String key, Supplier<T> loader, Predicate<T> storable, boolean persistent) {
+        if (pendingRefreshes.size() >= maxPendingRefreshes) return;
+        pendingRefreshes.putIfAbsent(key, () -> load(key, loader, storable, persistent, NEVER_ABANDONED));
+    }
+
+    /** 차단기가 허락하는 동안 대기 중인 키를 하나씩 다시 읽는다. 실패하면 다음 주기로 (대기 시간은 차단기가 늘린다) */
+    private void refreshPending() {
+        Iterator<Map.Entry<String, Runnable>> it = pendingRefreshes.entrySet().iterator();
+        while (it.hasNext()) {
+            if (!breaker.tryAcquire()) return;
+            Map.Entry<String, Runnable> pending = it.next();
+            try {
+                pending.getValue().run();
+                it.remove();
+                refreshed("ok");
+            } catch (RuntimeException e) {
+                if (isDatabaseFailure(e)) {
+                    refreshed("failed");
+                    log.debug("[stale-reads] refresh of {} failed: {}", pending.getKey(), e.getMessage());
+                    return;
+                }
+                it.remove();
+            }
+        }
+    }
+
+    private void refreshed(String outcome) {
+        Counter.builder("app.stale-reads.refreshes").tag("outcome", outcome).register(meterRegistry).increment();
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) return runtime;
+        if (cause instanceof Error error) throw error;
+        return new IllegalStateException(cause);
+    }
+
+    private static boolean isDatabaseFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof DataAccessException || t instanceof TransactionException
+                    || t instanceof PersistenceException || t instanceof SingleFlightTimeoutException) return true;
+            if (t.getCause() == t) break;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package foongdoll.portfolio.aboutfoongdoll.common.resilience;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 요청 중 마지막 정상 사본을 내보냈으면 본문을 쓰기 직전에 Warning: 110 과 Age(초) 헤더를 붙인다.
+ */
+@RestControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        StaleContext context = StaleContext.current();
+        if (context != null && context.isMarked()) {
+            response.getHeaders().set(HttpHeaders.WARNING, StaleContext.WARNING);
+            response.getHeaders().set(HttpHeaders.AGE, String.valueOf(context.getAgeSeconds()));
+        }
+        return body;
+    }
+}
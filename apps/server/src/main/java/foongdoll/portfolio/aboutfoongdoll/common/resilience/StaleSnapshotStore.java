@@ -0,0 +1,286 @@
+package foongdoll.portfolio.aboutfoongdoll.common.resilience;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 읽기 결과의 마지막 정상 사본(JSON 바이트 + 저장 시각). DB 가 느리거나 죽었을 때 StaleReads 가 여기서 꺼내 쓴다.
+ * - 전체 바이트 합계로 크기를 제한하고, 넘치면 가장 오래 쓰이지 않은 항목부터 제거 (LRU, 디스크 파일도 같이 삭제)
+ * - directory 가 있으면 항목마다 파일 하나(키의 SHA-256 이름)로 남겨 재시작 후에도 쓸 수 있다.
+ *   내용이 바뀐 경우에만 다시 쓴다 (같은 내용 재확인은 메모리 시각만 갱신하므로 재시작 후 Age 는 실제보다 클 수 있다)
+ * - 파일 쓰기는 임시 파일 + 원자적 이동이라 쓰는 도중 죽어도 깨진 사본이 남지 않는다.
+ *   같은 키의 쓰기/삭제는 키별 락(stripe)으로 줄 세우고, 락을 잡은 뒤 메모리의 현재 사본이 아니면 쓰지 않는다
+ *   (늦게 도착한 이전 내용이 새 파일을 덮거나, 지운 파일을 되살리지 않도록)
+ * - persistent 가 false 인 사본(편집 화면용 보기: 연락처/연봉 등 포함)은 메모리에만 두고 디스크에 쓰지 않는다
+ * - remove 한 키는 묘비(tombstone)를 남긴다. mark() 를 조회 전에 받아 두고 put 에 넘기면,
+ *   그 사이 지워진 키의 사본은 저장하지 않는다 (삭제 전에 시작한 조회가 지운 사본을 되살리지 않도록)
+ */
+@Slf4j
+@Component
+@Lazy(false) // 첫 요청이 아니라 기동 시에 디스크 사본을 읽어 둔다 (DB 가 없는 채로 뜬 경우에도 바로 쓸 수 있도록)
+public class StaleSnapshotStore {
+
+    // SWE1 은 편집 보기 사본도 디스크에 남겼으므로 읽지 않고 지운다
+    private static final int MAGIC = 0x53574532; // "SWE2"
+    private static final String SUFFIX = ".snap";
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final int STRIPES = 64;
+    private static final int MAX_TOMBSTONES = 1024;
+
+    public record Snapshot(byte[] json, long storedAtMillis, boolean persistent) {
+        long weight(String key) {
+            return json.length + key.length() * 2L + 64;
+        }
+    }
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    private final LinkedHashMap<String, Snapshot> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    // 삭제 순번. 키별 묘비는 최근 MAX_TOMBSTONES 개만 두고, 밀려난 묘비의 순번은 tombstoneFloor 로 보수적으로 취급한다
+    private final LinkedHashMap<String, Long> tombstones = new LinkedHashMap<>();
+    private long removals;
+    private long tombstoneFloor;
+
+    private final Object[] stripes = new Object[STRIPES];
+
+    public StaleSnapshotStore(@Value("${app.stale-reads.directory:}") String directory,
+                              @Value("${app.stale-reads.max-bytes:33554432}") long maxBytes,
+                              @Value("${app.stale-reads.max-entry-bytes:2097152}") long maxEntryBytes) {
+        this.directory = StringUtils.hasText(directory) ? Path.of(directory) : null;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        for (int i = 0; i < STRIPES; i++) stripes[i] = new Object();
+    }
+
+    /** 디스크의 사본을 오래된 것부터 읽어 들인다 (가장 최근 것이 LRU 의 마지막) */
+    @PostConstruct
+    void load() {
+        if (directory == null) return;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            log.warn("[stale-reads] cannot create {}: {}", directory, e.getMessage());
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(p -> {
+                        String name = p.getFileName().toString();
+                        // 쓰다가 죽은 임시 파일은 버린다
+                        if (name.endsWith(TMP_SUFFIX)) deleteQuietly(p);
+                        return name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(StaleSnapshotStore::lastModified))
+                    .toList();
+        } catch (IOException e) {
+            log.warn("[stale-reads] cannot list {}: {}", directory, e.getMessage());
+            return;
+        }
+        int loaded = 0;
+        for (Path file : files) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() != MAGIC) throw new IOException("bad header");
+                String key = in.readUTF();
+                long storedAt = in.readLong();
+                byte[] json = in.readNBytes(in.readInt());
+                if (!file.equals(fileOf(key))) throw new IOException("key does not match file name");
+                List<String> evicted;
+                synchronized (this) {
+                    evicted = putEntry(key, new Snapshot(json, storedAt, true));
+                }
+                evicted.forEach(this::deleteFile);
+                loaded++;
+            } catch (IOException | RuntimeException e) {
+                log.warn("[stale-reads] dropping unreadable snapshot {}: {}", file.getFileName(), e.getMessage());
+                deleteQuietly(file);
+            }
+        }
+        if (loaded > 0) log.info("[stale-reads] loaded {} snapshot(s) from {}", loaded, directory);
+    }
+
+    public synchronized Snapshot get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    /** prefix 로 시작하는 키 목록 */
+    public synchronized List<String> keys(String prefix) {
+        return entries.keySet().stream().filter(key -> key.startsWith(prefix)).toList();
+    }
+
+    /** 현재 삭제 순번. 조회 전에 받아 두었다가 put 에 넘긴다 */
+    public synchronized long mark() {
+        return removals;
+    }
+
+    /**
+     * 새 정상 사본을 기록한다. 내용이 같으면 시각만 갱신하고 디스크는 건드리지 않는다.
+     * @param persistent 디스크에도 남길지 (false 면 메모리에만)
+     * @param mark       조회 전에 받아 둔 mark(). 그 뒤 key 가 remove 되었으면 저장하지 않는다
+     */
+    public void put(String key, byte[] json, boolean persistent, long mark) {
+        Snapshot snapshot = new Snapshot(json, System.currentTimeMillis(), persistent && directory != null);
+        if (snapshot.weight(key) > maxEntryBytes || snapshot.weight(key) > maxBytes) return;
+        List<String> evicted;
+        synchronized (this) {
+            if (tombstoneFloor > mark || tombstones.getOrDefault(key, 0L) > mark) return;
+            Snapshot previous = entries.get(key);
+            if (previous != null && previous.persistent() == snapshot.persistent()
+                    && Arrays.equals(previous.json(), json)) {
+                // 같은 바이트 배열을 이어 쓰므로 진행 중인 같은 내용의 파일 쓰기는 현재 사본으로 인정된다
+                entries.put(key, new Snapshot(previous.json(), snapshot.storedAtMillis(), previous.persistent()));
+                return;
+            }
+            evicted = putEntry(key, snapshot);
+        }
+        evicted.forEach(this::deleteFile);
+        if (snapshot.persistent()) write(key, snapshot);
+        else deleteFile(key);
+    }
+
+    public void remove(String key) {
+        synchronized (this) {
+            tombstones.remove(key);
+            tombstones.put(key, ++removals);
+            if (tombstones.size() > MAX_TOMBSTONES) {
+                Iterator<Map.Entry<String, Long>> it = tombstones.entrySet().iterator();
+                tombstoneFloor = it.next().getValue();
+                it.remove();
+            }
+            Snapshot previous = entries.remove(key);
+            if (previous == null) return;
+            totalBytes -= previous.weight(key);
+        }
+        deleteFile(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    private List<String> putEntry(String key, Snapshot snapshot) {
+        Snapshot previous = entries.put(key, snapshot);
+        if (previous != null) totalBytes -= previous.weight(key);
+        totalBytes += snapshot.weight(key);
+
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Snapshot>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Snapshot> eldest = it.next();
+            if (eldest.getKey().equals(key)) continue;
+            totalBytes -= eldest.getValue().weight(eldest.getKey());
+            it.remove();
+            evicted.add(eldest.getKey());
+        }
+        return evicted;
+    }
+
+    // ===================== 디스크 =====================
+
+    private void write(String key, Snapshot snapshot) {
+        if (directory == null) return;
+        Path target = fileOf(key);
+        Path tmp = target.resolveSibling(target.getFileName() + TMP_SUFFIX);
+        synchronized (stripeOf(key)) {
+            synchronized (this) {
+                // 그 사이 더 새 내용이 들어왔거나 지워졌으면 쓰지 않는다 (그쪽이 파일을 맡는다)
+                Snapshot current = entries.get(key);
+                if (current == null || current.json() != snapshot.json() || !current.persistent()) return;
+            }
+            writeFile(key, snapshot, target, tmp);
+        }
+    }
+
+    private void writeFile(String key, Snapshot snapshot, Path target, Path tmp) {
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeUTF(key);
+                out.writeLong(snapshot.storedAtMillis());
+                out.writeInt(snapshot.json().length);
+                out.write(snapshot.json());
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[stale-reads] failed to persist snapshot {}: {}", key, e.getMessage());
+            deleteQuietly(tmp);
+        }
+    }
+
+    private void deleteFile(String key) {
+        if (directory == null) return;
+        synchronized (stripeOf(key)) {
+            synchronized (this) {
+                // 지우기로 한 뒤 같은 키가 다시 저장되었으면 그 파일은 남긴다
+                Snapshot current = entries.get(key);
+                if (current != null && current.persistent()) return;
+            }
+            deleteQuietly(fileOf(key));
+        }
+    }
+
+    private Object stripeOf(String key) {
+        return stripes[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+
+    private Path fileOf(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(digest) + SUFFIX);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("[stale-reads] failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+}
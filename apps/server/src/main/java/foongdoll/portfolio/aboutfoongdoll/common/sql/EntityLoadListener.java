@@ -0,0 +1,15 @@
+package foongdoll.portfolio.aboutfoongdoll.common.sql;
+
+import jakarta.persistence.PostLoad;
+
+/**
+ * 엔티티가 DB 에서 로드될 때마다 QueryStats 에 기록한다.
+ * 목록 한 번 조회에 연관 엔티티가 행 수만큼 따로 로드되면 SQL 수와 함께 여기서 드러난다.
+ */
+public class EntityLoadListener {
+
+    @PostLoad
+    public void onLoad(Object entity) {
+        QueryStats.recordEntityLoad(entity);
+    }
+}
@@ -0,0 +1,235 @@
+package foongdoll.portfolio.aboutfoongdoll.common.sql;
+
+import foongdoll.portfolio.aboutfoongdoll.attachment.repository.AttachmentRepository;
+import foongdoll.portfolio.aboutfoongdoll.auth.repository.AuthRepository;
+import foongdoll.portfolio.aboutfoongdoll.change.entity.ChangeSequence;
+import foongdoll.portfolio.aboutfoongdoll.change.repository.ChangeLogRepository;
+import foongdoll.portfolio.aboutfoongdoll.change.repository.ChangeSequenceRepository;
+import foongdoll.portfolio.aboutfoongdoll.common.sql.QueryStats.RecordedStatement;
+import foongdoll.portfolio.aboutfoongdoll.experience.repository.ExperienceRepository;
+import foongdoll.portfolio.aboutfoongdoll.post.repository.PostRepository;
+import foongdoll.portfolio.aboutfoongdoll.post.repository.PostSectionRepository;
+import foongdoll.portfolio.aboutfoongdoll.resume.repository.CompanyRepository;
+import foongdoll.portfolio.aboutfoongdoll.resume.repository.ResumeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 리포지토리 조회 쿼리의 실행 계획(EXPLAIN)을 기동 시 점검한다.
+ * 풀 스캔(type=ALL) 또는 filesort 로 떨어지는 쿼리가 있으면 경고하고, fail-on-violation 이면 기동을 중단한다.
+ * SQL 을 손으로 옮겨 적지 않고, 리포지토리 메서드를 실제로 호출해 Hibernate 가 보낸 SQL 과 바인딩 값을
+ * QueryStats(파라미터 기록 스코프)로 받아 그대로 EXPLAIN 한다. 호출은 항상 롤백되는 트랜잭션 안에서 한다.
+ * 리포지토리에 선언된 쿼리 메서드 중 여기 호출 항목이 없는 것이 있으면 그것도 위반으로 보고한다.
+ * MySQL 의 EXPLAIN 출력(type / Extra)을 기준으로 하며, 이 열이 없는 DB(H2 등)에서는 통과로 치지 않고 실패한다.
+ * 빌드에서는 ./gradlew queryPlanCheck 가 MySQL 에 Flyway 마이그레이션을 적용하고 데이터를 적재한 뒤 findViolations() 로 점검한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.query-plan-check.enabled", havingValue = "true")
+public class QueryPlanVerifier {
+
+    // 일치하는 행이 없을 값 (쓰기 쿼리도 지울 행이 없도록)
+    private static final String SAMPLE = "plan-check";
+    private static final long NO_ID = -1L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ListableBeanFactory beanFactory;
+    private final PostRepository postRepository;
+    private final PostSectionRepository postSectionRepository;
+    private final ExperienceRepository experienceRepository;
+    private final CompanyRepository companyRepository;
+    private final ResumeRepository resumeRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final AuthRepository authRepository;
+
+    @Value("${app.query-plan-check.fail-on-violation:false}")
+    private boolean failOnViolation;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        List<String> violations = findViolations();
+        if (violations.isEmpty()) {
+            log.info("Query plan check passed ({} repository calls)", queryCount());
+            return;
+        }
+        violations.forEach(v -> log.warn("Query plan violation: {}", v));
+        if (failOnViolation) {
+            throw new IllegalStateException("Query plan check failed: " + violations);
+        }
+    }
+
+    /**
+     * 점검 항목이 없는 쿼리 메서드 + 풀 스캔/filesort 로 떨어진 SQL 목록.
+     * EXPLAIN 이 MySQL 형식이 아니거나 SQL 이 기록되지 않으면(app.query-stats.enabled=false) IllegalStateException
+     */
+    public List<String> findViolations() {
+        List<PlannedCall> calls = plannedCalls();
+        List<String> violations = new ArrayList<>(findUnplanned(calls));
+        for (PlannedCall call : calls) {
+            List<RecordedStatement> statements = capture(call);
+            if (statements.isEmpty()) {
+                throw new IllegalStateException(call.name() + " executed no recorded SQL (app.query-stats.enabled=true required)");
+            }
+            for (RecordedStatement statement : statements) {
+                if (!isExplainable(statement.sql())) continue;
+                List<Map<String, Object>> rows =
+                        jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.parameters().toArray());
+                for (Map<String, Object> row : rows) {
+                    if (!row.containsKey("type") || !row.containsKey("Extra")) {
+                        throw new IllegalStateException("EXPLAIN output has no type/Extra columns (MySQL required): " + row.keySet());
+                    }
+                    if (call.fullScan()) continue;
+                    String type = String.valueOf(row.get("type"));
+                    String extra = String.valueOf(row.get("Extra"));
+                    if ("ALL".equalsIgnoreCase(type) || extra.contains("Using filesort")) {
+                        violations.add(call.name() + " -> " + row.get("table") + " type=" + type + " key=" + row.get("key")
+                                + " extra=" + extra + " sql=" + statement.sql());
+                    }
+                }
+            }
+        }
+        return violations;
+    }
+
+    public int queryCount() {
+        return plannedCalls().size();
+    }
+
+    /** 리포지토리 메서드를 롤백 전용 트랜잭션에서 호출하고 그동안 실행된 SQL 을 돌려준다 */
+    private List<RecordedStatement> capture(PlannedCall call) {
+        try (QueryStats.Scope scope = QueryStats.openCapturingParameters()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                call.call().run();
+            });
+            return scope.stats().getRecordedStatements();
+        }
+    }
+
+    private List<String> findUnplanned(List<PlannedCall> calls) {
+        Set<String> planned = calls.stream().map(PlannedCall::name).collect(Collectors.toSet());
+        Repositories repositories = new Repositories(beanFactory);
+        List<String> missing = new ArrayList<>();
+        for (Class<?> domainType : repositories) {
+            repositories.getRepositoryInformationFor(domainType).ifPresent(info -> {
+                for (Method method : info.getQueryMethods()) {
+                    String name = info.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                    if (!planned.contains(name)) missing.add(name + " has no plan-check entry in QueryPlanVerifier");
+                }
+            });
+        }
+        return missing;
+    }
+
+    private static boolean isExplainable(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return head.startsWith("select") || head.startsWith("update") || head.startsWith("delete");
+    }
+
+    /** 테이블에 있는 값으로 호출해야 옵티마이저가 실제 분포로 계획을 세운다. 비어 있으면 SAMPLE */
+    private String sample(String sql) {
+        List<String> values = jdbcTemplate.queryForList(sql, String.class);
+        return values.isEmpty() || values.get(0) == null ? SAMPLE : values.get(0);
+    }
+
+    private List<PlannedCall> plannedCalls() {
+        String category = sample("SELECT category FROM post WHERE category IS NOT NULL LIMIT 1");
+        String memberCode = sample("SELECT member_code FROM post WHERE member_code IS NOT NULL LIMIT 1");
+        String companyCode = sample("SELECT company_code FROM company LIMIT 1");
+        // PostServiceImpl 과 같은 페이지 요청 (최신순)
+        Pageable latest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        Pageable batch = PageRequest.of(0, 100);
+
+        return List.of(
+                new PlannedCall("PostRepository.findAll", false, () -> postRepository.findAll(latest)),
+                new PlannedCall("PostRepository.findByCategory", false, () -> postRepository.findByCategory(category, latest)),
+                new PlannedCall("PostRepository.findByMemberCode", false, () -> postRepository.findByMemberCode(memberCode, latest)),
+                new PlannedCall("PostRepository.findByMemberCodeAndCategory", false,
+                        () -> postRepository.findByMemberCodeAndCategory(memberCode, category, latest)),
+                new PlannedCall("PostRepository.findDistinctCategories", false, postRepository::findDistinctCategories),
+                // 자동완성 색인 재구성: 전체 포스트를 한 번 읽는 것이 목적
+                new PlannedCall("PostRepository.findAllTerms", true, postRepository::findAllTerms),
+                new PlannedCall("PostRepository.findTermsById", false, () -> postRepository.findTermsById(NO_ID)),
+                new PlannedCall("PostRepository.findTextsAfter", false, () -> postRepository.findTextsAfter(0L, batch)),
+                new PlannedCall("PostRepository.findTextById", false, () -> postRepository.findTextById(NO_ID)),
+                new PlannedCall("PostRepository.findTitleById", false, () -> postRepository.findTitleById(NO_ID)),
+
+                new PlannedCall("PostSectionRepository.findOutline", false, () -> postSectionRepository.findOutline(NO_ID)),
+                new PlannedCall("PostSectionRepository.findByPostIdAndSectionNo", false,
+                        () -> postSectionRepository.findByPostIdAndSectionNo(NO_ID, 0)),
+                new PlannedCall("PostSectionRepository.existsByPostIdAndSectionNo", false,
+                        () -> postSectionRepository.existsByPostIdAndSectionNo(NO_ID, 0)),
+                new PlannedCall("PostSectionRepository.existsByPostId", false, () -> postSectionRepository.existsByPostId(NO_ID)),
+                new PlannedCall("PostSectionRepository.deleteByPostId", false, () -> postSectionRepository.deleteByPostId(NO_ID)),
+                new PlannedCall("PostSectionRepository.findPostIdsWithoutSections", false,
+                        () -> postSectionRepository.findPostIdsWithoutSections(0L, batch)),
+
+                new PlannedCall("ExperienceRepository.findByCompanyCompanyCodeOrderByIdAsc", false,
+                        () -> experienceRepository.findByCompanyCompanyCodeOrderByIdAsc(companyCode)),
+                // 회사 필터 없는 전체 경험 목록 (관리 화면)
+                new PlannedCall("ExperienceRepository.findAllByOrderByIdAsc", true, experienceRepository::findAllByOrderByIdAsc),
+                new PlannedCall("ExperienceRepository.findByMemberCodeOrderByIdAsc", false,
+                        () -> experienceRepository.findByMemberCodeOrderByIdAsc(memberCode)),
+                new PlannedCall("ExperienceRepository.findByMemberCodeAndCompanyCompanyCodeOrderByIdAsc", false,
+                        () -> experienceRepository.findByMemberCodeAndCompanyCompanyCodeOrderByIdAsc(memberCode, companyCode)),
+                new PlannedCall("ExperienceRepository.findByExperienceCode", false,
+                        () -> experienceRepository.findByExperienceCode(SAMPLE)),
+                new PlannedCall("CompanyRepository.findByCompanyCode", false, () -> companyRepository.findByCompanyCode(companyCode)),
+
+                new PlannedCall("ResumeRepository.findTopByOrderByIdAsc", false, resumeRepository::findTopByOrderByIdAsc),
+                new PlannedCall("ResumeRepository.findByMemberCode", false, () -> resumeRepository.findByMemberCode(memberCode)),
+
+                new PlannedCall("AttachmentRepository.findByPostIdOrderByIdAsc", false,
+                        () -> attachmentRepository.findByPostIdOrderByIdAsc(NO_ID)),
+                new PlannedCall("AttachmentRepository.findByIdAndPostId", false,
+                        () -> attachmentRepository.findByIdAndPostId(NO_ID, NO_ID)),
+                new PlannedCall("AttachmentRepository.findFirstByContentHash", false,
+                        () -> attachmentRepository.findFirstByContentHash(SAMPLE)),
+                new PlannedCall("AttachmentRepository.existsByContentHash", false,
+                        () -> attachmentRepository.existsByContentHash(SAMPLE)),
+
+                new PlannedCall("ChangeLogRepository.findBySeqGreaterThanOrderBySeqAsc", false,
+                        () -> changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(0L, PageRequest.of(0, 101))),
+                new PlannedCall("ChangeLogRepository.findMaxSeq", false, changeLogRepository::findMaxSeq),
+                // 압축 배치: 로그 전체를 훑어 이전 기록을 찾는 것이 목적
+                new PlannedCall("ChangeLogRepository.findSupersededSeqs", true,
+                        () -> changeLogRepository.findSupersededSeqs(PageRequest.of(0, 1000))),
+                new PlannedCall("ChangeLogRepository.findMaxSeqCreatedBefore", false,
+                        () -> changeLogRepository.findMaxSeqCreatedBefore(LocalDateTime.now().minusDays(30))),
+                new PlannedCall("ChangeLogRepository.deleteUpTo", false, () -> changeLogRepository.deleteUpTo(NO_ID)),
+                new PlannedCall("ChangeSequenceRepository.findForUpdate", false,
+                        () -> changeSequenceRepository.findForUpdate(ChangeSequence.SINGLETON_ID)),
+
+                new PlannedCall("AuthRepository.findByUsername", false, () -> authRepository.findByUsername(SAMPLE))
+        );
+    }
+
+    /** fullScan: 전체를 읽는 것이 목적인 호출 (EXPLAIN 은 하되 풀 스캔/filesort 를 위반으로 치지 않음) */
+    private record PlannedCall(String name, boolean fullScan, Runnable call) {
+    }
+}
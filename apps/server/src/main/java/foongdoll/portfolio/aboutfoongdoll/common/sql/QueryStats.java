@@ -0,0 +1,197 @@
+package foongdoll.portfolio.aboutfoongdoll.common.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 한 작업 단위(HTTP 요청 등)에서 실행된 SQL 수, JDBC 소요 시간, 엔티티 로드 수를 센다.
+ * - SQL 은 QueryStatsDataSourcePostProcessor 가 감싼 DataSource 에서, 엔티티 로드는 EntityLoadListener 에서 기록
+ * - 현재 스레드에 열린 스코프가 없으면 아무것도 기록하지 않는다
+ * - sectionExecutor 처럼 다른 스레드로 넘기는 작업은 wrap() 으로 같은 인스턴스에 누적
+ *
+ * 같은 SQL 이 반복 실행되면(LAZY 연관을 루프에서 건드리는 전형적인 N+1) repeatedStatements() 로 드러난다.
+ * openCapturingParameters() 스코프에서는 바인딩된 파라미터 값까지 남긴다 (QueryPlanVerifier 가 실제 SQL 을 EXPLAIN 하는 용도).
+ */
+public final class QueryStats {
+
+    public static final String COUNT_HEADER = "X-SQL-Count";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+    public static final String ENTITY_LOADS_HEADER = "X-Entity-Loads";
+    public static final Set<String> HEADERS = Set.of(COUNT_HEADER, TIME_HEADER, ENTITY_LOADS_HEADER);
+
+    private static final int MAX_RECORDED_SQL = 100;
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder jdbcNanos = new LongAdder();
+    private final LongAdder entityLoads = new LongAdder();
+    private final Map<String, LongAdder> countsBySql = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> loadsByEntity = new ConcurrentHashMap<>();
+    private final List<String> recordedSql = Collections.synchronizedList(new ArrayList<>());
+    private final boolean captureParameters;
+    private final List<RecordedStatement> recordedStatements = Collections.synchronizedList(new ArrayList<>());
+
+    /** 실행된 SQL 과 바인딩 순서대로의 파라미터 값 */
+    public record RecordedStatement(String sql, List<Object> parameters) {
+    }
+
+    private QueryStats(boolean captureParameters) {
+        this.captureParameters = captureParameters;
+    }
+
+    // ===================== 스코프 =====================
+
+    /** 현재 스레드에 새 집계를 연다. try-with-resources 로 닫으면 이전 집계가 복원된다. */
+    public static Scope open() {
+        return attach(new QueryStats(false));
+    }
+
+    /** 파라미터 값까지 기록하는 집계를 연다. 실행 계획 점검용이며 요청 경로에서는 쓰지 않는다 */
+    public static Scope openCapturingParameters() {
+        return attach(new QueryStats(true));
+    }
+
+    public static Scope attach(QueryStats stats) {
+        QueryStats previous = CURRENT.get();
+        CURRENT.set(stats);
+        return new Scope(stats, previous);
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /** 호출 스레드의 집계를 작업 스레드로 이어 붙인다 (TaskDecorator 용) */
+    public static Runnable wrap(Runnable task) {
+        QueryStats stats = CURRENT.get();
+        if (stats == null) return task;
+        return () -> {
+            try (Scope ignored = attach(stats)) {
+                task.run();
+            }
+        };
+    }
+
+    public record Scope(QueryStats stats, QueryStats previous) implements AutoCloseable {
+        @Override
+        public void close() {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+
+    // ===================== 기록 =====================
+
+    static boolean capturingParameters() {
+        QueryStats stats = CURRENT.get();
+        return stats != null && stats.captureParameters;
+    }
+
+    static void recordStatement(String sql, List<Object> parameters, long nanos) {
+        QueryStats stats = CURRENT.get();
+        if (stats == null) return;
+        stats.statements.increment();
+        stats.jdbcNanos.add(nanos);
+        String key = sql == null ? "<unknown>" : sql;
+        stats.countsBySql.computeIfAbsent(key, k -> new LongAdder()).increment();
+        if (stats.recordedSql.size() < MAX_RECORDED_SQL) stats.recordedSql.add(key);
+        if (stats.captureParameters && sql != null && stats.recordedStatements.size() < MAX_RECORDED_SQL) {
+            // setNull 로 바인딩된 null 이 있을 수 있으므로 List.copyOf 대신 감싼다
+            List<Object> values = parameters == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(parameters));
+            stats.recordedStatements.add(new RecordedStatement(sql, values));
+        }
+    }
+
+    static void recordEntityLoad(Object entity) {
+        QueryStats stats = CURRENT.get();
+        if (stats == null) return;
+        stats.entityLoads.increment();
+        stats.loadsByEntity.computeIfAbsent(entity.getClass().getSimpleName(), k -> new LongAdder()).increment();
+    }
+
+    // ===================== 조회 =====================
+
+    public long getStatementCount() {
+        return statements.sum();
+    }
+
+    public long getJdbcMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(jdbcNanos.sum());
+    }
+
+    public long getEntityLoadCount() {
+        return entityLoads.sum();
+    }
+
+    public Map<String, Long> getEntityLoads() {
+        Map<String, Long> loads = new LinkedHashMap<>();
+        loadsByEntity.forEach((entity, count) -> loads.put(entity, count.sum()));
+        return loads;
+    }
+
+    /** threshold 번 이상 반복된 SQL (N+1 의심) */
+    public Map<String, Long> repeatedStatements(int threshold) {
+        Map<String, Long> repeated = new LinkedHashMap<>();
+        countsBySql.forEach((sql, count) -> {
+            if (count.sum() >= threshold) repeated.put(sql, count.sum());
+        });
+        return repeated;
+    }
+
+    public List<String> getRecordedSql() {
+        synchronized (recordedSql) {
+            return List.copyOf(recordedSql);
+        }
+    }
+
+    public List<RecordedStatement> getRecordedStatements() {
+        synchronized (recordedStatements) {
+            return List.copyOf(recordedStatements);
+        }
+    }
+
+    // ===================== 검증 API =====================
+
+    /**
+     * work 실행 중 발생한 SQL 수가 expected 와 다르면 AssertionError.
+     * 엔드포인트/서비스별 쿼리 수를 고정해 두는 용도 (예: assertQueryCount(1, () -> experienceService.getExperience(null, SectionView.PUBLIC)))
+     */
+    public static <T> T assertQueryCount(int expected, Supplier<T> work) {
+        try (Scope scope = open()) {
+            T result = work.get();
+            verify(expected, scope.stats());
+            return result;
+        }
+    }
+
+    public static void assertQueryCount(int expected, Runnable work) {
+        assertQueryCount(expected, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private static void verify(int expected, QueryStats stats) {
+        long actual = stats.getStatementCount();
+        if (actual == expected) return;
+        StringBuilder message = new StringBuilder()
+                .append("Expected ").append(expected).append(" SQL statement(s) but ").append(actual).append(" were executed");
+        for (String sql : stats.getRecordedSql()) {
+            message.append("\n  ").append(sql);
+        }
+        throw new AssertionError(message.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "statements=" + getStatementCount() + ", jdbcMs=" + getJdbcMillis() + ", entityLoads=" + getEntityLoadCount();
+    }
+}
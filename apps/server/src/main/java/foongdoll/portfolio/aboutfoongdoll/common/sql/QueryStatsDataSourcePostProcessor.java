@@ -0,0 +1,146 @@
+package foongdoll.portfolio.aboutfoongdoll.common.sql;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * DataSource 빈을 감싸 Statement 실행마다 QueryStats 에 SQL 과 소요 시간을 기록한다.
+ * 별도 라이브러리 없이 Connection/Statement 를 JDK 동적 프록시로 감싼다.
+ * 진행 중인 Observation(요청/서비스 스팬)이 있으면 문장마다 jdbc.statement 스팬도 남긴다 (부모 없는 기동/스케줄 쿼리는 제외).
+ * 파라미터 값은 QueryStats.openCapturingParameters() 스코프에서 만든 문장만 set* 호출을 가로채 기록한다.
+ * (unwrap/isWrapperFor 는 원본으로 위임되므로 Hikari 메트릭/헬스 체크는 그대로 동작)
+ */
+@Component
+@ConditionalOnProperty(name = "app.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final int MAX_SPAN_SQL = 1000;
+
+    private final ObjectProvider<ObservationRegistry> observationRegistryProvider;
+    private volatile ObservationRegistry observationRegistry;
+
+    public QueryStatsDataSourcePostProcessor(ObjectProvider<ObservationRegistry> observationRegistryProvider) {
+        this.observationRegistryProvider = observationRegistryProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+            return new CountingDataSource(dataSource, this);
+        }
+        return bean;
+    }
+
+    static class CountingDataSource extends DelegatingDataSource {
+
+        private final QueryStatsDataSourcePostProcessor owner;
+
+        CountingDataSource(DataSource target, QueryStatsDataSourcePostProcessor owner) {
+            super(target);
+            this.owner = owner;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return owner.connectionProxy(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return owner.connectionProxy(super.getConnection(username, password));
+        }
+    }
+
+    private Connection connectionProxy(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    String name = method.getName();
+                    if (result instanceof Statement statement
+                            && (name.startsWith("prepare") || "createStatement".equals(name))) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                        return statementProxy(statement, method.getReturnType(), sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Object statementProxy(Statement target, Class<?> type, String preparedSql) {
+        // 바인딩 인덱스 -> 값. 점검 스코프 밖에서 만든 문장은 null (요청 경로에는 비용 없음)
+        Map<Integer, Object> parameters = QueryStats.capturingParameters() ? new TreeMap<>() : null;
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                if (parameters != null) captureParameter(parameters, method.getName(), args);
+                return invoke(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            Observation observation = startObservation(method.getName(), sql);
+            long start = System.nanoTime();
+            try {
+                return invoke(target, method, args);
+            } catch (Throwable e) {
+                if (observation != null) observation.error(e);
+                throw e;
+            } finally {
+                QueryStats.recordStatement(sql, parameters == null ? null : new ArrayList<>(parameters.values()),
+                        System.nanoTime() - start);
+                if (observation != null) observation.stop();
+            }
+        };
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static void captureParameter(Map<Integer, Object> parameters, String method, Object[] args) {
+        if ("clearParameters".equals(method)) {
+            parameters.clear();
+            return;
+        }
+        // setString(1, v), setObject(1, v, type), setNull(1, sqlType) ... (setFetchSize 같은 단일 인자 메서드는 제외)
+        if (!method.startsWith("set") || args == null || args.length < 2 || !(args[0] instanceof Integer index)) return;
+        parameters.put(index, "setNull".equals(method) ? null : args[1]);
+    }
+
+    private Observation startObservation(String method, String sql) {
+        ObservationRegistry registry = observationRegistry;
+        if (registry == null) {
+            registry = observationRegistryProvider.getIfAvailable(() -> ObservationRegistry.NOOP);
+            observationRegistry = registry;
+        }
+        if (registry.isNoop() || registry.getCurrentObservation() == null) return null;
+        String statement = sql == null ? "<unknown>" : sql.length() > MAX_SPAN_SQL ? sql.substring(0, MAX_SPAN_SQL) : sql;
+        return Observation.createNotStarted("jdbc.statement", registry)
+                .contextualName("jdbc " + method)
+                .lowCardinalityKeyValue("jdbc.method", method)
+                .highCardinalityKeyValue("db.statement", statement)
+                .start();
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package foongdoll.portfolio.aboutfoongdoll.common.sql;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 개발 환경에서 응답 본문을 쓰기 직전에 X-SQL-Count / X-SQL-Time-Ms / X-Entity-Loads 헤더를 붙인다.
+ * open-in-view=false 라 본문 직렬화 중에는 더 이상 SQL 이 실행되지 않으므로 이 시점의 값이 요청 전체 값이다.
+ */
+@RestControllerAdvice
+public class QueryStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Value("${app.query-stats.expose-headers:false}")
+    private boolean exposeHeaders;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return exposeHeaders;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            response.getHeaders().set(QueryStats.COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+            response.getHeaders().set(QueryStats.TIME_HEADER, String.valueOf(stats.getJdbcMillis()));
+            response.getHeaders().set(QueryStats.ENTITY_LOADS_HEADER, String.valueOf(stats.getEntityLoadCount()));
+        }
+        return body;
+    }
+}
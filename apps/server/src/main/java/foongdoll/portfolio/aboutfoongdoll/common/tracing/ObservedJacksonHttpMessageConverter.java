@@ -0,0 +1,41 @@
+package foongdoll.portfolio.aboutfoongdoll.common.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 응답 JSON 직렬화를 별도 스팬(http.response.serialize)으로 남긴다.
+ * 렌더링(HTML 문자열 생성)과 Jackson 쓰기 중 어디서 시간이 드는지 구분하기 위함.
+ */
+public class ObservedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final ObservationRegistry observationRegistry;
+
+    public ObservedJacksonHttpMessageConverter(ObjectMapper objectMapper, ObservationRegistry observationRegistry) {
+        super(objectMapper);
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Observation observation = Observation.createNotStarted("http.response.serialize", observationRegistry)
+                .lowCardinalityKeyValue("type", object == null ? "null" : object.getClass().getSimpleName())
+                .start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            super.writeInternal(object, type, outputMessage);
+        } catch (IOException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
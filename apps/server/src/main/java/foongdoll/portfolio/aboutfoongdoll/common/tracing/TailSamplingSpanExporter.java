@@ -0,0 +1,173 @@
+package foongdoll.portfolio.aboutfoongdoll.common.tracing;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트레이스 단위 tail sampling. 모든 스팬을 기록(head sampling 100%)한 뒤, 이 노드의 루트 스팬이 끝났을 때 보낼지 정한다.
+ *
+ * 보존 조건: 루트 소요 시간이 slow 이상 / 트레이스 안에 ERROR 스팬 / 그 외는 keepRatio 확률.
+ * - 루트보다 늦게 끝나는 스팬(비동기 파트)은 결정 캐시를 보고 따라간다.
+ * - 루트가 ttl 안에 오지 않은 트레이스(프로세스 종료 중 등)는 느린 스팬이나 오류가 있을 때만 보낸다.
+ * - 버퍼가 maxBufferedSpans 를 넘으면 가장 오래된 트레이스부터 같은 규칙으로 정리한다.
+ *
+ * BatchSpanProcessor 가 한 스레드에서 호출하지만, flush/shutdown 과 겹칠 수 있어 synchronized 로 보호한다.
+ */
+public class TailSamplingSpanExporter implements SpanExporter {
+
+    private static final int MAX_DECISIONS = 10_000;
+
+    private final List<SpanExporter> delegates;
+    private final long slowNanos;
+    private final double keepRatio;
+    private final int maxBufferedSpans;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<String, Pending> pending = new LinkedHashMap<>();
+    private final LinkedHashMap<String, Boolean> decisions = new LinkedHashMap<>(1024, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_DECISIONS;
+        }
+    };
+    private int bufferedSpans;
+    private final AtomicLong keptTraces = new AtomicLong();
+    private final AtomicLong droppedTraces = new AtomicLong();
+
+    private static final class Pending {
+        final List<SpanData> spans = new ArrayList<>();
+        final long firstSeenNanos = System.nanoTime();
+        boolean error;
+        boolean slow;
+    }
+
+    public TailSamplingSpanExporter(List<SpanExporter> delegates, long slowMillis, double keepRatio,
+                                    int maxBufferedSpans, long ttlSeconds) {
+        this.delegates = List.copyOf(delegates);
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(slowMillis);
+        this.keepRatio = keepRatio;
+        this.maxBufferedSpans = maxBufferedSpans;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        List<SpanData> out = new ArrayList<>();
+        synchronized (this) {
+            for (SpanData span : spans) {
+                String traceId = span.getTraceId();
+                Boolean decided = decisions.get(traceId);
+                if (decided != null) {
+                    if (decided) out.add(span);
+                    continue;
+                }
+
+                Pending trace = pending.computeIfAbsent(traceId, k -> new Pending());
+                trace.spans.add(span);
+                bufferedSpans++;
+                if (span.getStatus().getStatusCode() == StatusCode.ERROR) trace.error = true;
+                if (durationNanos(span) >= slowNanos) trace.slow = true;
+
+                if (isLocalRoot(span)) {
+                    boolean keep = trace.slow || trace.error || ThreadLocalRandom.current().nextDouble() < keepRatio;
+                    decide(traceId, keep, out);
+                }
+            }
+            evict(out);
+        }
+        if (out.isEmpty() || delegates.isEmpty()) return CompletableResultCode.ofSuccess();
+        List<CompletableResultCode> results = new ArrayList<>(delegates.size());
+        for (SpanExporter delegate : delegates) results.add(delegate.export(out));
+        return CompletableResultCode.ofAll(results);
+    }
+
+    private void decide(String traceId, boolean keep, List<SpanData> out) {
+        Pending trace = pending.remove(traceId);
+        decisions.put(traceId, keep);
+        if (trace == null) return;
+        bufferedSpans -= trace.spans.size();
+        if (keep) {
+            out.addAll(trace.spans);
+            keptTraces.incrementAndGet();
+        } else {
+            droppedTraces.incrementAndGet();
+        }
+    }
+
+    // 루트가 오지 않은 트레이스 정리 (오래됐거나 버퍼 초과)
+    private void evict(List<SpanData> out) {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<String, Pending>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Pending> eldest = it.next();
+            Pending trace = eldest.getValue();
+            if (bufferedSpans <= maxBufferedSpans && now - trace.firstSeenNanos < ttlNanos) break;
+            it.remove();
+            bufferedSpans -= trace.spans.size();
+            boolean keep = trace.slow || trace.error;
+            decisions.put(eldest.getKey(), keep);
+            if (keep) {
+                out.addAll(trace.spans);
+                keptTraces.incrementAndGet();
+            } else {
+                droppedTraces.incrementAndGet();
+            }
+        }
+    }
+
+    private static boolean isLocalRoot(SpanData span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private static long durationNanos(SpanData span) {
+        return span.getEndEpochNanos() - span.getStartEpochNanos();
+    }
+
+    public long keptTraces() {
+        return keptTraces.get();
+    }
+
+    public long droppedTraces() {
+        return droppedTraces.get();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        List<CompletableResultCode> results = new ArrayList<>(delegates.size());
+        for (SpanExporter delegate : delegates) results.add(delegate.flush());
+        return CompletableResultCode.ofAll(results);
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        // 종료 시 남은 트레이스도 같은 규칙(느림/오류)으로 내보낸다
+        List<SpanData> out = new ArrayList<>();
+        synchronized (this) {
+            for (Map.Entry<String, Pending> e : pending.entrySet()) {
+                if (e.getValue().slow || e.getValue().error) out.addAll(e.getValue().spans);
+            }
+            pending.clear();
+            bufferedSpans = 0;
+        }
+        List<CompletableResultCode> results = new ArrayList<>(delegates.size());
+        for (SpanExporter delegate : delegates) {
+            if (!out.isEmpty()) delegate.export(out);
+            results.add(delegate.shutdown());
+        }
+        return CompletableResultCode.ofAll(results);
+    }
+}
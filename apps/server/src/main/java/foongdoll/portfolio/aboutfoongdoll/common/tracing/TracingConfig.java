@@ -0,0 +1,84 @@
+package foongdoll.portfolio.aboutfoongdoll.common.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 트레이스 내보내기 구성.
+ *
+ * 스팬: HTTP 요청(Spring MVC 기본) > 컨트롤러/서비스(@Observed) > 렌더링 단계(렌더러) > JDBC 문장(QueryStatsDataSourcePostProcessor)
+ *       > 응답 직렬화(ObservedJacksonHttpMessageConverter). sectionExecutor 로 넘어간 파트도 같은 트레이스에 이어진다.
+ * 내보내기: 모든 스팬을 기록하고 TailSamplingSpanExporter 가 트레이스 단위로 골라
+ *          JSON lines 파일(app.tracing.file) 과/또는 OTLP/HTTP 수집기(app.tracing.otlp-endpoint) 로 보낸다.
+ * 로컬 확인: app.tracing.file=build/traces/spans.jsonl 또는 OTLP 수집기(예: otel-collector, Jaeger)를 localhost:4318 에 띄우고
+ *          app.tracing.otlp-endpoint=http://localhost:4318/v1/traces
+ * 둘 다 비어 있으면 내보내기(버퍼링 포함)를 만들지 않고 샘플링도 0 으로 둔다 (@Observed 메트릭은 그대로 남음).
+ */
+@Slf4j
+@Configuration
+public class TracingConfig {
+
+    private static final String EXPORTING = "'${app.tracing.file:}' != '' or '${app.tracing.otlp-endpoint:}' != ''";
+
+    /** 내보낼 곳이 있을 때만 management.tracing.sampling.probability 로 기록한다 (Spring Boot 기본 Sampler 대신) */
+    @Bean
+    public Sampler tracingSampler(@Value("${app.tracing.file:}") String file,
+                                  @Value("${app.tracing.otlp-endpoint:}") String otlpEndpoint,
+                                  @Value("${management.tracing.sampling.probability:0.1}") double probability) {
+        if (!StringUtils.hasText(file) && !StringUtils.hasText(otlpEndpoint)) {
+            log.info("[tracing] no span exporter configured, sampling disabled");
+            return Sampler.alwaysOff();
+        }
+        return Sampler.parentBased(Sampler.traceIdRatioBased(probability));
+    }
+
+    @Bean
+    @ConditionalOnExpression(EXPORTING)
+    public TailSamplingSpanExporter tailSamplingSpanExporter(
+            MeterRegistry meterRegistry,
+            @Value("${app.tracing.file:}") String file,
+            @Value("${app.tracing.otlp-endpoint:}") String otlpEndpoint,
+            @Value("${app.tracing.tail.slow-ms:500}") long slowMs,
+            @Value("${app.tracing.tail.keep-ratio:0.01}") double keepRatio,
+            @Value("${app.tracing.tail.max-buffered-spans:20000}") int maxBufferedSpans,
+            @Value("${app.tracing.tail.ttl-seconds:30}") long ttlSeconds) throws IOException {
+        List<SpanExporter> delegates = new ArrayList<>();
+        if (StringUtils.hasText(file)) {
+            delegates.add(new JsonLinesSpanExporter(Path.of(file)));
+            log.info("[tracing] writing sampled spans to {}", Path.of(file).toAbsolutePath());
+        }
+        if (StringUtils.hasText(otlpEndpoint)) {
+            delegates.add(OtlpHttpSpanExporter.builder().setEndpoint(otlpEndpoint).build());
+            log.info("[tracing] exporting sampled spans to {}", otlpEndpoint);
+        }
+
+        TailSamplingSpanExporter exporter = new TailSamplingSpanExporter(delegates, slowMs, keepRatio, maxBufferedSpans, ttlSeconds);
+        FunctionCounter.builder("app.tracing.tail.kept", exporter, TailSamplingSpanExporter::keptTraces)
+                .description("Traces exported by tail sampling").register(meterRegistry);
+        FunctionCounter.builder("app.tracing.tail.dropped", exporter, TailSamplingSpanExporter::droppedTraces)
+                .description("Traces dropped by tail sampling").register(meterRegistry);
+        return exporter;
+    }
+
+    @Bean
+    public ObservedJacksonHttpMessageConverter observedJacksonHttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   ObservationRegistry observationRegistry) {
+        return new ObservedJacksonHttpMessageConverter(objectMapper, observationRegistry);
+    }
+}
@@ -0,0 +1,187 @@
+package foongdoll.portfolio.aboutfoongdoll.common.warmup;
+
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
+import foongdoll.portfolio.aboutfoongdoll.experience.service.ExperienceService;
+import foongdoll.portfolio.aboutfoongdoll.post.repository.PostRepository;
+import foongdoll.portfolio.aboutfoongdoll.post.service.PostService;
+import foongdoll.portfolio.aboutfoongdoll.resume.service.ResumeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 배포 직후 첫 방문자가 콜드 스타트 비용을 떠안지 않도록 기동 후 백그라운드에서 예열한다.
+ *
+ * 1. 커넥션 풀: 커넥션을 동시에 여러 개 열었다 반납해 Hikari 풀을 미리 채운다 (원격 MySQL 핸드셰이크 비용)
+ * 2. 렌더링/JIT: 이력서, 경험, 카테고리별 첫 페이지를 서비스로 반복 호출한다 (Hibernate 메타데이터, HTML 렌더링 코드)
+ * 3. HTTP: 실제 방문자와 같은 URL/Origin 으로 한 번씩 요청해 필터/Jackson 을 거치고 ResponseCacheFilter 를 채운다
+ *
+ * 끝나거나 deadline 이 지나면 WarmupHealthIndicator 가 UP 이 되어 로드밸런서가 트래픽을 보낸다.
+ */
+@Slf4j
+@Component
+public class StartupWarmup {
+
+    private static final String FIRST_PAGE = "page=0&size=10";  // apps/web 목록 첫 화면과 같은 파라미터
+
+    private final WarmupHealthIndicator indicator;
+    private final DataSource dataSource;
+    private final ResumeService resumeService;
+    private final ExperienceService experienceService;
+    private final PostService postService;
+    private final PostRepository postRepository;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warmup.deadline-seconds:60}")
+    private long deadlineSeconds;
+
+    @Value("${app.warmup.connections:5}")
+    private int connections;
+
+    @Value("${app.warmup.iterations:50}")
+    private int iterations;
+
+    @Value("${app.warmup.origins:${app.cors.allowed-origins:}}")
+    private String origins;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    public StartupWarmup(WarmupHealthIndicator indicator, DataSource dataSource, ResumeService resumeService,
+                         ExperienceService experienceService, PostService postService, PostRepository postRepository) {
+        this.indicator = indicator;
+        this.dataSource = dataSource;
+        this.resumeService = resumeService;
+        this.experienceService = experienceService;
+        this.postService = postService;
+        this.postRepository = postRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady(ApplicationReadyEvent event) {
+        if (!enabled) {
+            indicator.complete();
+            return;
+        }
+        Instant deadline = Instant.now().plusSeconds(deadlineSeconds);
+        indicator.start(deadline);
+
+        int port = event.getApplicationContext() instanceof WebServerApplicationContext web
+                ? web.getWebServer().getPort() : -1;
+        new SimpleAsyncTaskExecutor("warmup-").execute(() -> run(deadline, port));
+    }
+
+    private void run(Instant deadline, int port) {
+        long started = System.nanoTime();
+        try {
+            indicator.phase("connections");
+            openConnections();
+
+            indicator.phase("render");
+            List<String> categories = postRepository.findDistinctCategories();
+            int done = 0;
+            while (done < iterations && Instant.now().isBefore(deadline)) {
+                resumeService.getResume(SectionView.PUBLIC);
+                experienceService.getExperience(null, SectionView.PUBLIC);
+                postService.getPosts(null, 0, 10);
+                for (String category : categories) postService.getPosts(category, 0, 10);
+                done++;
+            }
+
+            if (port > 0 && Instant.now().isBefore(deadline)) {
+                indicator.phase("http");
+                requestPages(port, categories, deadline);
+            }
+
+            log.info("[warmup] done in {} ms ({} render iteration(s), {} categories)",
+                    (System.nanoTime() - started) / 1_000_000, done, categories.size());
+        } catch (RuntimeException e) {
+            log.warn("[warmup] failed, continuing without it: {}", e.getMessage());
+        } finally {
+            indicator.complete();
+        }
+    }
+
+    private void openConnections() {
+        List<Connection> opened = new ArrayList<>();
+        try {
+            for (int i = 0; i < connections; i++) {
+                Connection connection = dataSource.getConnection();
+                opened.add(connection);
+                connection.isValid(2);
+            }
+        } catch (SQLException e) {
+            log.warn("[warmup] could not open connection {}: {}", opened.size() + 1, e.getMessage());
+        } finally {
+            for (Connection connection : opened) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // 반납 실패는 풀이 처리
+                }
+            }
+        }
+    }
+
+    private void requestPages(int port, List<String> categories, Instant deadline) {
+        String base = "http://localhost:" + port + contextPath;
+        List<String> paths = new ArrayList<>(List.of("/api/resume", "/api/experience", "/api/posts?" + FIRST_PAGE));
+        for (String category : categories) {
+            paths.add("/api/posts?" + FIRST_PAGE + "&category=" + URLEncoder.encode(category, StandardCharsets.UTF_8));
+        }
+
+        // ResponseCacheFilter 는 Origin 별로 캐시하므로 실제 방문자가 보낼 Origin 마다 채운다 (같은 출처 배포 대비 Origin 없음 포함)
+        List<String> originHeaders = new ArrayList<>();
+        originHeaders.add(null);
+        Arrays.stream(origins.split(","))
+                .map(String::trim)
+                .filter(o -> StringUtils.hasText(o) && !o.contains("*"))
+                .forEach(originHeaders::add);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        for (String origin : originHeaders) {
+            for (String path : paths) {
+                if (Instant.now().isAfter(deadline)) return;
+                HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(base + path))
+                        .timeout(Duration.ofSeconds(10))
+                        .GET();
+                if (origin != null) request.header(HttpHeaders.ORIGIN, origin);
+                try {
+                    HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        log.debug("[warmup] {} -> {}", path, response.statusCode());
+                    }
+                } catch (IOException e) {
+                    log.warn("[warmup] {} failed: {}", path, e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
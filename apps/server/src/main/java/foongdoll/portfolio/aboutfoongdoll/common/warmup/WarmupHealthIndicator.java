@@ -0,0 +1,46 @@
+package foongdoll.portfolio.aboutfoongdoll.common.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 기동 예열 상태. readiness 그룹에 포함되어 예열이 끝나기 전에는 /actuator/health/readiness 가 OUT_OF_SERVICE 를 돌려준다.
+ * 예열이 deadline 을 넘기면 끝나지 않았더라도 UP 으로 바뀐다 (느린 DB 때문에 인스턴스가 영영 투입되지 않는 일은 없도록).
+ */
+@Component("warmup")
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private volatile boolean completed;
+    private volatile String phase = "pending";
+    private volatile Instant deadline;
+
+    void start(Instant deadline) {
+        this.deadline = deadline;
+        this.phase = "starting";
+    }
+
+    void phase(String phase) {
+        this.phase = phase;
+    }
+
+    void complete() {
+        this.phase = "done";
+        this.completed = true;
+    }
+
+    public boolean isReady() {
+        Instant d = deadline;
+        return completed || (d != null && Instant.now().isAfter(d));
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = isReady() ? Health.up() : Health.outOfService();
+        builder.withDetail("phase", phase);
+        if (!completed && isReady()) builder.withDetail("deadlineExceeded", true);
+        return builder.build();
+    }
+}
@@ -0,0 +1,108 @@
+package foongdoll.portfolio.aboutfoongdoll.config;
+
+import foongdoll.portfolio.aboutfoongdoll.common.resilience.StaleContext;
+import foongdoll.portfolio.aboutfoongdoll.common.sql.QueryStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * /api/sections 병렬 조회용 제한 풀.
+     * 큐가 가득 차면 호출 스레드에서 실행하지 않고 거절하여 해당 파트만 실패 처리한다.
+     * 파트에서 실행된 SQL 도 원 요청의 QueryStats 에 합산되도록 TaskDecorator 로 이어 붙인다.
+     * 트레이스 컨텍스트(Observation)도 같이 넘겨 파트의 서비스/JDBC 스팬이 원 요청 트레이스 아래에 남도록 한다.
+     * 파트가 stale 사본을 내보내면 원 요청의 StaleContext 에 표시된다 (Warning / Age 헤더).
+     */
+    @Bean
+    public ThreadPoolTaskExecutor sectionExecutor(@Value("${app.sections.threads:8}") int threads,
+                                                  @Value("${app.sections.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("section-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        ContextPropagatingTaskDecorator context = new ContextPropagatingTaskDecorator();
+        executor.setTaskDecorator(task -> context.decorate(StaleContext.wrap(QueryStats.wrap(task))));
+        return executor;
+    }
+
+    /**
+     * StaleReads 가 지연 예산(latency-budget-ms)을 걸고 DB 조회를 넘기는 풀.
+     * 큐 없이 스레드가 모두 바쁘면 거절되고, StaleReads 는 호출 스레드에서 예산 없이 바로 조회한다.
+     * 예산을 넘겨 버려진 조회도 끝까지 진행되므로 스레드 수는 커넥션 풀 크기 정도로 둔다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor staleReadExecutor(@Value("${app.stale-reads.threads:10}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("stale-read-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        ContextPropagatingTaskDecorator context = new ContextPropagatingTaskDecorator();
+        executor.setTaskDecorator(task -> context.decorate(QueryStats.wrap(task)));
+        return executor;
+    }
+
+    /**
+     * DB 차단기가 열린 동안 밀린 키를 다시 읽는 스케줄러 (StaleReads).
+     */
+    @Bean
+    public ThreadPoolTaskScheduler staleRefreshScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("stale-refresh-");
+        scheduler.setPoolSize(1);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+
+    /**
+     * 첨부파일 정리(포스트 삭제 후 행 삭제, 유예 시간 뒤 고아 blob 삭제)용 단일 스레드 스케줄러.
+     * 요청 중에 예약되므로 정리 작업의 스팬이 삭제 요청 트레이스에 이어지도록 컨텍스트를 넘긴다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler attachmentCleanupScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("attachment-gc-");
+        scheduler.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        scheduler.setPoolSize(1);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+
+    /**
+     * 변경 피드 압축(이전 기록 제거, 보존 기간 정리)과 클러스터 무효화 폴링용 스케줄러.
+     * 압축이 오래 걸려도 폴링 주기가 밀리지 않도록 스레드 2개.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler changeLogScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("change-log-");
+        scheduler.setPoolSize(2);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+
+    /**
+     * JFR 기록 시간 상한에서 기록을 멈추고 오래된 기록 파일을 정리하는 스케줄러 (diagnostics).
+     */
+    @Bean
+    public ThreadPoolTaskScheduler profilingScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("jfr-");
+        scheduler.setPoolSize(1);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
@@ -0,0 +1,31 @@
+package foongdoll.portfolio.aboutfoongdoll.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Accept 헤더로 고르는 바이너리 응답 형식 (모바일 앱 / 동기화 작업용).
+ *   Accept: application/cbor             -> CBOR
+ *   Accept: application/x-jackson-smile  -> Smile
+ * Spring Boot 의 기본 컨버터 목록에서 같은 타입 자리를 대신하므로 JSON 컨버터가 앞에 남는다.
+ * 그래서 Accept 가 없거나 와일드카드면 지금처럼 JSON 이다.
+ * Boot 의 Jackson 설정(모듈, 날짜 형식 등)을 그대로 쓰도록 prototype 빌더로 만든다 (ObjectMapper 빈을 따로 두지 않음).
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,102 @@
+package foongdoll.portfolio.aboutfoongdoll.config;
+
+import foongdoll.portfolio.aboutfoongdoll.attachment.dto.AttachmentResponse;
+import foongdoll.portfolio.aboutfoongdoll.attachment.entity.Attachment;
+import foongdoll.portfolio.aboutfoongdoll.auth.entity.User;
+import foongdoll.portfolio.aboutfoongdoll.change.dto.ChangeEntry;
+import foongdoll.portfolio.aboutfoongdoll.change.dto.ChangeFeedResponse;
+import foongdoll.portfolio.aboutfoongdoll.change.entity.ChangeLog;
+import foongdoll.portfolio.aboutfoongdoll.change.entity.ChangeSequence;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrGcSummary;
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrHotspot;
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrRecordingResponse;
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrSummaryResponse;
+import foongdoll.portfolio.aboutfoongdoll.experience.dto.ExperienceDisplayItem;
+import foongdoll.portfolio.aboutfoongdoll.experience.dto.ExperienceRequest;
+import foongdoll.portfolio.aboutfoongdoll.experience.dto.ExperienceSectionMetadata;
+import foongdoll.portfolio.aboutfoongdoll.experience.entity.Experience;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PageResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostOutlineItem;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostOutlineResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostRequest;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostSectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostSuggestion;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostTerms;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostText;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.RelatedPost;
+import foongdoll.portfolio.aboutfoongdoll.post.entity.Post;
+import foongdoll.portfolio.aboutfoongdoll.post.entity.PostSection;
+import foongdoll.portfolio.aboutfoongdoll.resume.dto.ResumeRequest;
+import foongdoll.portfolio.aboutfoongdoll.resume.dto.ResumeSectionMetadata;
+import foongdoll.portfolio.aboutfoongdoll.resume.entity.Company;
+import foongdoll.portfolio.aboutfoongdoll.resume.entity.Resume;
+import foongdoll.portfolio.aboutfoongdoll.utils.RequestVO;
+import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.security.SecureRandom;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * GraalVM native-image 용 reachability 메타데이터.
+ * - DTO: SectionResponse.metadata 가 Object 라 AOT 가 실제 타입(폼/타임라인)을 추론하지 못하므로 직접 바인딩 등록
+ * - 엔티티: Hibernate 가 프록시/필드 접근에 쓰는 리플렉션 (Lombok 빌더 내부 클래스 포함)
+ * - BCrypt: gensalt 마다 런타임에 new SecureRandom() 을 생성하므로 생성자 등록
+ * - QueryStats: Connection/Statement 를 JDK 동적 프록시로 감싸므로 프록시 인터페이스 조합 등록
+ * - PostTerms / PostText / PostOutlineItem: JPQL 생성자 표현식(select new ...)으로 만들어지므로 생성자 등록
+ * ExperienceServiceImpl 의 정규식은 static Pattern 이라 별도 힌트가 필요 없다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeRuntimeHints.Registrar.class)
+@RegisterReflectionForBinding({
+        ResponseVO.class, RequestVO.class, SectionResponse.class,
+        PageResponse.class, PostResponse.class, PostRequest.class,
+        ResumeRequest.class, ResumeSectionMetadata.class,
+        ExperienceRequest.class, ExperienceSectionMetadata.class, ExperienceDisplayItem.class,
+        AttachmentResponse.class, PostSuggestion.class, RelatedPost.class,
+        PostOutlineResponse.class, PostOutlineItem.class, PostSectionResponse.class,
+        ChangeFeedResponse.class, ChangeEntry.class,
+        JfrRecordingResponse.class, JfrSummaryResponse.class, JfrHotspot.class, JfrGcSummary.class
+})
+public class NativeRuntimeHints {
+
+    static class Registrar implements RuntimeHintsRegistrar {
+
+        private static final Class<?>[] ENTITIES = {
+                Post.class, Resume.class, Company.class, Experience.class, User.class, Attachment.class,
+                ChangeLog.class, ChangeSequence.class, PostSection.class
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> entity : ENTITIES) {
+                hints.reflection().registerType(entity,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+                // Lombok @Builder 가 생성하는 XxxBuilder 내부 클래스
+                hints.reflection().registerTypeIfPresent(classLoader, entity.getName() + "$" + entity.getSimpleName() + "Builder",
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            hints.reflection().registerType(PostTerms.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            hints.reflection().registerType(PostText.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            hints.reflection().registerType(PostOutlineItem.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            hints.reflection().registerType(SecureRandom.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.proxies().registerJdkProxy(Connection.class);
+            hints.proxies().registerJdkProxy(Statement.class);
+            hints.proxies().registerJdkProxy(PreparedStatement.class);
+            hints.proxies().registerJdkProxy(CallableStatement.class);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package foongdoll.portfolio.aboutfoongdoll.config;
+
+import foongdoll.portfolio.aboutfoongdoll.notification.handler.ChangeNotificationHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import java.util.Arrays;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final ChangeNotificationHandler changeNotificationHandler;
+
+    @Value("${app.cors.allowed-origins:http://3.38.237.211,http://localhost:8080}")
+    private String allowedOriginsProperty;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        String[] origins = Arrays.stream(allowedOriginsProperty.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .toArray(String[]::new);
+
+        registry.addHandler(changeNotificationHandler, "/ws/changes")
+                .setAllowedOriginPatterns(origins);
+    }
+}
@@ -0,0 +1,96 @@
+package foongdoll.portfolio.aboutfoongdoll.diagnostics.controller;
+
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrRecordingResponse;
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrSummaryResponse;
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.service.JfrProfilingService;
+import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 운영 중 JVM 프로파일링 (Java Flight Recorder). 조회를 포함해 모두 로그인 토큰이 필요하다 (UuidAuthFilter: /api/admin/**).
+ *   POST /api/admin/jfr?profile=profile&seconds=60   기록 시작 (동시에 하나, app.jfr.max-duration-seconds / max-bytes 상한)
+ *   POST /api/admin/jfr/{id}/stop                     상한 전에 멈춤
+ *   GET  /api/admin/jfr                               기록 목록
+ *   GET  /api/admin/jfr/{id}                          기록 상태 (state 가 RUNNING 이 아니면 summary / file 사용 가능)
+ *   GET  /api/admin/jfr/{id}/summary                  할당 위치 / 실행 샘플 / 락 경합 / GC 정지 요약
+ *   GET  /api/admin/jfr/{id}/file                     .jfr 원본 (JDK Mission Control 또는 `jfr print` 로 열기)
+ */
+@Observed(name = "app.controller")
+@RestController
+@RequestMapping("/api/admin/jfr")
+@RequiredArgsConstructor
+public class JfrProfilingController {
+
+    private final JfrProfilingService jfrProfilingService;
+
+    @PostMapping
+    public ResponseVO<JfrRecordingResponse> start(@RequestParam(defaultValue = "default") String profile,
+                                                  @RequestParam(required = false) Long seconds) {
+        try {
+            return ResponseVO.ok(jfrProfilingService.start(profile, seconds));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseVO.fail(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{recordingId}/stop")
+    public ResponseVO<JfrRecordingResponse> stop(@PathVariable long recordingId) {
+        try {
+            return ResponseVO.ok(jfrProfilingService.stop(recordingId));
+        } catch (IllegalArgumentException e) {
+            return ResponseVO.fail(e.getMessage());
+        }
+    }
+
+    @GetMapping
+    public ResponseVO<List<JfrRecordingResponse>> getRecordings() {
+        return ResponseVO.ok(jfrProfilingService.getRecordings());
+    }
+
+    @GetMapping("/{recordingId}")
+    public ResponseVO<JfrRecordingResponse> getRecording(@PathVariable long recordingId) {
+        return jfrProfilingService.getRecording(recordingId)
+                .map(ResponseVO::ok)
+                .orElseGet(() -> ResponseVO.fail("Recording not found"));
+    }
+
+    @GetMapping("/{recordingId}/summary")
+    public ResponseVO<JfrSummaryResponse> getSummary(@PathVariable long recordingId) throws IOException {
+        try {
+            return ResponseVO.ok(jfrProfilingService.summarize(recordingId));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseVO.fail(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{recordingId}/file")
+    public void download(@PathVariable long recordingId, HttpServletResponse response) throws IOException {
+        Path file = jfrProfilingService.getFile(recordingId).orElse(null);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setContentLengthLong(Files.size(file));
+        Files.copy(file, response.getOutputStream());
+    }
+}
@@ -0,0 +1,9 @@
+package foongdoll.portfolio.aboutfoongdoll.diagnostics.dto;
+
+import java.util.Map;
+
+public record JfrGcSummary(long collections,
+                           double totalPauseMs,
+                           double maxPauseMs,
+                           Map<String, Long> collectionsByName) {
+}
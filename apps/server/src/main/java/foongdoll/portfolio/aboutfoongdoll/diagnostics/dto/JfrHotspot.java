@@ -0,0 +1,8 @@
+package foongdoll.portfolio.aboutfoongdoll.diagnostics.dto;
+
+/**
+ * 요약의 한 줄. frame 은 "클래스.메서드:줄" (할당이면 뒤에 할당 타입, 락이면 앞에 모니터 타입).
+ * value 의 단위는 목록마다 다르다 (할당: 바이트 추정치, 실행: 샘플 수, 락: 대기 ms).
+ */
+public record JfrHotspot(String frame, long count, long value) {
+}
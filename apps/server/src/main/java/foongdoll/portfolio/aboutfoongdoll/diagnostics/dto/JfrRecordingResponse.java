@@ -0,0 +1,18 @@
+package foongdoll.portfolio.aboutfoongdoll.diagnostics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class JfrRecordingResponse {
+    private long recordingId;
+    private String profile;          // default | profile
+    private String state;            // RUNNING | STOPPED | CLOSED (파일로 쓰고 나면 JFR 이 닫는다)
+    private Instant startTime;
+    private long durationSeconds;    // 요청한 기록 시간 (상한 적용 후)
+    private long maxBytes;           // 기록 크기 상한 (넘으면 오래된 구간부터 버림)
+    private long fileBytes;          // 끝난 기록의 .jfr 크기 (진행 중이면 0)
+}
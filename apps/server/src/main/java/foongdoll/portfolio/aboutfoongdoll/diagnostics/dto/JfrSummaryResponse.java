@@ -0,0 +1,20 @@
+package foongdoll.portfolio.aboutfoongdoll.diagnostics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class JfrSummaryResponse {
+    private long recordingId;
+    private Instant startTime;          // 첫 이벤트 시각
+    private Instant endTime;            // 마지막 이벤트 시각
+    private long events;
+    private List<JfrHotspot> allocationSites;   // 할당 바이트 순
+    private List<JfrHotspot> hotMethods;        // 실행 샘플 순
+    private List<JfrHotspot> lockContention;    // 모니터 진입/park 대기 시간 순
+    private JfrGcSummary gc;
+}
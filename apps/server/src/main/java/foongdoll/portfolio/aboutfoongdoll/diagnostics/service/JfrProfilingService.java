@@ -0,0 +1,24 @@
+package foongdoll.portfolio.aboutfoongdoll.diagnostics.service;
+
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrRecordingResponse;
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrSummaryResponse;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public interface JfrProfilingService {
+
+    JfrRecordingResponse start(String profile, Long durationSeconds);
+
+    JfrRecordingResponse stop(long recordingId);
+
+    List<JfrRecordingResponse> getRecordings();
+
+    Optional<JfrRecordingResponse> getRecording(long recordingId);
+
+    /** 끝난 기록의 .jfr 경로. 없거나 아직 진행 중이면 empty */
+    Optional<Path> getFile(long recordingId);
+
+    JfrSummaryResponse summarize(long recordingId);
+}
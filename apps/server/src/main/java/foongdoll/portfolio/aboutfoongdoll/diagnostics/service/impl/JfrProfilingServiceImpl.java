@@ -0,0 +1,222 @@
+package foongdoll.portfolio.aboutfoongdoll.diagnostics.service.impl;
+
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrRecordingResponse;
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrSummaryResponse;
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.service.JfrProfilingService;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * JFR 기록을 시간/크기 상한 안에서만 돌린다.
+ * - 동시에 하나만 기록한다 (두 기록이 서로의 오버헤드를 재게 되므로).
+ * - 시간 상한: 스케줄러가 요청한 시간에 멈추고, 스케줄러가 밀려도 JFR 자체 duration 이 여유를 두고 멈춘다.
+ * - 크기 상한: maxSize 를 넘으면 JFR 이 오래된 청크부터 버린다 (파일은 최근 구간만 남음).
+ * 끝난 기록은 retain 개까지 디스크에 두고, 새 기록을 시작할 때 오래된 것부터 지운다.
+ */
+@Slf4j
+@Observed(name = "app.service")
+@Service
+public class JfrProfilingServiceImpl implements JfrProfilingService {
+
+    private static final Set<String> PROFILES = Set.of("default", "profile");
+    // 스케줄러 정지가 밀렸을 때 JFR 이 스스로 멈추기까지의 여유
+    private static final long STOP_GRACE_SECONDS = 5;
+
+    private final TaskScheduler scheduler;
+    private final Path directory;
+    private final long defaultDurationSeconds;
+    private final long maxDurationSeconds;
+    private final long maxBytes;
+    private final int retain;
+    private final int top;
+
+    // 시작 순서 (정리는 오래된 것부터)
+    private final LinkedHashMap<Long, Session> sessions = new LinkedHashMap<>();
+
+    public JfrProfilingServiceImpl(@Qualifier("profilingScheduler") TaskScheduler scheduler,
+                                   @Value("${app.jfr.directory:${java.io.tmpdir}/aboutfoongdoll-jfr}") String directory,
+                                   @Value("${app.jfr.default-duration-seconds:30}") long defaultDurationSeconds,
+                                   @Value("${app.jfr.max-duration-seconds:300}") long maxDurationSeconds,
+                                   @Value("${app.jfr.max-bytes:104857600}") long maxBytes,
+                                   @Value("${app.jfr.retain:5}") int retain,
+                                   @Value("${app.jfr.top:20}") int top) {
+        this.scheduler = scheduler;
+        this.directory = Path.of(directory);
+        this.defaultDurationSeconds = defaultDurationSeconds;
+        this.maxDurationSeconds = maxDurationSeconds;
+        this.maxBytes = maxBytes;
+        this.retain = Math.max(1, retain);
+        this.top = top;
+    }
+
+    private static final class Session {
+        final Recording recording;
+        final String profile;
+        final Instant startTime;
+        final long durationSeconds;
+        final Path file;
+        volatile boolean finished;
+        ScheduledFuture<?> stopTask;
+        JfrSummaryResponse summary;
+
+        Session(Recording recording, String profile, long durationSeconds, Path file) {
+            this.recording = recording;
+            this.profile = profile;
+            this.startTime = Instant.now();
+            this.durationSeconds = durationSeconds;
+            this.file = file;
+        }
+    }
+
+    @Override
+    public synchronized JfrRecordingResponse start(String profile, Long durationSeconds) {
+        String name = profile == null ? "default" : profile.trim().toLowerCase(Locale.ROOT);
+        if (!PROFILES.contains(name)) throw new IllegalArgumentException("Unknown profile (default|profile)");
+        long seconds = durationSeconds == null ? defaultDurationSeconds : durationSeconds;
+        if (seconds < 1 || seconds > maxDurationSeconds) {
+            throw new IllegalArgumentException("Duration must be between 1 and " + maxDurationSeconds + " seconds");
+        }
+        if (sessions.values().stream().anyMatch(s -> !s.finished)) throw new IllegalStateException("Recording already running");
+
+        Recording recording;
+        Path file;
+        try {
+            Files.createDirectories(directory);
+            recording = new Recording(Configuration.getConfiguration(name));
+            file = directory.resolve("recording-" + recording.getId() + ".jfr");
+            recording.setName("aboutfoongdoll-" + recording.getId());
+            recording.setToDisk(true);
+            recording.setMaxSize(maxBytes);
+            recording.setDuration(Duration.ofSeconds(seconds + STOP_GRACE_SECONDS));
+            recording.setDestination(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("JFR configuration unavailable: " + name, e);
+        }
+
+        recording.start();
+        Session session = new Session(recording, name, seconds, file);
+        sessions.put(recording.getId(), session);
+        session.stopTask = scheduler.schedule(() -> finish(session), session.startTime.plusSeconds(seconds));
+        prune();
+        log.info("[jfr] recording {} started (profile={}, {}s, max {} bytes) -> {}",
+                recording.getId(), name, seconds, maxBytes, file);
+        return toResponse(session);
+    }
+
+    @Override
+    public JfrRecordingResponse stop(long recordingId) {
+        Session session = session(recordingId);
+        if (session.stopTask != null) session.stopTask.cancel(false);
+        finish(session);
+        return toResponse(session);
+    }
+
+    @Override
+    public synchronized List<JfrRecordingResponse> getRecordings() {
+        List<JfrRecordingResponse> result = new ArrayList<>(sessions.size());
+        for (Session session : sessions.values()) result.add(toResponse(session));
+        return result;
+    }
+
+    @Override
+    public synchronized Optional<JfrRecordingResponse> getRecording(long recordingId) {
+        return Optional.ofNullable(sessions.get(recordingId)).map(this::toResponse);
+    }
+
+    @Override
+    public synchronized Optional<Path> getFile(long recordingId) {
+        Session session = sessions.get(recordingId);
+        if (session == null || !session.finished || !Files.exists(session.file)) return Optional.empty();
+        return Optional.of(session.file);
+    }
+
+    @Override
+    public JfrSummaryResponse summarize(long recordingId) throws IOException {
+        Session session = session(recordingId);
+        if (!session.finished) throw new IllegalStateException("Recording still running");
+        // 같은 기록은 한 번만 읽는다 (최대 max-bytes 파일 전체를 훑으므로)
+        synchronized (session) {
+            if (session.summary == null) {
+                session.summary = JfrRecordingSummarizer.summarize(recordingId, session.file, top);
+            }
+            return session.summary;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        for (Session session : sessions.values()) session.recording.close();
+    }
+
+    private synchronized Session session(long recordingId) {
+        Session session = sessions.get(recordingId);
+        if (session == null) throw new IllegalArgumentException("Recording not found");
+        return session;
+    }
+
+    /** 기록을 멈추고 destination 에 쓴다. 스케줄러와 수동 정지가 겹치면 늦은 쪽은 JFR 이 이미 멈췄음을 보고 넘어간다 */
+    private void finish(Session session) {
+        try {
+            if (session.recording.getState() == RecordingState.RUNNING) session.recording.stop();
+        } catch (IllegalStateException ignored) {
+            // 이미 멈춤 (JFR duration 상한 또는 다른 정지 요청)
+        }
+        session.finished = true;
+        log.info("[jfr] recording {} finished ({} bytes)", session.recording.getId(), fileSize(session));
+    }
+
+    private void prune() {
+        Iterator<Session> it = sessions.values().iterator();
+        while (sessions.size() > retain && it.hasNext()) {
+            Session eldest = it.next();
+            if (!eldest.finished) continue;
+            it.remove();
+            eldest.recording.close();
+            try {
+                Files.deleteIfExists(eldest.file);
+            } catch (IOException e) {
+                log.warn("[jfr] failed to delete {}: {}", eldest.file, e.getMessage());
+            }
+        }
+    }
+
+    private JfrRecordingResponse toResponse(Session session) {
+        return new JfrRecordingResponse(session.recording.getId(), session.profile,
+                session.recording.getState().name(), session.startTime, session.durationSeconds,
+                maxBytes, session.finished ? fileSize(session) : 0);
+    }
+
+    private static long fileSize(Session session) {
+        try {
+            return Files.exists(session.file) ? Files.size(session.file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package foongdoll.portfolio.aboutfoongdoll.diagnostics.service.impl;
+
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrGcSummary;
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrHotspot;
+import foongdoll.portfolio.aboutfoongdoll.diagnostics.dto.JfrSummaryResponse;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * .jfr 파일을 한 번 훑어 이벤트 종류별로 집계한다 (이벤트를 메모리에 모으지 않고 스트리밍).
+ * - 할당: jdk.ObjectAllocationSample 의 weight (JDK 16+ 기본). 없으면 TLAB 이벤트 크기로 대신한다.
+ *         위치는 이 앱 코드의 첫 프레임 (Arrays.copyOf 같은 JDK 내부보다 고칠 곳을 가리키도록)
+ * - 실행: jdk.ExecutionSample 의 맨 위 프레임 (실제로 CPU 를 쓰는 메서드)
+ * - 락: jdk.JavaMonitorEnter(synchronized) / jdk.ThreadPark(j.u.c 락) 대기 시간, 모니터 타입 + 대기 위치
+ * - GC: jdk.GarbageCollection 의 정지 합/최대
+ */
+final class JfrRecordingSummarizer {
+
+    private static final String APP_PACKAGE = "foongdoll.";
+
+    private JfrRecordingSummarizer() {
+    }
+
+    private static final class Tally {
+        long count;
+        long value;
+    }
+
+    static JfrSummaryResponse summarize(long recordingId, Path file, int top) throws IOException {
+        Map<String, Tally> sampledAllocations = new HashMap<>();
+        Map<String, Tally> tlabAllocations = new HashMap<>();
+        Map<String, Tally> executionSamples = new HashMap<>();
+        Map<String, Tally> lockWaits = new HashMap<>();
+        Map<String, Long> gcByName = new TreeMap<>();
+        long gcCount = 0;
+        long gcPauseNanos = 0;
+        long gcMaxPauseNanos = 0;
+        Instant first = null;
+        Instant last = null;
+        long events = 0;
+
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                events++;
+                Instant time = event.getStartTime();
+                if (first == null || time.isBefore(first)) first = time;
+                if (last == null || time.isAfter(last)) last = time;
+
+                switch (event.getEventType().getName()) {
+                    case "jdk.ObjectAllocationSample" ->
+                            add(sampledAllocations, allocationSite(event), event.getLong("weight"));
+                    case "jdk.ObjectAllocationInNewTLAB" ->
+                            add(tlabAllocations, allocationSite(event), event.getLong("tlabSize"));
+                    case "jdk.ObjectAllocationOutsideTLAB" ->
+                            add(tlabAllocations, allocationSite(event), event.getLong("allocationSize"));
+                    case "jdk.ExecutionSample" ->
+                            add(executionSamples, frame(topFrame(event.getStackTrace())), 1);
+                    case "jdk.JavaMonitorEnter" ->
+                            add(lockWaits, className(event, "monitorClass") + " @ " + frame(appFrame(event.getStackTrace())),
+                                    event.getDuration().toNanos());
+                    case "jdk.ThreadPark" ->
+                            add(lockWaits, className(event, "parkedClass") + " @ " + frame(appFrame(event.getStackTrace())),
+                                    event.getDuration().toNanos());
+                    case "jdk.GarbageCollection" -> {
+                        Duration longest = event.getDuration("longestPause");
+                        gcCount++;
+                        gcPauseNanos += event.getDuration("sumOfPauses").toNanos();
+                        gcMaxPauseNanos = Math.max(gcMaxPauseNanos, longest.toNanos());
+                        gcByName.merge(event.getString("name"), 1L, Long::sum);
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        Map<String, Tally> allocations = sampledAllocations.isEmpty() ? tlabAllocations : sampledAllocations;
+        return new JfrSummaryResponse(recordingId, first, last, events,
+                top(allocations, top, 1),
+                top(executionSamples, top, 1),
+                top(lockWaits, top, 1_000_000),
+                new JfrGcSummary(gcCount, gcPauseNanos / 1e6, gcMaxPauseNanos / 1e6, gcByName));
+    }
+
+    private static void add(Map<String, Tally> tallies, String key, long value) {
+        Tally tally = tallies.computeIfAbsent(key, k -> new Tally());
+        tally.count++;
+        tally.value += value;
+    }
+
+    private static List<JfrHotspot> top(Map<String, Tally> tallies, int limit, long divisor) {
+        return tallies.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Tally> e) -> e.getValue().value).reversed())
+                .limit(limit)
+                .map(e -> new JfrHotspot(e.getKey(), e.getValue().count, e.getValue().value / divisor))
+                .toList();
+    }
+
+    private static String allocationSite(RecordedEvent event) {
+        return frame(appFrame(event.getStackTrace())) + " (" + className(event, "objectClass") + ")";
+    }
+
+    private static RecordedFrame topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) return null;
+        return stackTrace.getFrames().get(0);
+    }
+
+    /** 이 앱 패키지의 첫 프레임. 없으면(JDK/라이브러리 스레드) 맨 위 프레임 */
+    private static RecordedFrame appFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return null;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            RecordedMethod method = frame.getMethod();
+            if (method != null && method.getType().getName().startsWith(APP_PACKAGE)) return frame;
+        }
+        return topFrame(stackTrace);
+    }
+
+    private static String frame(RecordedFrame frame) {
+        if (frame == null || frame.getMethod() == null) return "(unknown)";
+        RecordedMethod method = frame.getMethod();
+        String location = method.getType().getName() + "." + method.getName();
+        return frame.getLineNumber() > 0 ? location + ":" + frame.getLineNumber() : location;
+    }
+
+    private static String className(RecordedEvent event, String field) {
+        RecordedClass type = event.hasField(field) ? event.getClass(field) : null;
+        return type == null ? "?" : type.getName();
+    }
+}
@@ -1,9 +1,13 @@
 package foongdoll.portfolio.aboutfoongdoll.experience.controller;
 
 import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
 import foongdoll.portfolio.aboutfoongdoll.experience.dto.ExperienceRequest;
 import foongdoll.portfolio.aboutfoongdoll.experience.service.ExperienceService;
+import foongdoll.portfolio.aboutfoongdoll.filter.UuidAuthFilter;
 import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+@Observed(name = "app.controller")
 @RestController
 @RequestMapping("/api/experience")
 @RequiredArgsConstructor
@@ -20,9 +25,19 @@ public class ExperienceController {
 
     private final ExperienceService experienceService;
 
+    /** ?view=public|editor&fields=header,content (SectionView) */
     @GetMapping
-    public ResponseVO<SectionResponse> getExperience(@RequestParam(value = "company", required = false) String companyCode) {
-        return experienceService.getExperience(companyCode)
+    public ResponseVO<SectionResponse> getExperience(@RequestParam(value = "company", required = false) String companyCode,
+                                                     @RequestParam(value = "view", required = false) String view,
+                                                     @RequestParam(value = "fields", required = false) String fields,
+                                                     HttpServletRequest request) {
+        SectionView sectionView;
+        try {
+            sectionView = SectionView.of(view, fields, UuidAuthFilter.isAuthenticated(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseVO.fail(e.getMessage());
+        }
+        return experienceService.getExperience(companyCode, sectionView)
                 .map(ResponseVO::ok)
                 .orElseGet(() -> ResponseVO.fail("Experience not found"));
     }
@@ -24,4 +24,5 @@ public class ExperienceRequest {
     private String techStack;
     private String keywords;
     private String details;
+    private String memberCode;   // 소유 포트폴리오 (생략 시 변경하지 않음)
 }
@@ -1,11 +1,16 @@
 package foongdoll.portfolio.aboutfoongdoll.experience.entity;
 
+import foongdoll.portfolio.aboutfoongdoll.common.sql.EntityLoadListener;
 import foongdoll.portfolio.aboutfoongdoll.resume.entity.Company;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "experience")
+@EntityListeners(EntityLoadListener.class)
+@Table(name = "experience", indexes = {
+        @Index(name = "idx_experience_company_id", columnList = "company_id, experience_id"),
+        @Index(name = "idx_experience_member_id", columnList = "member_code, experience_id")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Experience {
@@ -21,6 +26,9 @@ public class Experience {
     @Column(nullable = false, length = 100)
     private String name; // 경력 이름
 
+    @Column(name = "member_code", length = 64)
+    private String memberCode; // 소유 포트폴리오 (Resume.memberCode)
+
     // 소속 회사 (FK)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false)
@@ -15,5 +15,11 @@ public interface ExperienceRepository extends JpaRepository<Experience, Long> {
     @EntityGraph(attributePaths = "company")
     List<Experience> findAllByOrderByIdAsc();
 
+    @EntityGraph(attributePaths = "company")
+    List<Experience> findByMemberCodeOrderByIdAsc(String memberCode);
+
+    @EntityGraph(attributePaths = "company")
+    List<Experience> findByMemberCodeAndCompanyCompanyCodeOrderByIdAsc(String memberCode, String companyCode);
+
     Optional<Experience> findByExperienceCode(String experienceCode);
 }
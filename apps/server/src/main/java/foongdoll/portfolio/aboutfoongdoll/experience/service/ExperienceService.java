@@ -1,13 +1,18 @@
 package foongdoll.portfolio.aboutfoongdoll.experience.service;
 
 import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
 import foongdoll.portfolio.aboutfoongdoll.experience.dto.ExperienceRequest;
 
 import java.util.Optional;
 
 public interface ExperienceService {
 
-    Optional<SectionResponse> getExperience(String companyCode);
+    /** 고르지 않은 부분은 렌더링하지 않는다 (SectionView) */
+    Optional<SectionResponse> getExperience(String companyCode, SectionView view);
+
+    /** memberCode(포트폴리오) 소유 경험만 조회 (companyCode 는 선택) */
+    Optional<SectionResponse> getExperience(String memberCode, String companyCode, SectionView view);
 
     SectionResponse saveExperience(ExperienceRequest request);
 
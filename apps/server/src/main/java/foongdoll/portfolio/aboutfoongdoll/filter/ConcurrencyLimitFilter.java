@@ -0,0 +1,117 @@
+package foongdoll.portfolio.aboutfoongdoll.filter;
+
+import foongdoll.portfolio.aboutfoongdoll.common.limit.ConcurrencyLimiter;
+import foongdoll.portfolio.aboutfoongdoll.common.limit.GradientLimit;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * /api/** 입장 제어. 공개 조회(GET)와 관리자 쓰기는 한도를 따로 가진다 (쓰기 폭주가 조회를 막지 않도록, 반대도 마찬가지).
+ * 한도는 GradientLimit 이 응답 시간으로 조정하며, 넘친 요청은 컨트롤러/DB 에 닿기 전에 503 + Retry-After 로 거절한다.
+ *
+ * ResponseCacheFilter 뒤에서 동작하므로 캐시 적중은 한도를 쓰지 않는다.
+ * 관리자 조회(/api/admin/**)는 공개 조회 한도를 쓰지 않도록 관리자 쪽으로 보낸다.
+ * 첨부 파일 다운로드(/api/attachments/**)는 전송 시간이 DB 지연과 무관하므로 제외.
+ * 메트릭: app.concurrency.limit / inflight / long-rtt (gauge), accepted / rejected (counter), 태그 lane=public|admin
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] BUSY_BODY = "{\"success\":false,\"message\":\"Server busy\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final ConcurrencyLimiter publicLimiter;
+    private final ConcurrencyLimiter adminLimiter;
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${app.concurrency-limit.enabled:true}") boolean enabled,
+                                  @Value("${app.concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds,
+                                  @Value("${app.concurrency-limit.long-window:600}") int longWindow,
+                                  @Value("${app.concurrency-limit.public.initial:20}") int publicInitial,
+                                  @Value("${app.concurrency-limit.public.min:4}") int publicMin,
+                                  @Value("${app.concurrency-limit.public.max:200}") int publicMax,
+                                  @Value("${app.concurrency-limit.admin.initial:4}") int adminInitial,
+                                  @Value("${app.concurrency-limit.admin.min:1}") int adminMin,
+                                  @Value("${app.concurrency-limit.admin.max:16}") int adminMax) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.publicLimiter = new ConcurrencyLimiter("public", new GradientLimit(publicInitial, publicMin, publicMax, longWindow));
+        this.adminLimiter = new ConcurrencyLimiter("admin", new GradientLimit(adminInitial, adminMin, adminMax, longWindow));
+        register(meterRegistry, publicLimiter);
+        register(meterRegistry, adminLimiter);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || HttpMethod.OPTIONS.matches(request.getMethod())) return true;
+        String path = UuidAuthFilter.pathWithinApplication(request);
+        return !path.startsWith("/api/") || path.startsWith("/api/attachments/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        boolean read = (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod()))
+                && !UuidAuthFilter.isAdminPath(UuidAuthFilter.pathWithinApplication(request));
+        ConcurrencyLimiter limiter = read ? publicLimiter : adminLimiter;
+
+        int inflight = limiter.tryAcquire();
+        if (inflight < 0) {
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            // 비동기 처리로 넘어간 요청은 응답 시간을 알 수 없으므로 한도 계산에서 제외
+            limiter.release(System.nanoTime() - start, inflight, dropped, !request.isAsyncStarted());
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(BUSY_BODY.length);
+        response.getOutputStream().write(BUSY_BODY);
+    }
+
+    private static void register(MeterRegistry registry, ConcurrencyLimiter limiter) {
+        String lane = limiter.getName();
+        Gauge.builder("app.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                .tag("lane", lane).description("현재 동시 처리 한도").register(registry);
+        Gauge.builder("app.concurrency.inflight", limiter, ConcurrencyLimiter::getInflight)
+                .tag("lane", lane).description("처리 중인 요청 수").register(registry);
+        Gauge.builder("app.concurrency.long-rtt", limiter, ConcurrencyLimiter::getLongRttMillis)
+                .tag("lane", lane).baseUnit("milliseconds").description("장기 평균 응답 시간").register(registry);
+        FunctionCounter.builder("app.concurrency.accepted", limiter, ConcurrencyLimiter::getAccepted)
+                .tag("lane", lane).register(registry);
+        FunctionCounter.builder("app.concurrency.rejected", limiter, ConcurrencyLimiter::getRejected)
+                .tag("lane", lane).description("한도 초과로 503 응답한 요청 수").register(registry);
+    }
+}
@@ -0,0 +1,72 @@
+package foongdoll.portfolio.aboutfoongdoll.filter;
+
+import foongdoll.portfolio.aboutfoongdoll.common.sql.QueryStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * /api/** 요청마다 QueryStats 스코프를 열고, 끝난 뒤 예산(SQL 수 / JDBC 시간)을 넘었거나
+ * 같은 SQL 이 반복 실행된(N+1 의심) 요청을 경고 로그로 남긴다.
+ * 응답 헤더 노출은 QueryStatsResponseAdvice 가 담당 (본문 쓰기 전에 붙여야 하므로).
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    @Value("${app.query-stats.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.query-stats.max-statements:8}")
+    private int maxStatements;
+
+    @Value("${app.query-stats.max-jdbc-ms:300}")
+    private long maxJdbcMillis;
+
+    @Value("${app.query-stats.n-plus-one-threshold:3}")
+    private int nPlusOneThreshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        try (QueryStats.Scope scope = QueryStats.open()) {
+            filterChain.doFilter(request, response);
+            report(request, scope.stats());
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryStats stats) {
+        String target = request.getMethod() + " " + request.getRequestURI()
+                + (request.getQueryString() == null ? "" : "?" + request.getQueryString());
+
+        if (stats.getStatementCount() > maxStatements || stats.getJdbcMillis() > maxJdbcMillis) {
+            log.warn("[query-budget] {} exceeded budget ({} statements / {}ms, limit {} / {}ms) entityLoads={}",
+                    target, stats.getStatementCount(), stats.getJdbcMillis(), maxStatements, maxJdbcMillis,
+                    stats.getEntityLoads());
+        }
+
+        Map<String, Long> repeated = stats.repeatedStatements(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            repeated.forEach((sql, count) ->
+                    log.warn("[query-budget] {} possible N+1: {} executions of {}", target, count, sql));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package foongdoll.portfolio.aboutfoongdoll.filter;
+
+import foongdoll.portfolio.aboutfoongdoll.common.cache.ResponseCacheStore;
+import foongdoll.portfolio.aboutfoongdoll.common.cache.ResponseCacheStore.CachedResponse;
+import foongdoll.portfolio.aboutfoongdoll.common.event.ContentChangeEvent;
+import foongdoll.portfolio.aboutfoongdoll.common.sql.QueryStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 익명 GET /api/** 응답을 통째로 캐시하는 필터.
+ * UuidAuthFilter 가 GET 은 모두 통과시키므로 공개 조회 결과는 방문자와 무관하게 동일하다.
+ * 캐시 적중 시 Spring MVC 디스패치/서비스/Jackson 을 전혀 거치지 않고 저장된 바이트를 그대로 쓴다.
+ * 무효화는 HTTP 메서드가 아니라 커밋된 ContentChangeEvent 기준이다.
+ * 내용이 같아 쓰기가 생략된 PUT/PATCH 는 이벤트가 없으므로 캐시도 유지되고, 관리 화면(Vaadin) 쓰기도 같은 경로로 반영된다.
+ * 응답 형식이 Accept 로 갈리므로(BinaryFormatConfig) 바이너리 형식을 요청한 경우 Accept 를 키에 넣고 Vary: Accept 를 붙인다.
+ * DB 장애로 마지막 정상 사본을 내보낸 응답(Warning 헤더, StaleReads)과 Cache-Control: no-store 응답(일부 파트가 빠진 /api/sections)은 저장하지 않는다.
+ * 무효화보다 먼저 시작한 조회의 응답도 저장하지 않는다 (ResponseCacheStore 의 태그 세대 비교).
+ * 메모리 색인으로 답하는 경로(자동완성, 관련 글)는 캐시하지 않는다. 이미 DB 를 치지 않고,
+ * 색인 갱신과 캐시 무효화가 같은 이벤트의 다른 리스너라 순서에 따라 이전 결과가 다시 저장될 수 있으며, 접두어마다 키가 생겨 LRU 를 밀어낸다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_HEADER = "X-Cache";
+
+    // JSON 외 형식을 고를 수 있는 미디어 타입. Accept 에 없으면 응답은 항상 JSON 이므로 키를 나누지 않는다
+    private static final List<String> BINARY_TYPES = List.of("application/cbor", "application/x-jackson-smile");
+
+    private static final String POSTS = "posts";
+    private static final String RESUME = "resume";
+    private static final String EXPERIENCE = "experience";
+
+    // 리소스 prefix -> 응답이 의존하는 태그
+    private static final Map<String, Set<String>> RESOURCE_TAGS = Map.of(
+            "/api/posts", Set.of(POSTS),
+            "/api/resume", Set.of(RESUME),
+            "/api/experience", Set.of(EXPERIENCE),
+            "/api/sections", Set.of(POSTS, RESUME, EXPERIENCE)
+    );
+
+    // 메모리 색인으로 답하므로 캐시하지 않는 경로
+    private static final Set<String> UNCACHED = Set.of("/api/posts/suggest");
+    private static final String RELATED_SUFFIX = "/related";
+
+    // 변경 이벤트 타입 -> 무효화할 태그
+    private static final Map<String, String> EVENT_TAGS = Map.of(
+            ContentChangeEvent.POST, POSTS,
+            ContentChangeEvent.RESUME, RESUME,
+            ContentChangeEvent.EXPERIENCE, EXPERIENCE
+    );
+
+    private final ResponseCacheStore store;
+
+    @Value("${app.response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || resourceTags(pathOf(request)) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        if (!HttpMethod.GET.matches(request.getMethod()) || !isAnonymous(request) || isUncached(pathOf(request))) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            filterChain.doFilter(request, response);
+            return;
+        }
+        serveCached(request, response, filterChain, resourceTags(pathOf(request)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentChange(ContentChangeEvent event) {
+        String tag = EVENT_TAGS.get(event.getType());
+        if (tag != null) store.invalidate(tag);
+    }
+
+    private void serveCached(HttpServletRequest request, HttpServletResponse response,
+                             FilterChain filterChain, Set<String> tags) throws ServletException, IOException {
+        String key = cacheKey(request);
+        CachedResponse cached = store.get(key);
+        if (cached != null) {
+            write(cached, response);
+            return;
+        }
+
+        // 디스패치 전에 세대를 받아 둔다. 조회 중에 커밋된 변경이 있으면 이 응답은 저장하지 않는다
+        long generation = store.generation(tags);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.setHeader(CACHE_HEADER, "MISS");
+        wrapper.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        filterChain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && !request.isAsyncStarted()
+                && wrapper.getHeader(HttpHeaders.WARNING) == null && !isNoStore(wrapper)) {
+            store.put(key, capture(wrapper, tags), generation);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private CachedResponse capture(ContentCachingResponseWrapper wrapper, Set<String> tags) {
+        List<Map.Entry<String, String>> headers = new ArrayList<>();
+        for (String name : wrapper.getHeaderNames()) {
+            if (HttpHeaders.SET_COOKIE.equalsIgnoreCase(name)
+                    || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                    || HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)
+                    || CACHE_HEADER.equalsIgnoreCase(name)
+                    || QueryStats.HEADERS.contains(name)) continue;
+            for (String value : wrapper.getHeaders(name)) {
+                headers.add(new AbstractMap.SimpleImmutableEntry<>(name, value));
+            }
+        }
+        return new CachedResponse(wrapper.getStatus(), wrapper.getContentType(), List.copyOf(headers),
+                wrapper.getContentAsByteArray(), tags);
+    }
+
+    private void write(CachedResponse cached, HttpServletResponse response) throws IOException {
+        response.setStatus(cached.getStatus());
+        for (Map.Entry<String, String> h : cached.getHeaders()) {
+            response.addHeader(h.getKey(), h.getValue());
+        }
+        response.setHeader(CACHE_HEADER, "HIT");
+        if (cached.getContentType() != null) response.setContentType(cached.getContentType());
+        response.setContentLength(cached.getBody().length);
+        response.getOutputStream().write(cached.getBody());
+    }
+
+    /** Origin 은 CORS 응답 헤더가 달라지므로 키에 포함, 쿼리는 파라미터명 정렬로 정규화, 바이너리 형식 요청은 Accept 포함 */
+    private String cacheKey(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder();
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        key.append(origin == null ? "" : origin).append('|').append(formatOf(request)).append('|').append(pathOf(request));
+
+        Map<String, String[]> params = new TreeMap<>(request.getParameterMap());
+        char sep = '?';
+        for (Map.Entry<String, String[]> p : params.entrySet()) {
+            for (String value : p.getValue()) {
+                key.append(sep)
+                        .append(URLEncoder.encode(p.getKey(), StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                sep = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    private static String formatOf(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) return "";
+        String normalized = accept.toLowerCase(Locale.ROOT);
+        for (String type : BINARY_TYPES) {
+            if (normalized.contains(type)) return normalized.replace(" ", "");
+        }
+        return "";
+    }
+
+    private boolean isAnonymous(HttpServletRequest request) {
+        if (request.getHeader(HttpHeaders.AUTHORIZATION) != null) return false;
+        HttpSession session = request.getSession(false);
+        return session == null || session.getAttribute("token") == null;
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String context = request.getContextPath();
+        String path = uri.substring(context.length());
+        // 끝 슬래시 정규화 (/api/posts/ == /api/posts)
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static boolean isNoStore(HttpServletResponse response) {
+        String cacheControl = response.getHeader(HttpHeaders.CACHE_CONTROL);
+        return cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-store");
+    }
+
+    private static boolean isUncached(String path) {
+        return UNCACHED.contains(path) || (path.startsWith("/api/posts/") && path.endsWith(RELATED_SUFFIX));
+    }
+
+    private static Set<String> resourceTags(String path) {
+        for (Map.Entry<String, Set<String>> r : RESOURCE_TAGS.entrySet()) {
+            String prefix = r.getKey();
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) return r.getValue();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package foongdoll.portfolio.aboutfoongdoll.filter;
+
+import foongdoll.portfolio.aboutfoongdoll.common.resilience.StaleContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * /api/** 요청마다 StaleContext 스코프를 연다. 헤더는 StaleResponseAdvice 가 본문 쓰기 전에 붙인다.
+ * ResponseCacheFilter 보다 안쪽이어야 응답 캐시가 Warning 헤더를 보고 stale 응답을 저장하지 않는다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 15)
+public class StaleReadFilter extends OncePerRequestFilter {
+
+    @Value("${app.stale-reads.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        try (StaleContext.Scope ignored = StaleContext.open()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
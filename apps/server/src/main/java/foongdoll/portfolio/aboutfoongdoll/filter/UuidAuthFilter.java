@@ -13,15 +13,21 @@ import java.io.IOException;
 @Component
 public class UuidAuthFilter extends OncePerRequestFilter {
 
+    // 조회라도 토큰이 필요한 관리자 경로 (JFR 기록 등)
+    private static final String ADMIN_PREFIX = "/api/admin/";
+    // 액추에이터는 헬스체크(로드밸런서)만 공개, 메트릭 등 나머지는 토큰 필요
+    private static final String ACTUATOR = "/actuator";
+    private static final String HEALTH = "/actuator/health";
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String uri = request.getRequestURI();
+        String path = pathWithinApplication(request);
         String method = request.getMethod();
 
-        if (HttpMethod.OPTIONS.matches(method) || HttpMethod.GET.matches(method) || "/api/auth/login".equals(uri) || "/api/auth/join".equals(uri)) {
+        if (HttpMethod.OPTIONS.matches(method) || (HttpMethod.GET.matches(method) && !isProtectedRead(path)) || "/api/auth/login".equals(path) || "/api/auth/join".equals(path)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -49,4 +55,30 @@ public class UuidAuthFilter extends OncePerRequestFilter {
         // 통과
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 컨텍스트 경로를 뺀 요청 경로. getRequestURI() 는 인코딩(%61dmin)과 경로 파라미터(;x)가 그대로라
+     * 접두사 비교를 우회할 수 있으므로, 컨테이너가 디코딩/정규화한 servletPath + pathInfo 를 쓴다
+     */
+    public static String pathWithinApplication(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+    }
+
+    public static boolean isAdminPath(String path) {
+        return path.startsWith(ADMIN_PREFIX) || path.equals("/api/admin");
+    }
+
+    private static boolean isProtectedRead(String path) {
+        if (isAdminPath(path)) return true;
+        boolean actuator = path.equals(ACTUATOR) || path.startsWith(ACTUATOR + "/");
+        return actuator && !(path.equals(HEALTH) || path.startsWith(HEALTH + "/"));
+    }
+
+    /** 세션 토큰과 Authorization 헤더가 일치하는(로그인한) 요청인지. GET 은 이 필터를 그냥 통과하므로 조회 쪽에서 직접 확인할 때 쓴다 */
+    public static boolean isAuthenticated(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        Object token = session == null ? null : session.getAttribute("token");
+        return token != null && token.equals(request.getHeader("Authorization"));
+    }
 }
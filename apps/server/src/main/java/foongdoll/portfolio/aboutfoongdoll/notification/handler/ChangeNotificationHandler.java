@@ -0,0 +1,182 @@
+package foongdoll.portfolio.aboutfoongdoll.notification.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import foongdoll.portfolio.aboutfoongdoll.common.event.ContentChangeEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * /ws/changes 구독자에게 콘텐츠 변경 이벤트를 푸시한다.
+ * - 트랜잭션 커밋 이후에만 발행 (롤백된 변경은 알리지 않음)
+ * - 세션마다 ConcurrentWebSocketSessionDecorator 로 송신 버퍼/시간을 제한하고, 넘치면 연결을 끊는다 (느린 소비자 축출)
+ * - 세션마다 보낼 메시지 큐(session-queue 개)를 따로 둔다. 큐가 넘친 세션만 끊으므로 느린 세션이 정상 세션을 밀어내지 않는다
+ * - 큐 비우기는 전용 스레드풀에서 세션당 한 작업씩 수행하므로 요청 스레드와 다른 세션을 막지 않는다
+ */
+@Slf4j
+@Component
+public class ChangeNotificationHandler extends TextWebSocketHandler {
+
+    private static final String TOMCAT_BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final ObjectMapper objectMapper;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferLimitBytes;
+    private final int sessionQueue;
+    private final ThreadPoolExecutor fanOut;
+
+    private final Map<String, Outbox> sessions = new ConcurrentHashMap<>();
+
+    public ChangeNotificationHandler(ObjectMapper objectMapper,
+                                     @Value("${app.notifications.send-time-limit-ms:5000}") int sendTimeLimitMillis,
+                                     @Value("${app.notifications.send-buffer-limit-bytes:65536}") int sendBufferLimitBytes,
+                                     @Value("${app.notifications.fan-out-threads:2}") int fanOutThreads,
+                                     @Value("${app.notifications.session-queue:64}") int sessionQueue) {
+        this.objectMapper = objectMapper;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferLimitBytes = sendBufferLimitBytes;
+        this.sessionQueue = sessionQueue;
+        AtomicInteger seq = new AtomicInteger();
+        // 세션당 대기 작업은 최대 하나라 작업 큐 길이는 세션 수를 넘지 않는다
+        this.fanOut = new ThreadPoolExecutor(fanOutThreads, fanOutThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "ws-fan-out-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        // 블로킹 송신이 무한정 물고 있지 않도록 컨테이너 송신 타임아웃도 동일하게 맞춘다
+        if (session instanceof NativeWebSocketSession nativeSession) {
+            Session ws = nativeSession.getNativeSession(Session.class);
+            if (ws != null) ws.getUserProperties().put(TOMCAT_BLOCKING_SEND_TIMEOUT, (long) sendTimeLimitMillis);
+        }
+        sessions.put(session.getId(), new Outbox(new ConcurrentWebSocketSessionDecorator(
+                session, sendTimeLimitMillis, sendBufferLimitBytes, OverflowStrategy.TERMINATE), sessionQueue));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        sessions.remove(session.getId());
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        evict(session.getId(), CloseStatus.SERVER_ERROR);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentChange(ContentChangeEvent event) {
+        if (sessions.isEmpty()) return;
+
+        TextMessage message;
+        try {
+            message = new TextMessage(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize change event {}", event.getType(), e);
+            return;
+        }
+
+        for (Outbox outbox : sessions.values()) {
+            if (!outbox.pending.offer(message)) {
+                // 이 세션의 큐가 가득 찼다 = 이 세션이 못 따라온다. 끊고 재접속 시 전체 재조회에 맡긴다
+                evict(outbox.session.getId(), CloseStatus.SESSION_NOT_RELIABLE);
+                continue;
+            }
+            schedule(outbox);
+        }
+    }
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    private void schedule(Outbox outbox) {
+        if (!outbox.scheduled.compareAndSet(false, true)) return;
+        try {
+            fanOut.execute(() -> drain(outbox));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            outbox.scheduled.set(false);
+        }
+    }
+
+    /** 세션의 큐를 빌 때까지 보낸다. 비운 뒤 그 사이 들어온 메시지가 있으면 다시 예약한다 */
+    private void drain(Outbox outbox) {
+        WebSocketSession session = outbox.session;
+        TextMessage message;
+        while ((message = outbox.pending.poll()) != null) {
+            if (!session.isOpen()) {
+                sessions.remove(session.getId());
+                return;
+            }
+            try {
+                session.sendMessage(message);
+            } catch (Exception e) {
+                // SessionLimitExceededException 포함: 버퍼/시간 한도 초과 시 decorator 가 이미 세션을 닫는다
+                evict(session.getId(), CloseStatus.SESSION_NOT_RELIABLE);
+                return;
+            }
+        }
+        outbox.scheduled.set(false);
+        if (!outbox.pending.isEmpty()) schedule(outbox);
+    }
+
+    private void evict(String sessionId, CloseStatus status) {
+        Outbox outbox = sessions.remove(sessionId);
+        if (outbox == null) return;
+        outbox.pending.clear();
+        WebSocketSession session = outbox.session;
+        if (!session.isOpen()) return;
+        try {
+            session.close(status);
+        } catch (IOException ignored) {
+            // 이미 끊긴 연결
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdownNow();
+    }
+
+    /** 세션과 그 세션에 아직 보내지 못한 메시지 */
+    private static final class Outbox {
+
+        private final WebSocketSession session;
+        private final BlockingQueue<TextMessage> pending;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Outbox(WebSocketSession session, int capacity) {
+            this.session = session;
+            this.pending = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package foongdoll.portfolio.aboutfoongdoll.post.controller;
 
+import foongdoll.portfolio.aboutfoongdoll.common.dto.PatchResult;
 import foongdoll.portfolio.aboutfoongdoll.post.dto.PageResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostOutlineResponse;
 import foongdoll.portfolio.aboutfoongdoll.post.dto.PostRequest;
 import foongdoll.portfolio.aboutfoongdoll.post.dto.PostResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostSectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostSuggestion;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.RelatedPost;
+import foongdoll.portfolio.aboutfoongdoll.post.service.PostOutlineService;
 import foongdoll.portfolio.aboutfoongdoll.post.service.PostService;
+import foongdoll.portfolio.aboutfoongdoll.post.service.PostSuggestService;
+import foongdoll.portfolio.aboutfoongdoll.post.service.RelatedPostService;
 import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -18,12 +28,16 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
 
+@Observed(name = "app.controller")
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
 public class PostController {
 
     private final PostService postService;
+    private final PostSuggestService postSuggestService;
+    private final PostOutlineService postOutlineService;
+    private final RelatedPostService relatedPostService;
 
     @GetMapping
     public ResponseVO<PageResponse<PostResponse>> getPosts(@RequestParam(value = "category", required = false) String category,
@@ -32,6 +46,13 @@ public class PostController {
         return ResponseVO.ok(postService.getPosts(category, page, size));
     }
 
+    /** 자동완성: GET /api/posts/suggest?prefix=스프&size=8 */
+    @GetMapping("/suggest")
+    public ResponseVO<List<PostSuggestion>> suggest(@RequestParam(value = "prefix", required = false) String prefix,
+                                                    @RequestParam(defaultValue = "8") int size) {
+        return ResponseVO.ok(postSuggestService.suggest(prefix, size));
+    }
+
     @GetMapping("/{postId}")
     public ResponseVO<PostResponse> getPost(@PathVariable Long postId) {
         return postService.getPost(postId)
@@ -39,6 +60,31 @@ public class PostController {
                 .orElseGet(() -> ResponseVO.fail("Post not found"));
     }
 
+    /** 목차 + 첫 섹션. 긴 글은 이걸로 첫 화면을 그리고 나머지는 /sections/{n} 으로 이어 받는다 */
+    @GetMapping("/{postId}/outline")
+    public ResponseVO<PostOutlineResponse> getOutline(@PathVariable Long postId) {
+        return postOutlineService.getOutline(postId)
+                .map(ResponseVO::ok)
+                .orElseGet(() -> ResponseVO.fail("Post not found"));
+    }
+
+    /** 관련 글: GET /api/posts/{id}/related?k=5 (같은 포트폴리오, 유사도 내림차순, 메모리 색인) */
+    @GetMapping("/{postId}/related")
+    public ResponseVO<List<RelatedPost>> getRelated(@PathVariable Long postId,
+                                                    @RequestParam(defaultValue = "5") int k) {
+        return relatedPostService.related(postId, k)
+                .map(ResponseVO::ok)
+                .orElseGet(() -> ResponseVO.fail("Post not found"));
+    }
+
+    /** sectionNo 는 outline.sections[].sectionNo (0 부터), hasNext 가 false 면 마지막 */
+    @GetMapping("/{postId}/sections/{sectionNo}")
+    public ResponseVO<PostSectionResponse> getSection(@PathVariable Long postId, @PathVariable int sectionNo) {
+        return postOutlineService.getSection(postId, sectionNo)
+                .map(ResponseVO::ok)
+                .orElseGet(() -> ResponseVO.fail("Section not found"));
+    }
+
     @PostMapping
     public ResponseVO<PostResponse> createPost(@RequestBody PostRequest request) {
         try {
@@ -57,6 +103,16 @@ public class PostController {
         }
     }
 
+    /** 바뀐 필드만 보낸다. 저장된 내용과 같으면 message 가 "unchanged" */
+    @PatchMapping("/{postId}")
+    public ResponseVO<PostResponse> patchPost(@PathVariable Long postId, @RequestBody PostRequest request) {
+        try {
+            return ResponseVO.patched(postService.patchPost(postId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseVO.fail(e.getMessage());
+        }
+    }
+
     @DeleteMapping("/{postId}")
     public ResponseVO<String> deletePost(@PathVariable Long postId) {
         try {
@@ -2,10 +2,12 @@ package foongdoll.portfolio.aboutfoongdoll.post.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Getter
+@NoArgsConstructor  // StaleSnapshotStore 의 JSON 사본 역직렬화용
 @AllArgsConstructor
 public class PageResponse<T> {
     private List<T> items;
@@ -0,0 +1,5 @@
+package foongdoll.portfolio.aboutfoongdoll.post.dto;
+
+/** 목차 한 줄. sectionNo 로 GET /api/posts/{id}/sections/{sectionNo} 를 호출한다 */
+public record PostOutlineItem(int sectionNo, int level, String title, String anchor, int charLength, boolean continuation) {
+}
@@ -0,0 +1,22 @@
+package foongdoll.portfolio.aboutfoongdoll.post.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 목차 + 첫 섹션 본문. 첫 화면은 이 응답 하나로 그리고, 나머지 섹션은 스크롤하며 받는다.
+ * 응답 크기는 글 전체 길이가 아니라 섹션 수와 첫 섹션 크기(app.post-outline.max-section-chars 이하)에 비례한다.
+ */
+@Getter
+@Builder
+public class PostOutlineResponse {
+
+    private final Long postId;
+    private final String title;
+    private final int sectionCount;
+    private final long totalChars;
+    private final List<PostOutlineItem> sections;
+    private final PostSectionResponse first;
+}
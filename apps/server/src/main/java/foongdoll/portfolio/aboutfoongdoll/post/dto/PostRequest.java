@@ -12,4 +12,5 @@ public class PostRequest {
     private String keywords;
     private String summary;
     private String content;
+    private String memberCode;   // 소유 포트폴리오 (생략 시 변경하지 않음)
 }
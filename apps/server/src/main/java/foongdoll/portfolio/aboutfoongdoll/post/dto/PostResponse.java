@@ -3,11 +3,13 @@ package foongdoll.portfolio.aboutfoongdoll.post.dto;
 import foongdoll.portfolio.aboutfoongdoll.post.entity.Post;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@Jacksonized  // StaleSnapshotStore 의 JSON 사본을 다시 읽을 수 있도록
 public class PostResponse {
 
     private final Long id;
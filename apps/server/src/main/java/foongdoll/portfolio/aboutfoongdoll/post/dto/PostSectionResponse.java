@@ -0,0 +1,19 @@
+package foongdoll.portfolio.aboutfoongdoll.post.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PostSectionResponse {
+
+    private final Long postId;
+    private final int sectionNo;
+    private final int level;
+    private final String title;
+    private final String anchor;
+    private final String content;
+    private final boolean continuation;
+    /** 다음 섹션이 있으면 sectionNo + 1 로 이어서 요청 */
+    private final boolean hasNext;
+}
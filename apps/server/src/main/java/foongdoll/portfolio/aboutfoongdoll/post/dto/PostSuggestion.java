@@ -0,0 +1,20 @@
+package foongdoll.portfolio.aboutfoongdoll.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 자동완성 후보.
+ * type: title / category / keyword, count: 해당 용어를 쓰는 포스트 수 (인기도), postId: title 일 때 가장 최근 포스트
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostSuggestion {
+
+    private final String text;
+    private final String type;
+    private final int count;
+    private final Long postId;
+}
@@ -0,0 +1,5 @@
+package foongdoll.portfolio.aboutfoongdoll.post.dto;
+
+/** 자동완성 색인용 프로젝션 (본문 LOB 은 읽지 않는다) */
+public record PostTerms(Long id, String title, String category, String keywords) {
+}
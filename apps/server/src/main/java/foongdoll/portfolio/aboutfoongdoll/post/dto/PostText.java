@@ -0,0 +1,5 @@
+package foongdoll.portfolio.aboutfoongdoll.post.dto;
+
+/** 관련 글 색인용 프로젝션 (요약/해시 등 나머지 컬럼은 읽지 않는다) */
+public record PostText(Long id, String memberCode, String title, String category, String keywords, String content) {
+}
@@ -0,0 +1,19 @@
+package foongdoll.portfolio.aboutfoongdoll.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 관련 글 후보. similarity: MinHash 로 추정한 용어 집합 자카드 유사도 (0~1, 소수 셋째 자리)
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RelatedPost {
+
+    private final Long postId;
+    private final String title;
+    private final String category;
+    private final double similarity;
+}
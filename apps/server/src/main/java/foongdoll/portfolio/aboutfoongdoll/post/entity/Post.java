@@ -1,10 +1,14 @@
 package foongdoll.portfolio.aboutfoongdoll.post.entity;
 
+import foongdoll.portfolio.aboutfoongdoll.common.sql.EntityLoadListener;
+import foongdoll.portfolio.aboutfoongdoll.utils.ContentHash;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -14,11 +18,18 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "post")
+@DynamicUpdate  // 바뀐 컬럼만 UPDATE (제목만 고쳐도 content LOB 을 다시 쓰지 않도록)
+@EntityListeners(EntityLoadListener.class)
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_category_id", columnList = "category, post_id DESC"),
+        @Index(name = "idx_post_member_id", columnList = "member_code, post_id DESC"),
+        @Index(name = "idx_post_member_category_id", columnList = "member_code, category, post_id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,6 +42,10 @@ public class Post {
     @Column(name = "post_id")
     private Long id;
 
+    /** 소유 포트폴리오 (Resume.memberCode) */
+    @Column(name = "member_code", length = 64)
+    private String memberCode;
+
     @Column(nullable = false, length = 200)
     private String title;
 
@@ -53,11 +68,15 @@ public class Post {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @PrePersist
     protected void onCreate() {
         LocalDateTime now = LocalDateTime.now();
         this.publishedAt = now;
         this.updatedAt = now;
+        this.contentHash = computeContentHash();
     }
 
     @PreUpdate
@@ -72,4 +91,8 @@ public class Post {
         this.summary = summary;
         this.content = content;
     }
+
+    public String computeContentHash() {
+        return ContentHash.of(title, category, keywords, summary, content, memberCode);
+    }
 }
@@ -0,0 +1,51 @@
+package foongdoll.portfolio.aboutfoongdoll.post.entity;
+
+import foongdoll.portfolio.aboutfoongdoll.common.sql.EntityLoadListener;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 포스트 본문의 제목 단위 조각. post.content 가 원본이며 이 테이블은 저장 시점에 다시 만들어지는 파생 데이터다.
+ * 섹션들을 section_no 순으로 이어 붙이면 원문과 같다. post 와 FK 를 두지 않는다 (Attachment 와 같은 방식).
+ */
+@Entity
+@EntityListeners(EntityLoadListener.class)
+@Table(name = "post_section", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_section_post_no", columnNames = {"post_id", "section_no"})
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class PostSection {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "section_id")
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "section_no", nullable = false)
+    private Integer sectionNo;
+
+    // 0 은 첫 제목 앞 내용, 1~6 은 # 개수
+    @Column(nullable = false)
+    private Integer level;
+
+    @Column(length = 255)
+    private String title;
+
+    // continuation 섹션은 null (앞 섹션의 anchor 를 따른다)
+    @Column(length = 255)
+    private String anchor;
+
+    @Lob
+    @Column(nullable = false)
+    private String content;
+
+    @Column(name = "char_length", nullable = false)
+    private Integer charLength;
+
+    @Column(nullable = false)
+    private boolean continuation;
+}
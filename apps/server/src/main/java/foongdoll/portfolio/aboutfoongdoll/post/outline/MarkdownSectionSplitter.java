@@ -0,0 +1,141 @@
+package foongdoll.portfolio.aboutfoongdoll.post.outline;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 마크다운 본문을 ATX 제목(# ~ ######) 단위로 나눈다. 코드 펜스(``` / ~~~) 안의 # 은 제목으로 보지 않는다.
+ *
+ * - 첫 제목 앞의 내용은 level 0, title 없는 섹션 (공백뿐이면 첫 섹션에 붙인다).
+ * - 한 섹션이 maxChars 를 넘으면 펜스 밖의 빈 줄(문단 경계)에서 잘라 continuation 섹션으로 잇는다.
+ *   첫 화면에 필요한 첫 섹션의 크기가 글 전체 길이와 무관하게 제한되도록 하기 위함.
+ * - 섹션들을 순서대로 이어 붙이면 원문과 같다.
+ * - anchor 는 GitHub 방식 slug (소문자, 문자/숫자/한글 외 제거, 공백은 -, 중복은 -1, -2 …).
+ */
+public final class MarkdownSectionSplitter {
+
+    private static final Pattern HEADING = Pattern.compile("^ {0,3}(#{1,6})(?:[ \\t]+(.*?))?(?:[ \\t]+#+)?[ \\t]*$");
+    private static final Pattern FENCE = Pattern.compile("^ {0,3}(`{3,}|~{3,})");
+    private static final int MAX_TITLE = 255;
+
+    public record Section(int level, String title, String anchor, String content, boolean continuation) {
+    }
+
+    private MarkdownSectionSplitter() {
+    }
+
+    public static List<Section> split(String markdown, int maxChars) {
+        List<Section> sections = new ArrayList<>();
+        if (markdown == null || markdown.isEmpty()) return sections;
+
+        Map<String, Integer> anchors = new HashMap<>();
+        StringBuilder current = new StringBuilder();
+        int level = 0;
+        String title = null;
+        String fence = null;
+
+        for (String line : lines(markdown)) {
+            String bare = stripEol(line);
+            Matcher fenceMatcher = FENCE.matcher(bare);
+            if (fenceMatcher.find()) {
+                String marker = fenceMatcher.group(1);
+                if (fence == null) {
+                    fence = marker;
+                } else if (marker.charAt(0) == fence.charAt(0) && marker.length() >= fence.length()) {
+                    fence = null;
+                }
+            } else if (fence == null) {
+                Matcher heading = HEADING.matcher(bare);
+                if (heading.matches()) {
+                    // 첫 제목 앞이 공백뿐이면 따로 섹션을 만들지 않고 첫 섹션 앞에 붙인다
+                    if (title != null || !current.toString().isBlank()) {
+                        addChunked(sections, level, title, anchor(title, anchors), current.toString(), maxChars);
+                        current.setLength(0);
+                    }
+                    level = heading.group(1).length();
+                    title = truncate(heading.group(2) == null ? "" : heading.group(2).trim());
+                }
+            }
+            current.append(line);
+        }
+        addChunked(sections, level, title, anchor(title, anchors), current.toString(), maxChars);
+        return sections;
+    }
+
+    private static void addChunked(List<Section> out, int level, String title, String anchor,
+                                   String content, int maxChars) {
+        if (content.isEmpty()) return;
+        List<String> chunks = chunk(content, maxChars);
+        for (int i = 0; i < chunks.size(); i++) {
+            out.add(new Section(level, title, i == 0 ? anchor : null, chunks.get(i), i > 0));
+        }
+    }
+
+    /** 펜스 밖의 빈 줄에서만 자른다 (긴 코드 블록 하나는 그대로 둔다) */
+    private static List<String> chunk(String content, int maxChars) {
+        if (maxChars <= 0 || content.length() <= maxChars) return List.of(content);
+
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        String fence = null;
+        for (String line : lines(content)) {
+            String bare = stripEol(line);
+            Matcher fenceMatcher = FENCE.matcher(bare);
+            if (fenceMatcher.find()) {
+                String marker = fenceMatcher.group(1);
+                if (fence == null) fence = marker;
+                else if (marker.charAt(0) == fence.charAt(0) && marker.length() >= fence.length()) fence = null;
+            }
+            current.append(line);
+            if (fence == null && bare.isBlank() && current.length() >= maxChars) {
+                chunks.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) chunks.add(current.toString());
+        return chunks;
+    }
+
+    private static String anchor(String title, Map<String, Integer> used) {
+        if (title == null) return null;
+        StringBuilder slug = new StringBuilder();
+        for (char c : title.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c) || c == '-' || c == '_') slug.append(c);
+            else if (c == ' ') slug.append('-');
+        }
+        String base = slug.toString();
+        Integer seen = used.get(base);
+        used.put(base, seen == null ? 1 : seen + 1);
+        String anchor = seen == null ? base : base + "-" + seen;
+        return truncate(anchor);
+    }
+
+    /** 줄바꿈 문자를 포함한 줄 목록 (이어 붙이면 원문) */
+    private static List<String> lines(String text) {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) lines.add(text.substring(start));
+        return lines;
+    }
+
+    private static String stripEol(String line) {
+        int end = line.length();
+        while (end > 0 && (line.charAt(end - 1) == '\n' || line.charAt(end - 1) == '\r')) end--;
+        return line.substring(0, end);
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_TITLE ? value.substring(0, MAX_TITLE) : value;
+    }
+}
@@ -0,0 +1,189 @@
+package foongdoll.portfolio.aboutfoongdoll.post.related;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 포스트 MinHash 서명 + LSH(밴드) 버킷 색인. 관련 글 조회는 이 색인만 본다.
+ *
+ * - 서명: bands * rows 개의 해시 함수 각각에 대한 shingle 해시 최솟값. 두 서명의 일치 비율이 자카드 유사도의 추정치
+ * - LSH: 서명을 bands 개 구간으로 나눠 구간 해시가 같은 포스트끼리 같은 버킷. 한 버킷이라도 겹치면 후보
+ *   (유사도 s 인 쌍이 후보가 될 확률 1 - (1 - s^rows)^bands, 기본 16x4 에서 s=0.5 -> 약 0.65, s=0.7 -> 약 0.99)
+ * - 후보가 k 개보다 적고 색인이 scanLimit 이하이면 전체 서명을 훑어 채운다 (글이 적을 때 빈 목록이 나오지 않도록)
+ * - 관련 글은 같은 포트폴리오(memberCode) 안에서만 찾는다
+ *
+ * 조회는 락 없이 읽고 쓰기(put/remove)만 직렬화한다. 서명 계산(sign)은 상태가 없어 여러 스레드에서 동시에 호출해도 된다.
+ */
+public class MinHashIndex {
+
+    /** 색인 항목. 서명과 버킷 키 외에 응답에 필요한 제목/카테고리만 보관한다 */
+    public record Doc(long postId, String memberCode, String title, String category, int[] signature, long[] bandKeys) {
+    }
+
+    public record Match(Doc doc, double similarity) {
+    }
+
+    // 항목/버킷당 대략적인 힙 사용량 (64비트 JVM, compressed oops 기준)
+    private static final long DOC_OVERHEAD = 48 + 48;        // Doc + 맵 노드/Long 키
+    private static final long MEMBERSHIP_BYTES = 48;         // 버킷 집합 안의 노드 + Long
+    private static final long BUCKET_BYTES = 160;            // 버킷 맵 노드 + 빈 집합
+
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+    private final int scanLimit;
+
+    private final ConcurrentHashMap<Long, Doc> docs = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+    private long docBytes;
+
+    public MinHashIndex(int bands, int rows, int scanLimit) {
+        this.bands = bands;
+        this.rows = rows;
+        this.scanLimit = scanLimit;
+        this.seeds = new long[bands * rows];
+        long seed = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < seeds.length; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            seeds[i] = seed;
+        }
+    }
+
+    /** shingle 해시 집합으로 색인 항목을 만든다. 빈 집합이면 서명 없이 (후보가 되지 않음) */
+    public Doc sign(long postId, String memberCode, String title, String category, Set<Long> shingles) {
+        if (shingles.isEmpty()) return new Doc(postId, memberCode, title, category, new int[0], new long[0]);
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < seeds.length; i++) {
+                int h = (int) (mix(shingle ^ seeds[i]) >>> 32);
+                if (h < signature[i]) signature[i] = h;
+            }
+        }
+        long[] bandKeys = new long[bands];
+        for (int b = 0; b < bands; b++) {
+            long h = (b + 1) * 0x9E3779B97F4A7C15L;
+            for (int r = 0; r < rows; r++) h = mix(h ^ (signature[b * rows + r] & 0xFFFFFFFFL));
+            bandKeys[b] = h;
+        }
+        return new Doc(postId, memberCode, title, category, signature, bandKeys);
+    }
+
+    public synchronized void put(Doc doc) {
+        removeInternal(doc.postId());
+        docs.put(doc.postId(), doc);
+        for (long key : doc.bandKeys()) {
+            buckets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(doc.postId());
+        }
+        docBytes += weigh(doc);
+    }
+
+    public synchronized void remove(long postId) {
+        removeInternal(postId);
+    }
+
+    private void removeInternal(long postId) {
+        Doc previous = docs.remove(postId);
+        if (previous == null) return;
+        for (long key : previous.bandKeys()) {
+            Set<Long> bucket = buckets.get(key);
+            if (bucket == null) continue;
+            bucket.remove(postId);
+            if (bucket.isEmpty()) buckets.remove(key);
+        }
+        docBytes -= weigh(previous);
+    }
+
+    public boolean contains(long postId) {
+        return docs.containsKey(postId);
+    }
+
+    /** postId 와 가장 비슷한 글 k 개 (유사도 내림차순, 같으면 최근 글). 색인에 없으면 null */
+    public List<Match> related(long postId, int k) {
+        Doc doc = docs.get(postId);
+        if (doc == null) return null;
+        if (doc.signature().length == 0 || k <= 0) return List.of();
+
+        Set<Long> candidates = new HashSet<>();
+        for (long key : doc.bandKeys()) {
+            Set<Long> bucket = buckets.get(key);
+            if (bucket != null) candidates.addAll(bucket);
+        }
+        candidates.remove(postId);
+
+        Comparator<Match> worstFirst = Comparator.comparingDouble(Match::similarity)
+                .thenComparingLong(m -> m.doc().postId());
+        PriorityQueue<Match> top = new PriorityQueue<>(worstFirst);
+        for (Long id : candidates) offer(top, doc, docs.get(id), k);
+        if (top.size() < k && docs.size() <= scanLimit) {
+            for (Doc other : docs.values()) {
+                if (other.postId() != postId && !candidates.contains(other.postId())) offer(top, doc, other, k);
+            }
+        }
+
+        List<Match> result = new ArrayList<>(top);
+        result.sort(worstFirst.reversed());
+        return result;
+    }
+
+    private void offer(PriorityQueue<Match> top, Doc doc, Doc other, int k) {
+        if (other == null || other.signature().length == 0) return;
+        if (!Objects.equals(doc.memberCode(), other.memberCode())) return;
+        double similarity = similarity(doc.signature(), other.signature());
+        if (similarity <= 0) return;
+        top.add(new Match(other, similarity));
+        if (top.size() > k) top.poll();
+    }
+
+    private static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < a.length; i++) if (a[i] == b[i]) same++;
+        return (double) same / a.length;
+    }
+
+    // ===================== 통계 =====================
+
+    public int size() {
+        return docs.size();
+    }
+
+    public int bucketCount() {
+        return buckets.size();
+    }
+
+    /** 서명/버킷 키/제목 문자열/버킷 소속을 합친 대략적인 힙 사용량 */
+    public synchronized long approxBytes() {
+        return docBytes + (long) buckets.size() * BUCKET_BYTES;
+    }
+
+    public long approxBytesPerPost() {
+        int size = docs.size();
+        return size == 0 ? 0 : approxBytes() / size;
+    }
+
+    private static long weigh(Doc doc) {
+        return DOC_OVERHEAD
+                + 16 + 4L * doc.signature().length
+                + 16 + 8L * doc.bandKeys().length
+                + MEMBERSHIP_BYTES * doc.bandKeys().length
+                + chars(doc.title()) + chars(doc.category()) + chars(doc.memberCode());
+    }
+
+    private static long chars(String s) {
+        return s == null ? 0 : 40 + 2L * s.length();
+    }
+
+    /** splitmix64 최종 단계 */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
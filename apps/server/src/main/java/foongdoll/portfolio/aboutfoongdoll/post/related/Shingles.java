@@ -0,0 +1,73 @@
+package foongdoll.portfolio.aboutfoongdoll.post.related;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 포스트를 MinHash 용 용어 집합(shingle)으로 바꾼다.
+ *
+ * - 단어: 문자/숫자 연속 구간을 소문자로. 두 글자 미만과 흔한 영어 기능어는 버린다
+ * - 한글 단어는 두 글자 조각도 넣는다 ("스프링을" 과 "스프링" 이 "스프", "프링" 을 공유하도록. 조사 분리 대신)
+ * - 제목 단어와 키워드는 다른 해시로 한 번 더 넣는다. 집합 유사도라 가중치 대신 겹치는 원소 수를 늘리는 방식
+ * - 본문은 앞 maxContentChars 글자까지만 본다 (긴 글 하나가 재구성 시간을 잡아먹지 않도록)
+ * 결과는 64비트 해시 집합이다 (MinHashIndex 는 문자열 대신 해시만 다룬다).
+ */
+public final class Shingles {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // 키워드 구분자: 쉼표/세미콜론/줄바꿈/해시 (자동완성과 같은 규칙)
+    private static final Pattern KEYWORD_SEPARATOR = Pattern.compile("[,;#\\n]+");
+    private static final Set<String> STOPWORDS = Set.of(
+            "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "if", "in", "is", "it", "its",
+            "of", "on", "or", "so", "that", "the", "this", "to", "was", "we", "were", "will", "with", "you");
+
+    private static final long WORD = 0xcbf29ce484222325L;
+    private static final long TITLE = WORD ^ 0x5449544c45L;
+    private static final long KEYWORD = WORD ^ 0x4b4559L;
+    private static final long BIGRAM = WORD ^ 0x424947L;
+
+    private Shingles() {
+    }
+
+    public static Set<Long> of(String title, String keywords, String content, int maxContentChars) {
+        Set<Long> hashes = new HashSet<>();
+        addWords(hashes, title, true);
+        if (keywords != null) {
+            for (String keyword : KEYWORD_SEPARATOR.split(keywords)) {
+                String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+                if (normalized.isEmpty()) continue;
+                hashes.add(hash(KEYWORD, normalized, 0, normalized.length()));
+                addWords(hashes, normalized, false);
+            }
+        }
+        if (content != null) {
+            addWords(hashes, content.length() > maxContentChars ? content.substring(0, maxContentChars) : content, false);
+        }
+        return hashes;
+    }
+
+    private static void addWords(Set<Long> hashes, String text, boolean title) {
+        if (text == null || text.isEmpty()) return;
+        for (String word : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.length() < 2 || STOPWORDS.contains(word)) continue;
+            hashes.add(hash(WORD, word, 0, word.length()));
+            if (title) hashes.add(hash(TITLE, word, 0, word.length()));
+            if (word.length() > 2 && isHangul(word.charAt(0))) {
+                for (int i = 0; i + 2 <= word.length(); i++) hashes.add(hash(BIGRAM, word, i, i + 2));
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    /** FNV-1a 를 종류별 시작값으로 (같은 단어라도 제목/키워드/조각은 다른 원소) */
+    private static long hash(long seed, String s, int from, int to) {
+        long h = seed;
+        for (int i = from; i < to; i++) h = (h ^ s.charAt(i)) * 0x100000001b3L;
+        return MinHashIndex.mix(h);
+    }
+}
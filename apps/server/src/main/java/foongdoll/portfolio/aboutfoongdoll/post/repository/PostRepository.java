@@ -1,13 +1,44 @@
 package foongdoll.portfolio.aboutfoongdoll.post.repository;
 
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostTerms;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostText;
 import foongdoll.portfolio.aboutfoongdoll.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findByCategory(String category, Pageable pageable);
 
+    Page<Post> findByMemberCode(String memberCode, Pageable pageable);
+
+    Page<Post> findByMemberCodeAndCategory(String memberCode, String category, Pageable pageable);
+
+    // 기동 예열: 카테고리별 첫 페이지 (idx_post_category_id 만 읽음)
+    @Query("select distinct p.category from Post p where p.category is not null order by p.category")
+    List<String> findDistinctCategories();
+
+    // 자동완성 색인용 (content LOB 제외)
+    @Query("select new foongdoll.portfolio.aboutfoongdoll.post.dto.PostTerms(p.id, p.title, p.category, p.keywords) from Post p")
+    List<PostTerms> findAllTerms();
+
+    @Query("select new foongdoll.portfolio.aboutfoongdoll.post.dto.PostTerms(p.id, p.title, p.category, p.keywords) from Post p where p.id = :id")
+    Optional<PostTerms> findTermsById(@Param("id") Long id);
+
+    // 관련 글 색인용. 재구성은 id 순으로 끊어 읽는다 (본문 전체를 한 번에 올리지 않도록)
+    @Query("select new foongdoll.portfolio.aboutfoongdoll.post.dto.PostText(p.id, p.memberCode, p.title, p.category, p.keywords, p.content) from Post p where p.id > :after order by p.id")
+    List<PostText> findTextsAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("select new foongdoll.portfolio.aboutfoongdoll.post.dto.PostText(p.id, p.memberCode, p.title, p.category, p.keywords, p.content) from Post p where p.id = :id")
+    Optional<PostText> findTextById(@Param("id") Long id);
+
+    // 목차 응답용 제목 (content LOB 제외)
+    @Query("select p.title from Post p where p.id = :id")
+    Optional<String> findTitleById(@Param("id") Long id);
+
 }
@@ -0,0 +1,35 @@
+package foongdoll.portfolio.aboutfoongdoll.post.repository;
+
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostOutlineItem;
+import foongdoll.portfolio.aboutfoongdoll.post.entity.PostSection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PostSectionRepository extends JpaRepository<PostSection, Long> {
+
+    // 목차 (content LOB 제외)
+    @Query("select new foongdoll.portfolio.aboutfoongdoll.post.dto.PostOutlineItem(s.sectionNo, s.level, s.title, s.anchor, s.charLength, s.continuation) "
+            + "from PostSection s where s.postId = :postId order by s.sectionNo")
+    List<PostOutlineItem> findOutline(@Param("postId") Long postId);
+
+    Optional<PostSection> findByPostIdAndSectionNo(Long postId, Integer sectionNo);
+
+    boolean existsByPostIdAndSectionNo(Long postId, Integer sectionNo);
+
+    boolean existsByPostId(Long postId);
+
+    @Modifying
+    @Query("delete from PostSection s where s.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // 기동 시 백필: 섹션이 아직 없는 포스트
+    @Query("select p.id from Post p where p.id > :afterId "
+            + "and not exists (select 1 from PostSection s where s.postId = p.id) order by p.id")
+    List<Long> findPostIdsWithoutSections(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package foongdoll.portfolio.aboutfoongdoll.post.service;
+
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostOutlineResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostSectionResponse;
+
+import java.util.Optional;
+
+public interface PostOutlineService {
+
+    /** 목차 + 첫 섹션 */
+    Optional<PostOutlineResponse> getOutline(Long postId);
+
+    /** sectionNo 는 0 부터 */
+    Optional<PostSectionResponse> getSection(Long postId, int sectionNo);
+
+    /** 본문이 바뀐 포스트의 섹션을 다시 만든다. 호출한 쪽 트랜잭션 안에서 실행된다 */
+    void rebuild(Long postId, String content);
+
+    void deleteSections(Long postId);
+}
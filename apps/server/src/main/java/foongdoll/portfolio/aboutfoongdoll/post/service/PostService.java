@@ -1,5 +1,6 @@
 package foongdoll.portfolio.aboutfoongdoll.post.service;
 
+import foongdoll.portfolio.aboutfoongdoll.common.dto.PatchResult;
 import foongdoll.portfolio.aboutfoongdoll.post.dto.PageResponse;
 import foongdoll.portfolio.aboutfoongdoll.post.dto.PostRequest;
 import foongdoll.portfolio.aboutfoongdoll.post.dto.PostResponse;
@@ -11,11 +12,17 @@ public interface PostService {
 
     PageResponse<PostResponse> getPosts(String category, int page, int size);
 
+    /** memberCode(포트폴리오) 소유 포스트만 조회 */
+    PageResponse<PostResponse> getPosts(String memberCode, String category, int page, int size);
+
     Optional<PostResponse> getPost(Long postId);
 
     PostResponse createPost(PostRequest request);
 
     PostResponse updatePost(Long postId, PostRequest request);
 
+    /** 부분 수정. null 필드는 유지하며, 내용이 같으면 쓰지 않고 changed=false */
+    PatchResult<PostResponse> patchPost(Long postId, PostRequest request);
+
     void deletePost(Long postId);
 }
@@ -0,0 +1,14 @@
+package foongdoll.portfolio.aboutfoongdoll.post.service;
+
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostSuggestion;
+
+import java.util.List;
+
+public interface PostSuggestService {
+
+    /** 제목/카테고리/키워드 접두어 자동완성 (한글은 입력 중인 자모 단위로 일치) */
+    List<PostSuggestion> suggest(String prefix, int size);
+
+    /** DB 에서 색인을 다시 만든다 */
+    void rebuild();
+}
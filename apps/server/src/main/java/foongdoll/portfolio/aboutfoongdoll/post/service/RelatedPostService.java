@@ -0,0 +1,15 @@
+package foongdoll.portfolio.aboutfoongdoll.post.service;
+
+import foongdoll.portfolio.aboutfoongdoll.post.dto.RelatedPost;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RelatedPostService {
+
+    /** 같은 포트폴리오에서 내용이 가장 비슷한 글 k 개 (메모리 색인만 조회). 색인에 없는 글이면 empty */
+    Optional<List<RelatedPost>> related(Long postId, int k);
+
+    /** DB 에서 색인을 다시 만들도록 백그라운드로 예약한다 (서명 계산은 코어 수만큼 병렬, 끝나면 교체) */
+    void rebuild();
+}
@@ -0,0 +1,222 @@
+package foongdoll.portfolio.aboutfoongdoll.post.service.impl;
+
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostOutlineItem;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostOutlineResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostSectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.entity.Post;
+import foongdoll.portfolio.aboutfoongdoll.post.entity.PostSection;
+import foongdoll.portfolio.aboutfoongdoll.post.outline.MarkdownSectionSplitter;
+import foongdoll.portfolio.aboutfoongdoll.post.outline.MarkdownSectionSplitter.Section;
+import foongdoll.portfolio.aboutfoongdoll.post.repository.PostRepository;
+import foongdoll.portfolio.aboutfoongdoll.post.repository.PostSectionRepository;
+import foongdoll.portfolio.aboutfoongdoll.post.service.PostOutlineService;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포스트 본문을 저장 시점에 제목 단위 섹션으로 나눠 post_section 에 둔다.
+ * 조회는 목차 프로젝션(LOB 제외) + 섹션 한 건이므로 첫 응답 크기가 글 전체 길이와 무관하다.
+ *
+ * 이 기능 이전에 저장된 포스트(또는 JDBC 로 직접 넣은 행)는 섹션이 없다.
+ * - 기동 후 백그라운드에서 batch 단위로 채운다.
+ * - 그 전에 요청이 오면 본문을 읽어 메모리에서 나눠 응답한다 (저장하지 않음, 읽기 트랜잭션 유지).
+ */
+@Slf4j
+@Observed(name = "app.service")
+@Service
+@Transactional(readOnly = true)
+public class PostOutlineServiceImpl implements PostOutlineService {
+
+    private final PostRepository postRepository;
+    private final PostSectionRepository postSectionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxSectionChars;
+    private final boolean backfillEnabled;
+    private final int backfillBatchSize;
+
+    public PostOutlineServiceImpl(PostRepository postRepository,
+                                  PostSectionRepository postSectionRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${app.post-outline.max-section-chars:8000}") int maxSectionChars,
+                                  @Value("${app.post-outline.backfill.enabled:true}") boolean backfillEnabled,
+                                  @Value("${app.post-outline.backfill.batch-size:50}") int backfillBatchSize) {
+        this.postRepository = postRepository;
+        this.postSectionRepository = postSectionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxSectionChars = maxSectionChars;
+        this.backfillEnabled = backfillEnabled;
+        this.backfillBatchSize = backfillBatchSize;
+    }
+
+    @Override
+    public Optional<PostOutlineResponse> getOutline(Long postId) {
+        List<PostOutlineItem> outline = postSectionRepository.findOutline(postId);
+        if (outline.isEmpty()) {
+            return postRepository.findById(postId).map(this::outlineFromContent);
+        }
+
+        Optional<String> title = postRepository.findTitleById(postId);
+        if (title.isEmpty()) return Optional.empty();
+
+        PostSectionResponse first = postSectionRepository.findByPostIdAndSectionNo(postId, 0)
+                .map(s -> toResponse(s, outline.size()))
+                .orElse(null);
+        return Optional.of(PostOutlineResponse.builder()
+                .postId(postId)
+                .title(title.get())
+                .sectionCount(outline.size())
+                .totalChars(outline.stream().mapToLong(PostOutlineItem::charLength).sum())
+                .sections(outline)
+                .first(first)
+                .build());
+    }
+
+    @Override
+    public Optional<PostSectionResponse> getSection(Long postId, int sectionNo) {
+        if (sectionNo < 0) return Optional.empty();
+        Optional<PostSection> stored = postSectionRepository.findByPostIdAndSectionNo(postId, sectionNo);
+        if (stored.isPresent()) {
+            // 다음 섹션은 유니크 인덱스만으로 존재 여부 확인 (본문 LOB 을 읽지 않음)
+            boolean hasNext = postSectionRepository.existsByPostIdAndSectionNo(postId, sectionNo + 1);
+            return Optional.of(toResponse(stored.get(), hasNext ? sectionNo + 2 : sectionNo + 1));
+        }
+        if (postSectionRepository.existsByPostId(postId)) return Optional.empty();
+
+        // 아직 백필되지 않은 포스트
+        return postRepository.findById(postId).flatMap(post -> {
+            List<Section> sections = MarkdownSectionSplitter.split(post.getContent(), maxSectionChars);
+            if (sectionNo >= sections.size()) return Optional.empty();
+            return Optional.of(toResponse(postId, sectionNo, sections.get(sectionNo), sections.size()));
+        });
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(Long postId, String content) {
+        postSectionRepository.deleteByPostId(postId);
+        postSectionRepository.saveAll(toEntities(postId, MarkdownSectionSplitter.split(content, maxSectionChars)));
+    }
+
+    @Override
+    @Transactional
+    public void deleteSections(Long postId) {
+        postSectionRepository.deleteByPostId(postId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillEnabled) return;
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("outline-backfill-");
+        executor.setDaemon(true);
+        executor.execute(this::backfill);
+    }
+
+    private void backfill() {
+        int total = 0;
+        int skipped = 0;
+        long afterId = 0;
+        try {
+            while (true) {
+                List<Long> ids = postSectionRepository.findPostIdsWithoutSections(afterId, PageRequest.of(0, backfillBatchSize));
+                if (ids.isEmpty()) break;
+                for (Long id : ids) {
+                    // 포스트마다 트랜잭션을 나눈다. 그 사이 수정 요청이 같은 포스트의 섹션을 먼저 만들었으면
+                    // (uk_post_section_post_no 충돌) 그쪽이 최신 본문이므로 이 포스트만 건너뛰고 계속한다
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> postRepository.findById(id)
+                                .ifPresent(post -> postSectionRepository.saveAll(
+                                        toEntities(id, MarkdownSectionSplitter.split(post.getContent(), maxSectionChars)))));
+                        total++;
+                    } catch (DataIntegrityViolationException e) {
+                        skipped++;
+                        log.debug("[post-outline] sections of post {} were written concurrently, skipping", id);
+                    }
+                }
+                // 본문이 비어 섹션이 만들어지지 않는 포스트가 다시 대상이 되지 않도록 id 로 전진
+                afterId = ids.get(ids.size() - 1);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[post-outline] backfill stopped after {} post(s): {}", total, e.getMessage());
+            return;
+        }
+        if (total > 0 || skipped > 0) {
+            log.info("[post-outline] backfilled sections for {} post(s), {} skipped (written concurrently)", total, skipped);
+        }
+    }
+
+    private PostOutlineResponse outlineFromContent(Post post) {
+        List<Section> sections = MarkdownSectionSplitter.split(post.getContent(), maxSectionChars);
+        List<PostOutlineItem> outline = new ArrayList<>(sections.size());
+        long totalChars = 0;
+        for (int i = 0; i < sections.size(); i++) {
+            Section s = sections.get(i);
+            outline.add(new PostOutlineItem(i, s.level(), s.title(), s.anchor(), s.content().length(), s.continuation()));
+            totalChars += s.content().length();
+        }
+        return PostOutlineResponse.builder()
+                .postId(post.getId())
+                .title(post.getTitle())
+                .sectionCount(sections.size())
+                .totalChars(totalChars)
+                .sections(outline)
+                .first(sections.isEmpty() ? null : toResponse(post.getId(), 0, sections.get(0), sections.size()))
+                .build();
+    }
+
+    private static List<PostSection> toEntities(Long postId, List<Section> sections) {
+        List<PostSection> entities = new ArrayList<>(sections.size());
+        for (int i = 0; i < sections.size(); i++) {
+            Section s = sections.get(i);
+            entities.add(PostSection.builder()
+                    .postId(postId)
+                    .sectionNo(i)
+                    .level(s.level())
+                    .title(s.title())
+                    .anchor(s.anchor())
+                    .content(s.content())
+                    .charLength(s.content().length())
+                    .continuation(s.continuation())
+                    .build());
+        }
+        return entities;
+    }
+
+    private static PostSectionResponse toResponse(PostSection s, int sectionCount) {
+        return PostSectionResponse.builder()
+                .postId(s.getPostId())
+                .sectionNo(s.getSectionNo())
+                .level(s.getLevel())
+                .title(s.getTitle())
+                .anchor(s.getAnchor())
+                .content(s.getContent())
+                .continuation(s.isContinuation())
+                .hasNext(s.getSectionNo() + 1 < sectionCount)
+                .build();
+    }
+
+    private static PostSectionResponse toResponse(Long postId, int sectionNo, Section s, int sectionCount) {
+        return PostSectionResponse.builder()
+                .postId(postId)
+                .sectionNo(sectionNo)
+                .level(s.level())
+                .title(s.title())
+                .anchor(s.anchor())
+                .content(s.content())
+                .continuation(s.continuation())
+                .hasNext(sectionNo + 1 < sectionCount)
+                .build();
+    }
+}
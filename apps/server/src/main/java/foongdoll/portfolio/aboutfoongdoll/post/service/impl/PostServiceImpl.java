@@ -1,31 +1,74 @@
 package foongdoll.portfolio.aboutfoongdoll.post.service.impl;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import foongdoll.portfolio.aboutfoongdoll.common.cache.SingleFlight;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.PatchResult;
+import foongdoll.portfolio.aboutfoongdoll.common.event.ContentChangeEvent;
+import foongdoll.portfolio.aboutfoongdoll.common.resilience.StaleReads;
 import foongdoll.portfolio.aboutfoongdoll.post.dto.PageResponse;
 import foongdoll.portfolio.aboutfoongdoll.post.dto.PostRequest;
 import foongdoll.portfolio.aboutfoongdoll.post.dto.PostResponse;
 import foongdoll.portfolio.aboutfoongdoll.post.entity.Post;
 import foongdoll.portfolio.aboutfoongdoll.post.repository.PostRepository;
+import foongdoll.portfolio.aboutfoongdoll.post.service.PostOutlineService;
 import foongdoll.portfolio.aboutfoongdoll.post.service.PostService;
+import foongdoll.portfolio.aboutfoongdoll.utils.ContentHash;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+@Observed(name = "app.service")
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostServiceImpl implements PostService {
 
+    private static final TypeReference<PageResponse<PostResponse>> PAGE_TYPE = new TypeReference<>() {};
+    private static final TypeReference<Optional<PostResponse>> POST_TYPE = new TypeReference<>() {};
+
     private final PostRepository postRepository;
+    private final PostOutlineService postOutlineService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight singleFlight;
+    private final StaleReads staleReads;
 
+    /**
+     * 목록/단건 조회는 같은 키의 동시 조회를 합치고(SingleFlight), DB 가 느리거나 실패하면 마지막 정상 사본을 내보낸다(StaleReads).
+     * 트랜잭션은 SingleFlight 의 대표 호출만 연다
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PageResponse<PostResponse> getPosts(String category, int page, int size) {
+        String key = "*|" + category + "|" + page + "|" + size;
+        return staleReads.read("posts:" + key, PAGE_TYPE,
+                () -> singleFlight.load(ContentChangeEvent.POST, "page|" + key, () -> loadPosts(category, page, size)),
+                result -> !result.getItems().isEmpty());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PageResponse<PostResponse> getPosts(String memberCode, String category, int page, int size) {
+        String key = memberCode + "|" + category + "|" + page + "|" + size;
+        return staleReads.read("posts:" + key, PAGE_TYPE,
+                () -> singleFlight.load(ContentChangeEvent.POST, "page|" + key,
+                        () -> loadPosts(memberCode, category, page, size)),
+                result -> !result.getItems().isEmpty());
+    }
+
+    private PageResponse<PostResponse> loadPosts(String category, int page, int size) {
         Pageable pageable = PageRequest.of(Math.max(page - 1, 0), size, Sort.by(Sort.Direction.DESC, "id"));
         Page<Post> result;
 
@@ -35,6 +78,23 @@ public class PostServiceImpl implements PostService {
             result = postRepository.findByCategory(category, pageable);
         }
 
+        return toPage(result, page, size);
+    }
+
+    private PageResponse<PostResponse> loadPosts(String memberCode, String category, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page - 1, 0), size, Sort.by(Sort.Direction.DESC, "id"));
+        Page<Post> result;
+
+        if (category == null || category.isBlank() || "all".equalsIgnoreCase(category)) {
+            result = postRepository.findByMemberCode(memberCode, pageable);
+        } else {
+            result = postRepository.findByMemberCodeAndCategory(memberCode, category, pageable);
+        }
+
+        return toPage(result, page, size);
+    }
+
+    private PageResponse<PostResponse> toPage(Page<Post> result, int page, int size) {
         List<PostResponse> items = result.getContent().stream()
                 .map(PostResponse::from)
                 .toList();
@@ -48,10 +108,29 @@ public class PostServiceImpl implements PostService {
         );
     }
 
+    /** 같은 포스트 동시 조회는 한 번만 읽는다. 트랜잭션은 SingleFlight 의 대표 호출만 연다 */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<PostResponse> getPost(Long postId) {
-        return postRepository.findById(postId)
-                .map(PostResponse::from);
+        return staleReads.read("post:" + postId, POST_TYPE,
+                () -> singleFlight.load(ContentChangeEvent.POST, String.valueOf(postId),
+                        () -> postRepository.findById(postId).map(PostResponse::from)),
+                Optional::isPresent);
+    }
+
+    /**
+     * 삭제된 포스트는 DB 장애 중에도 사본으로 되살아나지 않도록 사본을 버린다 (다른 노드의 삭제 포함)
+     * id 없는 재동기화 이벤트는 놓친 삭제가 있을 수 있으므로 포스트 상세 사본을 모두 버린다
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onContentChange(ContentChangeEvent event) {
+        if (!ContentChangeEvent.POST.equals(event.getType())) return;
+        if (event.getId() == null) {
+            staleReads.forgetAll("post:");
+        } else if (ContentChangeEvent.DELETED.equals(event.getAction())) {
+            staleReads.forget("post:" + event.getId());
+        }
     }
 
     @Override
@@ -65,9 +144,12 @@ public class PostServiceImpl implements PostService {
                 .keywords(normalize(request.getKeywords()))
                 .summary(normalize(request.getSummary()))
                 .content(request.getContent())
+                .memberCode(normalize(request.getMemberCode()))
                 .build();
 
         Post saved = postRepository.save(post);
+        postOutlineService.rebuild(saved.getId(), saved.getContent());
+        eventPublisher.publishEvent(ContentChangeEvent.post(saved.getId(), saved.getMemberCode(), ContentChangeEvent.CREATED));
         return PostResponse.from(saved);
     }
 
@@ -79,24 +161,82 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
 
-        post.updateFrom(
+        return apply(post,
                 request.getTitle().trim(),
                 normalize(request.getCategory()),
                 normalize(request.getKeywords()),
                 normalize(request.getSummary()),
-                request.getContent()
+                request.getContent(),
+                normalize(request.getMemberCode())
+        ).value();
+    }
+
+    @Override
+    @Transactional
+    public PatchResult<PostResponse> patchPost(Long postId, PostRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Request is required");
+        }
+        if (request.getTitle() != null && request.getTitle().isBlank()) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        if (request.getContent() != null && request.getContent().isBlank()) {
+            throw new IllegalArgumentException("Content is required");
+        }
+
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("Post not found"));
+
+        // null 은 기존 값 유지, 빈 문자열은 선택 필드를 비운다
+        return apply(post,
+                request.getTitle() != null ? request.getTitle().trim() : post.getTitle(),
+                request.getCategory() != null ? normalize(request.getCategory()) : post.getCategory(),
+                request.getKeywords() != null ? normalize(request.getKeywords()) : post.getKeywords(),
+                request.getSummary() != null ? normalize(request.getSummary()) : post.getSummary(),
+                request.getContent() != null ? request.getContent() : post.getContent(),
+                normalize(request.getMemberCode())
         );
+    }
 
-        return PostResponse.from(post);
+    /**
+     * 저장된 해시와 같으면 엔티티를 건드리지 않는다 (UPDATE, updated_at 갱신, 변경 이벤트 모두 생략).
+     * 다르면 @DynamicUpdate 로 실제 바뀐 컬럼만 UPDATE 된다.
+     */
+    private PatchResult<PostResponse> apply(Post post, String title, String category, String keywords,
+                                            String summary, String content, String owner) {
+        String previousOwner = post.getMemberCode();
+        String memberCode = owner != null ? owner : previousOwner;
+        String hash = ContentHash.of(title, category, keywords, summary, content, memberCode);
+        String stored = post.getContentHash() != null ? post.getContentHash() : post.computeContentHash();
+        if (hash.equals(stored)) {
+            return PatchResult.unchanged(PostResponse.from(post));
+        }
+
+        boolean contentChanged = !Objects.equals(content, post.getContent());
+        post.updateFrom(title, category, keywords, summary, content);
+        post.setMemberCode(memberCode);
+        post.setContentHash(hash);
+        if (contentChanged) {
+            // 제목/카테고리만 바뀐 경우 섹션은 그대로 둔다
+            postOutlineService.rebuild(post.getId(), content);
+        }
+
+        if (!Objects.equals(memberCode, previousOwner)) {
+            // 이전 소유 포트폴리오의 목록에서도 빠지므로 양쪽 모두 알린다
+            eventPublisher.publishEvent(ContentChangeEvent.post(post.getId(), previousOwner, ContentChangeEvent.UPDATED));
+        }
+        eventPublisher.publishEvent(ContentChangeEvent.post(post.getId(), memberCode, ContentChangeEvent.UPDATED));
+        return PatchResult.changed(PostResponse.from(post));
     }
 
     @Override
     @Transactional
     public void deletePost(Long postId) {
-        if (!postRepository.existsById(postId)) {
-            throw new IllegalArgumentException("Post not found");
-        }
-        postRepository.deleteById(postId);
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("Post not found"));
+        postRepository.delete(post);
+        postOutlineService.deleteSections(postId);
+        eventPublisher.publishEvent(ContentChangeEvent.post(postId, post.getMemberCode(), ContentChangeEvent.DELETED));
     }
 
     private void validateRequest(PostRequest request) {
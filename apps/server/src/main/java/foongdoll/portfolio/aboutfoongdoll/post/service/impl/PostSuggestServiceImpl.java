@@ -0,0 +1,134 @@
+package foongdoll.portfolio.aboutfoongdoll.post.service.impl;
+
+import foongdoll.portfolio.aboutfoongdoll.common.event.ContentChangeEvent;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostSuggestion;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostTerms;
+import foongdoll.portfolio.aboutfoongdoll.post.repository.PostRepository;
+import foongdoll.portfolio.aboutfoongdoll.post.service.PostSuggestService;
+import foongdoll.portfolio.aboutfoongdoll.post.suggest.SuggestIndex;
+import foongdoll.portfolio.aboutfoongdoll.post.suggest.SuggestIndex.Kind;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 포스트 제목/카테고리/키워드 자동완성. 기동 시 프로젝션 쿼리 한 번으로 색인을 만들고,
+ * 이후에는 포스트 변경 이벤트(커밋 후)마다 해당 포스트만 다시 읽어 반영한다.
+ * id 없는 재동기화 이벤트(다른 노드의 변경을 놓쳤을 수 있음)는 이벤트 스레드 밖에서 색인 전체를 다시 만든다.
+ * 조회는 메모리 색인만 보므로 키 입력마다 DB 를 치지 않는다.
+ */
+@Slf4j
+@Observed(name = "app.service")
+@Service
+public class PostSuggestServiceImpl implements PostSuggestService {
+
+    // 키워드 구분자: 쉼표/세미콜론/줄바꿈/해시
+    private static final Pattern KEYWORD_SEPARATOR = Pattern.compile("[,;#\\n]+");
+    private static final int MAX_PREFIX = 50;
+
+    private final PostRepository postRepository;
+    private final SuggestIndex index;
+    private final int maxResults;
+    private volatile boolean ready;
+
+    // 재동기화 재구성: 대기 중인 요청이 있으면 합친다
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final SimpleAsyncTaskExecutor rebuildExecutor = new SimpleAsyncTaskExecutor("suggest-rebuild-");
+
+    public PostSuggestServiceImpl(PostRepository postRepository,
+                                  @Value("${app.post-suggest.max-results:20}") int maxResults,
+                                  @Value("${app.post-suggest.cached-prefixes:2048}") int cachedPrefixes) {
+        this.postRepository = postRepository;
+        this.maxResults = maxResults;
+        this.index = new SuggestIndex(cachedPrefixes, maxResults);
+        this.rebuildExecutor.setDaemon(true);
+    }
+
+    @Override
+    public List<PostSuggestion> suggest(String prefix, int size) {
+        if (!ready || !StringUtils.hasText(prefix) || prefix.length() > MAX_PREFIX) return List.of();
+        return index.suggest(prefix, Math.min(Math.max(size, 1), maxResults)).stream()
+                .map(term -> PostSuggestion.builder()
+                        .text(term.text())
+                        .type(term.kind().name().toLowerCase(Locale.ROOT))
+                        .count(term.count())
+                        .postId(term.kind() == Kind.TITLE ? term.latestPostId() : null)
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // 쓰기와 겹치지 않도록 색인 락을 잡은 채 읽는다 (그동안 들어온 변경은 끝난 뒤 다시 반영됨)
+        synchronized (index) {
+            long started = System.nanoTime();
+            List<PostTerms> all = postRepository.findAllTerms();
+            index.clear();
+            all.forEach(this::put);
+            ready = true;
+            log.info("[suggest] indexed {} post(s), {} term(s) in {} ms",
+                    all.size(), index.size(), (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentChange(ContentChangeEvent event) {
+        if (!ContentChangeEvent.POST.equals(event.getType())) return;
+        if (event.getId() == null) {
+            rebuildInBackground();
+            return;
+        }
+        synchronized (index) {
+            if (ContentChangeEvent.DELETED.equals(event.getAction())) {
+                index.remove(event.getId());
+                return;
+            }
+            postRepository.findTermsById(event.getId())
+                    .ifPresentOrElse(this::put, () -> index.remove(event.getId()));
+        }
+    }
+
+    private void rebuildInBackground() {
+        if (!rebuildPending.compareAndSet(false, true)) return;
+        rebuildExecutor.execute(() -> {
+            // 재구성 중에 온 재동기화는 다음 재구성으로 넘긴다 (이미 읽기 시작한 결과에는 빠졌을 수 있으므로)
+            rebuildPending.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("[suggest] resync rebuild failed, keeping the previous index: {}", e.getMessage());
+            }
+        });
+    }
+
+    private void put(PostTerms terms) {
+        Map<Kind, Set<String>> texts = new EnumMap<>(Kind.class);
+        if (StringUtils.hasText(terms.title())) texts.put(Kind.TITLE, Set.of(terms.title().trim()));
+        if (StringUtils.hasText(terms.category())) texts.put(Kind.CATEGORY, Set.of(terms.category().trim()));
+        if (StringUtils.hasText(terms.keywords())) {
+            Set<String> keywords = new LinkedHashSet<>();
+            for (String keyword : KEYWORD_SEPARATOR.split(terms.keywords())) {
+                if (StringUtils.hasText(keyword)) keywords.add(keyword.trim());
+            }
+            texts.put(Kind.KEYWORD, keywords);
+        }
+        index.put(terms.id(), texts);
+    }
+}
@@ -0,0 +1,235 @@
+package foongdoll.portfolio.aboutfoongdoll.post.service.impl;
+
+import foongdoll.portfolio.aboutfoongdoll.common.event.ContentChangeEvent;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostText;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.RelatedPost;
+import foongdoll.portfolio.aboutfoongdoll.post.related.MinHashIndex;
+import foongdoll.portfolio.aboutfoongdoll.post.related.MinHashIndex.Doc;
+import foongdoll.portfolio.aboutfoongdoll.post.related.Shingles;
+import foongdoll.portfolio.aboutfoongdoll.post.repository.PostRepository;
+import foongdoll.portfolio.aboutfoongdoll.post.service.RelatedPostService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 관련 글 추천. 포스트마다 제목/키워드/본문 용어 집합의 MinHash 서명을 LSH 색인(MinHashIndex)에 두고,
+ * GET /api/posts/{id}/related 는 메모리 색인만 본다 (페이지 조회마다 DB 를 치지 않는다).
+ *
+ * - 기동 시 id 순으로 batch-size 씩 끊어 읽고, 배치마다 서명 계산을 fork/join 으로 코어에 나눈다.
+ *   재구성은 백그라운드 스레드에서 돌고(기동/이벤트 스레드를 막지 않음), 새 색인을 다 만든 뒤 교체하므로
+ *   재구성 중에도 이전 색인으로 응답한다. 재구성 중 요청이 또 오면 끝난 뒤 한 번 더 돈다
+ * - 이후에는 포스트 변경 이벤트(커밋 후, 다른 노드 변경 포함)마다 해당 포스트만 다시 읽어 반영한다.
+ *   id 없는 재동기화 이벤트면 전체 재구성을 예약한다
+ * - 재구성은 쓰기 락 없이 읽는다. 그동안 반영된 변경의 id 를 모아 두었다가 교체 직전에 새 색인에 다시 반영한다
+ * - 색인 크기는 app.related-posts.indexed / bytes / bytes-per-post 게이지와 재구성 로그로 보고한다
+ */
+@Slf4j
+@Observed(name = "app.service")
+@Service
+public class RelatedPostServiceImpl implements RelatedPostService {
+
+    private final PostRepository postRepository;
+    private final int bands;
+    private final int rows;
+    private final int maxResults;
+    private final int maxContentChars;
+    private final int batchSize;
+    private final int parallelism;
+    private final int scanLimit;
+
+    private final Object writeLock = new Object();
+    private volatile MinHashIndex index;
+    private volatile boolean ready;
+
+    // 재구성 중 반영된 변경 id (writeLock 으로 보호, 재구성 중이 아니면 null)
+    private Set<Long> changedDuringRebuild;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile boolean rebuildRequested;
+    private final SimpleAsyncTaskExecutor rebuildExecutor = new SimpleAsyncTaskExecutor("related-rebuild-");
+
+    public RelatedPostServiceImpl(PostRepository postRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.related-posts.bands:16}") int bands,
+                                  @Value("${app.related-posts.rows:4}") int rows,
+                                  @Value("${app.related-posts.max-results:20}") int maxResults,
+                                  @Value("${app.related-posts.max-content-chars:20000}") int maxContentChars,
+                                  @Value("${app.related-posts.rebuild.batch-size:200}") int batchSize,
+                                  @Value("${app.related-posts.rebuild.parallelism:0}") int parallelism,
+                                  @Value("${app.related-posts.scan-limit:5000}") int scanLimit) {
+        this.postRepository = postRepository;
+        this.bands = bands;
+        this.rows = rows;
+        this.maxResults = maxResults;
+        this.maxContentChars = maxContentChars;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.scanLimit = scanLimit;
+        this.index = new MinHashIndex(bands, rows, scanLimit);
+        this.rebuildExecutor.setDaemon(true);
+
+        Gauge.builder("app.related-posts.indexed", this, s -> s.index.size()).register(meterRegistry);
+        Gauge.builder("app.related-posts.bytes", this, s -> s.index.approxBytes())
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("app.related-posts.bytes-per-post", this, s -> s.index.approxBytesPerPost())
+                .baseUnit("bytes").register(meterRegistry);
+    }
+
+    @Override
+    public Optional<List<RelatedPost>> related(Long postId, int k) {
+        if (!ready) return Optional.of(List.of());
+        List<MinHashIndex.Match> matches = index.related(postId, Math.min(Math.max(k, 1), maxResults));
+        if (matches == null) return Optional.empty();
+        return Optional.of(matches.stream()
+                .map(m -> RelatedPost.builder()
+                        .postId(m.doc().postId())
+                        .title(m.doc().title())
+                        .category(m.doc().category())
+                        .similarity(Math.round(m.similarity() * 1000) / 1000.0)
+                        .build())
+                .toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /** 재구성을 백그라운드로 예약한다. 이미 도는 중이면 끝난 뒤 한 번 더 돈다 */
+    @Override
+    public void rebuild() {
+        rebuildRequested = true;
+        if (!rebuilding.compareAndSet(false, true)) return;
+        rebuildExecutor.execute(this::rebuildLoop);
+    }
+
+    private void rebuildLoop() {
+        try {
+            while (rebuildRequested) {
+                rebuildRequested = false;
+                try {
+                    rebuildNow();
+                } catch (RuntimeException e) {
+                    log.warn("[related] rebuild failed, keeping the previous index: {}", e.getMessage());
+                }
+            }
+        } finally {
+            rebuilding.set(false);
+        }
+        // 플래그를 내린 사이 들어온 요청
+        if (rebuildRequested) rebuild();
+    }
+
+    private void rebuildNow() {
+        long started = System.nanoTime();
+        synchronized (writeLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        MinHashIndex fresh = new MinHashIndex(bands, rows, scanLimit);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long after = 0;
+            List<PostText> batch;
+            while (!(batch = postRepository.findTextsAfter(after, PageRequest.of(0, batchSize))).isEmpty()) {
+                Doc[] docs = new Doc[batch.size()];
+                pool.invoke(new SignTask(fresh, batch, docs, 0, docs.length));
+                for (Doc doc : docs) fresh.put(doc);
+                after = batch.get(batch.size() - 1).id();
+            }
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
+        int replayed;
+        synchronized (writeLock) {
+            // 읽는 동안 커밋된 변경은 스캔 결과에 빠졌거나 이전 내용일 수 있으므로 다시 읽어 반영한 뒤 교체
+            replayed = changedDuringRebuild.size();
+            for (Long id : changedDuringRebuild) apply(fresh, id, false);
+            changedDuringRebuild = null;
+            index = fresh;
+            ready = true;
+        }
+        log.info("[related] indexed {} post(s), {} bucket(s), ~{} KB (~{} bytes/post) in {} ms using {} thread(s), {} change(s) replayed",
+                fresh.size(), fresh.bucketCount(), fresh.approxBytes() / 1024, fresh.approxBytesPerPost(),
+                (System.nanoTime() - started) / 1_000_000, parallelism, replayed);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onContentChange(ContentChangeEvent event) {
+        if (!ContentChangeEvent.POST.equals(event.getType())) return;
+        if (event.getId() == null) {
+            rebuild();
+            return;
+        }
+        synchronized (writeLock) {
+            if (changedDuringRebuild != null) changedDuringRebuild.add(event.getId());
+            apply(index, event.getId(), ContentChangeEvent.DELETED.equals(event.getAction()));
+        }
+    }
+
+    /** 포스트 하나를 DB 에서 다시 읽어 target 에 반영한다 (없으면 제거) */
+    private void apply(MinHashIndex target, Long postId, boolean deleted) {
+        if (deleted) {
+            target.remove(postId);
+            return;
+        }
+        postRepository.findTextById(postId)
+                .ifPresentOrElse(text -> target.put(sign(target, text)), () -> target.remove(postId));
+    }
+
+    private Doc sign(MinHashIndex target, PostText text) {
+        return target.sign(text.id(), text.memberCode(), text.title(), text.category(),
+                Shingles.of(text.title(), text.keywords(), text.content(), maxContentChars));
+    }
+
+    /** 배치를 반씩 나눠 서명을 계산한다. 결과는 배치 순서대로 docs 에 채운다 */
+    private final class SignTask extends RecursiveAction {
+
+        private static final int THRESHOLD = 8;
+
+        private final MinHashIndex target;
+        private final List<PostText> batch;
+        private final Doc[] docs;
+        private final int from;
+        private final int to;
+
+        SignTask(MinHashIndex target, List<PostText> batch, Doc[] docs, int from, int to) {
+            this.target = target;
+            this.batch = batch;
+            this.docs = docs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) docs[i] = sign(target, batch.get(i));
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SignTask(target, batch, docs, from, mid), new SignTask(target, batch, docs, mid, to));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package foongdoll.portfolio.aboutfoongdoll.post.suggest;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 자동완성 키 정규화. 한글 음절을 호환 자모로 풀고 겹받침/이중모음도 낱자로 나눈다.
+ * 입력 중인 글자도 완성된 단어의 접두어가 되도록 하기 위함이다.
+ *   "한글" -> ㅎㅏㄴㄱㅡㄹ,  "한ㄱ" / "하ㄴ" / "한그" 모두 그 접두어
+ *   "닭"   -> ㄷㅏㄹㄱ ("달ㄱ" 입력과 일치),  "과" -> ㄱㅗㅏ ("고ㅏ" 입력과 일치)
+ * 그 밖의 문자는 NFC + 소문자, 연속 공백은 하나로 줄인다 (NFKC 는 호환 자모를 조합형 자모로 바꾸므로 쓰지 않는다).
+ */
+public final class HangulJamo {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄱㄱ", "ㄴ", "ㄷ", "ㄷㄷ", "ㄹ", "ㅁ", "ㅂ", "ㅂㅂ", "ㅅ",
+            "ㅅㅅ", "ㅇ", "ㅈ", "ㅈㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄱㄱ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅅㅅ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모(ㄱ U+3131 ~ ㅣ U+3163) 중 겹자모 분해
+    private static final String[] COMPAT = new String[0x3163 - 0x3131 + 1];
+
+    static {
+        String compound = "ㄲㄱㄱ ㄳㄱㅅ ㄵㄴㅈ ㄶㄴㅎ ㄸㄷㄷ ㄺㄹㄱ ㄻㄹㅁ ㄼㄹㅂ ㄽㄹㅅ ㄾㄹㅌ ㄿㄹㅍ ㅀㄹㅎ ㅃㅂㅂ ㅄㅂㅅ ㅆㅅㅅ ㅉㅈㅈ "
+                + "ㅘㅗㅏ ㅙㅗㅐ ㅚㅗㅣ ㅝㅜㅓ ㅞㅜㅔ ㅟㅜㅣ ㅢㅡㅣ";
+        for (String entry : compound.split(" ")) {
+            COMPAT[entry.charAt(0) - 0x3131] = entry.substring(1);
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) return "";
+        String nfkc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder out = new StringBuilder(nfkc.length() * 3);
+        boolean space = false;
+        for (int i = 0; i < nfkc.length(); i++) {
+            char c = nfkc.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = out.length() > 0;
+                continue;
+            }
+            if (space) {
+                out.append(' ');
+                space = false;
+            }
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                out.append(CHOSEONG[index / (21 * 28)])
+                        .append(JUNGSEONG[(index % (21 * 28)) / 28])
+                        .append(JONGSEONG[index % 28]);
+            } else if (c >= 0x3131 && c <= 0x3163 && COMPAT[c - 0x3131] != null) {
+                out.append(COMPAT[c - 0x3131]);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
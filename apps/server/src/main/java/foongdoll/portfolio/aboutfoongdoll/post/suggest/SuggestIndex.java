@@ -0,0 +1,133 @@
+package foongdoll.portfolio.aboutfoongdoll.post.suggest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 정규화 키(HangulJamo) 순으로 정렬된 용어 색인. 접두어 조회는 정렬 맵의 구간 조회다.
+ *
+ * - 키: 정규화 문자열 + '\0' + 종류. 같은 단어라도 제목/카테고리/키워드는 별도 항목.
+ * - 항목은 불변이며, 포스트 추가/삭제 시 새 항목으로 교체한다. 조회는 락 없이 읽고 쓰기만 직렬화.
+ * - 인기도 = 그 용어를 쓰는 포스트 수. 같으면 최근 포스트, 짧은 단어 순.
+ * - 접두어별 top-k 는 캐시하고 쓰기가 일어나면 비운다 (쓰기는 드물고 같은 접두어가 반복 입력된다).
+ */
+public class SuggestIndex {
+
+    public enum Kind { TITLE, CATEGORY, KEYWORD }
+
+    /** count 는 postIds 크기, latestPostId 는 그중 최댓값 */
+    public record Term(String text, Kind kind, Set<Long> postIds, long latestPostId) {
+        public int count() {
+            return postIds.size();
+        }
+    }
+
+    private static final Comparator<Term> RANK = Comparator.comparingInt(Term::count)
+            .thenComparingLong(Term::latestPostId)
+            .thenComparing(t -> -t.text().length());
+
+    private final ConcurrentSkipListMap<String, Term> terms = new ConcurrentSkipListMap<>();
+    private final Map<Long, List<String>> keysByPost = new HashMap<>();
+    // 쓰기 때마다 새 맵으로 교체. 조회 중 교체되면 그 결과는 버려진 맵에 들어가므로 오래된 순위가 남지 않는다
+    private volatile ConcurrentHashMap<String, List<Term>> topK = new ConcurrentHashMap<>();
+    private final int maxCachedPrefixes;
+    private final int maxResults;
+
+    public SuggestIndex(int maxCachedPrefixes, int maxResults) {
+        this.maxCachedPrefixes = maxCachedPrefixes;
+        this.maxResults = maxResults;
+    }
+
+    /** 포스트의 용어를 (재)등록한다. 이전에 등록된 용어 중 빠진 것은 제거 */
+    public synchronized void put(long postId, Map<Kind, Set<String>> texts) {
+        removeInternal(postId);
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<Kind, Set<String>> e : texts.entrySet()) {
+            for (String text : e.getValue()) {
+                String normalized = HangulJamo.normalize(text);
+                if (normalized.isEmpty()) continue;
+                String key = normalized + '\0' + e.getKey().ordinal();
+                terms.compute(key, (k, term) -> add(term, text, e.getKey(), postId));
+                keys.add(key);
+            }
+        }
+        if (!keys.isEmpty()) keysByPost.put(postId, keys);
+        topK = new ConcurrentHashMap<>();
+    }
+
+    public synchronized void remove(long postId) {
+        removeInternal(postId);
+        topK = new ConcurrentHashMap<>();
+    }
+
+    public synchronized void clear() {
+        terms.clear();
+        keysByPost.clear();
+        topK = new ConcurrentHashMap<>();
+    }
+
+    /** prefix 로 시작하는 용어 중 인기 순 상위 limit 개 */
+    public List<Term> suggest(String prefix, int limit) {
+        String normalized = HangulJamo.normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) return List.of();
+
+        ConcurrentHashMap<String, List<Term>> cache = topK;
+        List<Term> ranked = cache.get(normalized);
+        if (ranked == null) {
+            ranked = rank(normalized);
+            if (cache.size() >= maxCachedPrefixes) cache.clear();
+            cache.put(normalized, ranked);
+        }
+        return ranked.size() <= limit ? ranked : ranked.subList(0, limit);
+    }
+
+    public int size() {
+        return terms.size();
+    }
+
+    private List<Term> rank(String normalized) {
+        // '\uffff' 는 정규화 결과에 나오지 않으므로 구간의 상한으로 쓸 수 있다
+        NavigableMap<String, Term> range = terms.subMap(normalized, true, normalized + '\uffff', false);
+        PriorityQueue<Term> heap = new PriorityQueue<>(maxResults + 1, RANK);
+        for (Term term : range.values()) {
+            heap.offer(term);
+            if (heap.size() > maxResults) heap.poll();
+        }
+        List<Term> ranked = new ArrayList<>(heap);
+        ranked.sort(RANK.reversed());
+        return List.copyOf(ranked);
+    }
+
+    private void removeInternal(long postId) {
+        List<String> keys = keysByPost.remove(postId);
+        if (keys == null) return;
+        for (String key : keys) {
+            terms.computeIfPresent(key, (k, term) -> without(term, postId));
+        }
+    }
+
+    private static Term add(Term term, String text, Kind kind, long postId) {
+        if (term == null) return new Term(text, kind, Set.of(postId), postId);
+        Set<Long> ids = new LinkedHashSet<>(term.postIds());
+        ids.add(postId);
+        return new Term(term.text(), kind, Set.copyOf(ids), Math.max(term.latestPostId(), postId));
+    }
+
+    private static Term without(Term term, long postId) {
+        if (!term.postIds().contains(postId)) return term;
+        if (term.postIds().size() == 1) return null;
+        TreeSet<Long> ids = new TreeSet<>(term.postIds());
+        ids.remove(postId);
+        return new Term(term.text(), term.kind(), Set.copyOf(ids), ids.last());
+    }
+}
@@ -0,0 +1,115 @@
+package foongdoll.portfolio.aboutfoongdoll.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import foongdoll.portfolio.aboutfoongdoll.experience.render.ExperienceSectionRenderer;
+import foongdoll.portfolio.aboutfoongdoll.resume.render.ResumeSectionRenderer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 논블로킹 읽기 경로 (app.reactive-read.enabled=true 일 때만).
+ *
+ * GET /api/posts, /api/posts/{postId}, /api/resume, /api/experience 를 별도 포트에서 R2DBC 로 응답한다.
+ * 요청이 DB 왕복을 기다리는 동안 스레드도 커넥션도 잡지 않으므로 동시 접속 수가 Tomcat 스레드/Hikari 풀 크기에 묶이지 않는다.
+ * 쓰기와 나머지 API 는 기존 Tomcat + JPA 경로 그대로이며, 응답 캐시/동시성 제한 필터는 이 포트에 적용되지 않는다.
+ * R2DBC 자동 구성은 꺼 두고(spring.autoconfigure.exclude) 커넥션 풀은 이 설정이 켜졌을 때만 spring.r2dbc.* 로 만든다.
+ * 꺼져 있으면 풀도 r2dbc 헬스 체크도 생기지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.reactive-read", name = "enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveReadConnectionPool(@Value("${spring.r2dbc.url}") String url,
+                                                     @Value("${spring.r2dbc.username:}") String username,
+                                                     @Value("${spring.r2dbc.password:}") String password,
+                                                     @Value("${spring.r2dbc.pool.initial-size:2}") int initialSize,
+                                                     @Value("${spring.r2dbc.pool.max-size:10}") int maxSize) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(url)
+                .username(username)
+                .password(password)
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("reactive-read")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .build());
+    }
+
+    @Bean
+    public ReactiveReadHandler reactiveReadHandler(ConnectionFactory connectionFactory,
+                                                   ResumeSectionRenderer resumeSectionRenderer,
+                                                   ExperienceSectionRenderer experienceSectionRenderer) {
+        return new ReactiveReadHandler(new ReactiveReadRepository(DatabaseClient.create(connectionFactory)),
+                resumeSectionRenderer, experienceSectionRenderer);
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(ReactiveReadHandler handler,
+                                                 ObjectMapper objectMapper,
+                                                 MappingJackson2CborHttpMessageConverter cborConverter,
+                                                 MappingJackson2SmileHttpMessageConverter smileConverter,
+                                                 @Value("${app.reactive-read.host:0.0.0.0}") String host,
+                                                 @Value("${app.reactive-read.port:8081}") int port,
+                                                 @Value("${app.cors.allowed-origins:http://3.38.237.211,http://localhost:8080}") String allowedOrigins) {
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+                .GET("/api/posts", handler::getPosts)
+                .GET("/api/posts/{postId}", handler::getPost)
+                .GET("/api/resume", handler::getResume)
+                .GET("/api/experience", handler::getExperience)
+                .build();
+
+        // MVC 와 같은 ObjectMapper (LocalDateTime 직렬화 등) 로 응답을 쓴다. CBOR/Smile 도 MVC 컨버터의 매퍼를 공유
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON));
+                    codecs.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileConverter.getObjectMapper()));
+                    codecs.customCodecs().registerWithDefaultConfig(new Jackson2CborEncoder(cborConverter.getObjectMapper()));
+                })
+                .webFilter(corsFilter(allowedOrigins))
+                .build();
+        return new ReactiveReadServer(RouterFunctions.toHttpHandler(routes, strategies), host, port);
+    }
+
+    // WebMvcConfig 의 CORS 설정과 동일 (읽기 전용이므로 GET/OPTIONS 만)
+    private static CorsWebFilter corsFilter(String allowedOrigins) {
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.setAllowedOriginPatterns(Arrays.stream(allowedOrigins.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .toList());
+        cors.setAllowedMethods(List.of("GET", "OPTIONS"));
+        cors.addAllowedHeader("*");
+        cors.addExposedHeader("*");
+        cors.setAllowCredentials(true);
+        cors.setMaxAge(3600L);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", cors);
+        return new CorsWebFilter(source);
+    }
+}
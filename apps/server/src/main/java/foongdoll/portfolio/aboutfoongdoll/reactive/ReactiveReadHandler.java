@@ -0,0 +1,96 @@
+package foongdoll.portfolio.aboutfoongdoll.reactive;
+
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
+import foongdoll.portfolio.aboutfoongdoll.experience.render.ExperienceSectionRenderer;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PageResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostResponse;
+import foongdoll.portfolio.aboutfoongdoll.resume.render.ResumeSectionRenderer;
+import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * PostController / ResumeController / ExperienceController 의 GET 과 같은 응답을 R2DBC 로 만든다.
+ * 파라미터 해석과 실패 메시지도 MVC 쪽과 같게 유지할 것 (클라이언트는 두 포트를 구분하지 않는다).
+ * 이 서버에는 로그인 세션이 없으므로 섹션은 항상 public 보기로 렌더링한다 (editor 요청도 public).
+ */
+@RequiredArgsConstructor
+public class ReactiveReadHandler {
+
+    private final ReactiveReadRepository repository;
+    private final ResumeSectionRenderer resumeSectionRenderer;
+    private final ExperienceSectionRenderer experienceSectionRenderer;
+
+    public Mono<ServerResponse> getPosts(ServerRequest request) {
+        String category = request.queryParam("category")
+                .filter(c -> StringUtils.hasText(c) && !"all".equalsIgnoreCase(c))
+                .orElse(null);
+        int page = intParam(request, "page", 1);
+        int size = Math.max(intParam(request, "size", 10), 1);
+        int offset = Math.max(page - 1, 0) * size;
+
+        Mono<PageResponse<PostResponse>> result = Mono.zip(
+                repository.findPosts(category, offset, size).map(PostResponse::from).collectList(),
+                repository.countPosts(category)
+        ).map(t -> new PageResponse<>(t.getT1(), (int) ((t.getT2() + size - 1) / size), t.getT2(), page, size));
+        return ok(result.map(ResponseVO::ok));
+    }
+
+    public Mono<ServerResponse> getPost(ServerRequest request) {
+        Long postId;
+        try {
+            postId = Long.valueOf(request.pathVariable("postId"));
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        return ok(repository.findPost(postId)
+                .map(post -> ResponseVO.ok(PostResponse.from(post)))
+                .defaultIfEmpty(ResponseVO.fail("Post not found")));
+    }
+
+    public Mono<ServerResponse> getResume(ServerRequest request) {
+        SectionView view;
+        try {
+            view = sectionView(request);
+        } catch (IllegalArgumentException e) {
+            return ok(Mono.just(ResponseVO.fail(e.getMessage())));
+        }
+        return ok(repository.findFirstResume()
+                .map(resume -> ResponseVO.ok(resumeSectionRenderer.render(resume, view)))
+                .defaultIfEmpty(ResponseVO.fail("Resume not found")));
+    }
+
+    public Mono<ServerResponse> getExperience(ServerRequest request) {
+        String companyCode = request.queryParam("company").filter(StringUtils::hasText).orElse(null);
+        SectionView view;
+        try {
+            view = sectionView(request);
+        } catch (IllegalArgumentException e) {
+            return ok(Mono.just(ResponseVO.fail(e.getMessage())));
+        }
+        return ok(repository.findExperiences(companyCode)
+                .collectList()
+                .map(experiences -> experiences.isEmpty()
+                        ? ResponseVO.fail("Experience not found")
+                        : ResponseVO.ok(experienceSectionRenderer.render(experiences, view))));
+    }
+
+    private static SectionView sectionView(ServerRequest request) {
+        return SectionView.of(request.queryParam("view").orElse(null), request.queryParam("fields").orElse(null), false);
+    }
+
+    private static Mono<ServerResponse> ok(Mono<? extends ResponseVO<?>> body) {
+        return body.flatMap(vo -> ServerResponse.ok().bodyValue(vo));
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        try {
+            return request.queryParam(name).map(Integer::parseInt).orElse(defaultValue);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
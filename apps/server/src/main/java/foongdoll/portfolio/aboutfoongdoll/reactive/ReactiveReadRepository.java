@@ -0,0 +1,129 @@
+package foongdoll.portfolio.aboutfoongdoll.reactive;
+
+import foongdoll.portfolio.aboutfoongdoll.experience.entity.Experience;
+import foongdoll.portfolio.aboutfoongdoll.post.entity.Post;
+import foongdoll.portfolio.aboutfoongdoll.resume.entity.Company;
+import foongdoll.portfolio.aboutfoongdoll.resume.entity.Resume;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC 조회. JPA 리포지토리와 같은 인덱스 경로(QueryPlanVerifier 가 EXPLAIN 하는 JPA 쿼리)를 타도록 SQL 을 맞춘다.
+ * 결과는 기존 엔티티 객체로 채워 렌더러/DTO 변환을 그대로 재사용한다 (영속성 컨텍스트와는 무관한 단순 값 객체).
+ */
+@RequiredArgsConstructor
+public class ReactiveReadRepository {
+
+    private static final String POST_COLUMNS =
+            "p.post_id, p.member_code, p.title, p.category, p.keywords, p.summary, p.content, p.published_at, p.updated_at";
+
+    private static final String EXPERIENCE_SELECT =
+            "SELECT e.experience_id, e.experience_code, e.name, e.member_code, e.period, e.role, e.tech_stack, e.keywords, e.details, "
+                    + "c.company_id, c.company_code, c.name AS company_name, c.address, c.phone, c.industry, c.department, c.position, c.salary "
+                    + "FROM experience e JOIN company c ON c.company_id = e.company_id ";
+
+    private final DatabaseClient db;
+
+    public Flux<Post> findPosts(String category, int offset, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = category == null
+                ? db.sql("SELECT " + POST_COLUMNS + " FROM post p ORDER BY p.post_id DESC LIMIT :limit OFFSET :offset")
+                : db.sql("SELECT " + POST_COLUMNS + " FROM post p WHERE p.category = :category ORDER BY p.post_id DESC LIMIT :limit OFFSET :offset")
+                        .bind("category", category);
+        return spec.bind("limit", limit).bind("offset", offset)
+                .map(ReactiveReadRepository::toPost)
+                .all();
+    }
+
+    public Mono<Long> countPosts(String category) {
+        DatabaseClient.GenericExecuteSpec spec = category == null
+                ? db.sql("SELECT COUNT(p.post_id) AS cnt FROM post p")
+                : db.sql("SELECT COUNT(p.post_id) AS cnt FROM post p WHERE p.category = :category").bind("category", category);
+        return spec.map(row -> ((Number) row.get("cnt")).longValue()).one();
+    }
+
+    public Mono<Post> findPost(Long postId) {
+        return db.sql("SELECT " + POST_COLUMNS + " FROM post p WHERE p.post_id = :id")
+                .bind("id", postId)
+                .map(ReactiveReadRepository::toPost)
+                .one();
+    }
+
+    /** ResumeRepository.findTopByOrderByIdAsc 와 같은 조회 */
+    public Mono<Resume> findFirstResume() {
+        return db.sql("SELECT r.resume_id, r.member_code, r.name, r.gender, r.email, r.phone, r.address, r.summary, "
+                        + "r.skills, r.experiences, r.activities, r.education FROM resume r ORDER BY r.resume_id LIMIT 1")
+                .map(ReactiveReadRepository::toResume)
+                .one();
+    }
+
+    /** ExperienceRepository 의 EntityGraph 조회와 같이 company 를 한 번에 가져온다 */
+    public Flux<Experience> findExperiences(String companyCode) {
+        DatabaseClient.GenericExecuteSpec spec = companyCode == null
+                ? db.sql(EXPERIENCE_SELECT + "ORDER BY e.experience_id")
+                : db.sql(EXPERIENCE_SELECT + "WHERE c.company_code = :companyCode ORDER BY e.experience_id")
+                        .bind("companyCode", companyCode);
+        return spec.map(ReactiveReadRepository::toExperience).all();
+    }
+
+    private static Post toPost(Readable row) {
+        return Post.builder()
+                .id(row.get("post_id", Long.class))
+                .memberCode(row.get("member_code", String.class))
+                .title(row.get("title", String.class))
+                .category(row.get("category", String.class))
+                .keywords(row.get("keywords", String.class))
+                .summary(row.get("summary", String.class))
+                .content(row.get("content", String.class))
+                .publishedAt(row.get("published_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+
+    private static Resume toResume(Readable row) {
+        return Resume.builder()
+                .id(row.get("resume_id", Long.class))
+                .memberCode(row.get("member_code", String.class))
+                .name(row.get("name", String.class))
+                .gender(row.get("gender", String.class))
+                .email(row.get("email", String.class))
+                .phone(row.get("phone", String.class))
+                .address(row.get("address", String.class))
+                .summary(row.get("summary", String.class))
+                .skills(row.get("skills", String.class))
+                .experiences(row.get("experiences", String.class))
+                .activities(row.get("activities", String.class))
+                .education(row.get("education", String.class))
+                .build();
+    }
+
+    private static Experience toExperience(Readable row) {
+        Company company = Company.builder()
+                .id(row.get("company_id", Long.class))
+                .companyCode(row.get("company_code", String.class))
+                .name(row.get("company_name", String.class))
+                .address(row.get("address", String.class))
+                .phone(row.get("phone", String.class))
+                .industry(row.get("industry", String.class))
+                .department(row.get("department", String.class))
+                .position(row.get("position", String.class))
+                .salary(row.get("salary", Integer.class))
+                .build();
+        return Experience.builder()
+                .id(row.get("experience_id", Long.class))
+                .experienceCode(row.get("experience_code", String.class))
+                .name(row.get("name", String.class))
+                .memberCode(row.get("member_code", String.class))
+                .company(company)
+                .period(row.get("period", String.class))
+                .role(row.get("role", String.class))
+                .techStack(row.get("tech_stack", String.class))
+                .keywords(row.get("keywords", String.class))
+                .details(row.get("details", String.class))
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package foongdoll.portfolio.aboutfoongdoll.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 WebFlux 핸들러를 Tomcat 과 별도 포트의 Reactor Netty 에 올린다.
+ * 한 애플리케이션에 서블릿/리액티브 웹 서버를 함께 띄울 수 없으므로 Spring Boot 의 웹 서버 자동 구성을 쓰지 않고 직접 바인딩한다.
+ */
+@Slf4j
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private final HttpHandler httpHandler;
+    private final String host;
+    private final int port;
+    private volatile DisposableServer server;
+
+    public ReactiveReadServer(HttpHandler httpHandler, String host, int port) {
+        this.httpHandler = httpHandler;
+        this.host = host;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .host(host)
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("[reactive-read] listening on {}:{}", host, server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer s = server;
+        if (s != null) {
+            s.disposeNow(Duration.ofSeconds(5));
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /** 실제 바인딩된 포트 (app.reactive-read.port=0 일 때 확인용). 시작 전이면 -1 */
+    public int getPort() {
+        DisposableServer s = server;
+        return s == null ? -1 : s.port();
+    }
+}
@@ -1,18 +1,24 @@
 package foongdoll.portfolio.aboutfoongdoll.resume.controller;
 
 import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
+import foongdoll.portfolio.aboutfoongdoll.filter.UuidAuthFilter;
 import foongdoll.portfolio.aboutfoongdoll.resume.dto.ResumeRequest;
 import foongdoll.portfolio.aboutfoongdoll.resume.service.ResumeService;
 import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+@Observed(name = "app.controller")
 @RestController
 @RequestMapping("/api/resume")
 @RequiredArgsConstructor
@@ -20,9 +26,18 @@ public class ResumeController {
 
     private final ResumeService resumeService;
 
+    /** ?view=public|editor&fields=header,content (SectionView) */
     @GetMapping
-    public ResponseVO<SectionResponse> getResume() {
-        return resumeService.getResume()
+    public ResponseVO<SectionResponse> getResume(@RequestParam(value = "view", required = false) String view,
+                                                 @RequestParam(value = "fields", required = false) String fields,
+                                                 HttpServletRequest request) {
+        SectionView sectionView;
+        try {
+            sectionView = SectionView.of(view, fields, UuidAuthFilter.isAuthenticated(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseVO.fail(e.getMessage());
+        }
+        return resumeService.getResume(sectionView)
                 .map(ResponseVO::ok)
                 .orElseGet(() -> ResponseVO.fail("Resume not found"));
     }
@@ -32,6 +47,16 @@ public class ResumeController {
         return ResponseVO.ok(resumeService.saveResume(request));
     }
 
+    /** memberCode 와 바뀐 필드만 보낸다. 저장된 내용과 같으면 message 가 "unchanged" */
+    @PatchMapping
+    public ResponseVO<SectionResponse> patchResume(@RequestBody ResumeRequest request) {
+        try {
+            return ResponseVO.patched(resumeService.patchResume(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseVO.fail(e.getMessage());
+        }
+    }
+
     @DeleteMapping
     public ResponseVO<String> deleteResume(@RequestParam String memberCode) {
         resumeService.deleteResume(memberCode);
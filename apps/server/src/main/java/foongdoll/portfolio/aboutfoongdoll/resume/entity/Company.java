@@ -1,8 +1,10 @@
 package foongdoll.portfolio.aboutfoongdoll.resume.entity;
+import foongdoll.portfolio.aboutfoongdoll.common.sql.EntityLoadListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@EntityListeners(EntityLoadListener.class)
 @Table(name = "company")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
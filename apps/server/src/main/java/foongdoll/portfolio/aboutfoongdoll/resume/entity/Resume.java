@@ -1,8 +1,13 @@
 package foongdoll.portfolio.aboutfoongdoll.resume.entity;
+import foongdoll.portfolio.aboutfoongdoll.common.sql.EntityLoadListener;
+import foongdoll.portfolio.aboutfoongdoll.utils.ContentHash;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate  // 바뀐 컬럼만 UPDATE (LOB 필드를 매번 다시 쓰지 않도록)
+@EntityListeners(EntityLoadListener.class)
 @Table(name = "resume")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
@@ -45,4 +50,16 @@ public class Resume {
 
     @Lob
     private String education;   // 교육
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 편집 필드 전체 해시 (변경 없음 판단용)
+
+    @PrePersist
+    protected void onCreate() {
+        this.contentHash = computeContentHash();
+    }
+
+    public String computeContentHash() {
+        return ContentHash.of(name, gender, email, phone, address, summary, skills, experiences, activities, education);
+    }
 }
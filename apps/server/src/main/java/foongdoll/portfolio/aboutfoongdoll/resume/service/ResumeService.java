@@ -1,15 +1,23 @@
 package foongdoll.portfolio.aboutfoongdoll.resume.service;
 
+import foongdoll.portfolio.aboutfoongdoll.common.dto.PatchResult;
 import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
 import foongdoll.portfolio.aboutfoongdoll.resume.dto.ResumeRequest;
 
 import java.util.Optional;
 
 public interface ResumeService {
 
-    Optional<SectionResponse> getResume();
+    /** 고르지 않은 부분은 렌더링하지 않는다 (SectionView) */
+    Optional<SectionResponse> getResume(SectionView view);
+
+    Optional<SectionResponse> getResume(String memberCode, SectionView view);
 
     SectionResponse saveResume(ResumeRequest request);
 
+    /** memberCode 의 이력서 부분 수정. null 필드는 유지하며, 내용이 같으면 쓰지 않고 changed=false */
+    PatchResult<SectionResponse> patchResume(ResumeRequest request);
+
     void deleteResume(String memberCode);
 }
@@ -0,0 +1,45 @@
+package foongdoll.portfolio.aboutfoongdoll.section.controller;
+
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
+import foongdoll.portfolio.aboutfoongdoll.filter.UuidAuthFilter;
+import foongdoll.portfolio.aboutfoongdoll.section.dto.SectionsResponse;
+import foongdoll.portfolio.aboutfoongdoll.section.service.SectionService;
+import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Observed(name = "app.controller")
+@RestController
+@RequestMapping("/api/sections")
+@RequiredArgsConstructor
+public class SectionController {
+
+    private final SectionService sectionService;
+
+    @GetMapping
+    public ResponseVO<SectionsResponse> getSections(@RequestParam(value = "include", required = false) String include,
+                                                    @RequestParam(value = "view", required = false) String view,
+                                                    @RequestParam(value = "fields", required = false) String fields,
+                                                    HttpServletRequest request,
+                                                    HttpServletResponse response) {
+        try {
+            SectionView sectionView = SectionView.of(view, fields, UuidAuthFilter.isAuthenticated(request));
+            SectionsResponse sections = sectionService.getSections(include, sectionView);
+            // 일부 파트가 타임아웃/busy 로 빠진 응답은 응답 캐시(ResponseCacheFilter)와 브라우저 모두 저장하지 않는다
+            if (sections.getErrors() != null && !sections.getErrors().isEmpty()) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+            }
+            return ResponseVO.ok(sections);
+        } catch (IllegalArgumentException e) {
+            return ResponseVO.fail(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package foongdoll.portfolio.aboutfoongdoll.section.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PageResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 여러 섹션을 한 번에 담는 응답. 요청하지 않았거나 실패한 파트는 null 이며,
+ * 실패 사유는 errors(파트명 -> 사유)에 담긴다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SectionsResponse {
+
+    private SectionResponse resume;
+    private SectionResponse experience;
+    private PageResponse<PostResponse> posts;
+    private Map<String, String> errors;
+}
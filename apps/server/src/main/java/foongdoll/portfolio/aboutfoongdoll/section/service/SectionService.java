@@ -0,0 +1,13 @@
+package foongdoll.portfolio.aboutfoongdoll.section.service;
+
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
+import foongdoll.portfolio.aboutfoongdoll.section.dto.SectionsResponse;
+
+public interface SectionService {
+
+    /**
+     * @param include 예) "resume,experience,posts:latest:5", "experience:C-1,posts:backend:10"
+     * @param view    resume / experience 파트에 적용할 보기와 필드
+     */
+    SectionsResponse getSections(String include, SectionView view);
+}
@@ -0,0 +1,137 @@
+package foongdoll.portfolio.aboutfoongdoll.section.service.impl;
+
+import foongdoll.portfolio.aboutfoongdoll.common.cache.SingleFlight.SingleFlightTimeoutException;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
+import foongdoll.portfolio.aboutfoongdoll.experience.service.ExperienceService;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PageResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.service.PostService;
+import foongdoll.portfolio.aboutfoongdoll.resume.service.ResumeService;
+import foongdoll.portfolio.aboutfoongdoll.section.dto.SectionsResponse;
+import foongdoll.portfolio.aboutfoongdoll.section.service.SectionService;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 이력서/경험/포스트 섹션을 제한된 풀에서 동시에 조회해 하나의 응답으로 합친다.
+ * - 각 파트는 워커 스레드에서 서비스의 readOnly 트랜잭션을 각자 연다 (이 클래스는 트랜잭션을 열지 않음)
+ * - 파트별 타임아웃을 넘기면 해당 파트만 errors 로 보고하고 나머지는 그대로 반환
+ * 전체 소요 시간은 가장 느린 파트(최대 타임아웃)에 수렴한다.
+ */
+@Observed(name = "app.service")
+@Service
+public class SectionServiceImpl implements SectionService {
+
+    private static final String DEFAULT_INCLUDE = "resume,experience,posts:latest:5";
+    private static final int DEFAULT_POST_SIZE = 5;
+    private static final int MAX_POST_SIZE = 50;
+
+    private final ResumeService resumeService;
+    private final ExperienceService experienceService;
+    private final PostService postService;
+    private final TaskExecutor sectionExecutor;
+    private final long partTimeoutMillis;
+
+    public SectionServiceImpl(ResumeService resumeService,
+                              ExperienceService experienceService,
+                              PostService postService,
+                              @Qualifier("sectionExecutor") TaskExecutor sectionExecutor,
+                              @Value("${app.sections.part-timeout-ms:2000}") long partTimeoutMillis) {
+        this.resumeService = resumeService;
+        this.experienceService = experienceService;
+        this.postService = postService;
+        this.sectionExecutor = sectionExecutor;
+        this.partTimeoutMillis = partTimeoutMillis;
+    }
+
+    @Override
+    public SectionsResponse getSections(String include, SectionView view) {
+        // 파싱을 먼저 끝내고 나서 한꺼번에 제출 (잘못된 include 로 작업이 새지 않도록)
+        Supplier<Optional<SectionResponse>> resumeTask = null;
+        Supplier<Optional<SectionResponse>> experienceTask = null;
+        Supplier<PageResponse<PostResponse>> postsTask = null;
+
+        String spec = StringUtils.hasText(include) ? include : DEFAULT_INCLUDE;
+        for (String raw : spec.split(",")) {
+            String part = raw.trim();
+            if (part.isEmpty()) continue;
+            String[] tokens = part.split(":");
+            switch (tokens[0]) {
+                case "resume" -> resumeTask = () -> resumeService.getResume(view);
+                case "experience" -> {
+                    String companyCode = tokens.length > 1 ? tokens[1] : null;
+                    experienceTask = () -> experienceService.getExperience(companyCode, view);
+                }
+                case "posts" -> postsTask = postsTask(tokens);
+                default -> throw new IllegalArgumentException("Unknown section: " + tokens[0]);
+            }
+        }
+
+        CompletableFuture<Optional<SectionResponse>> resume = resumeTask == null ? null : submit(resumeTask);
+        CompletableFuture<Optional<SectionResponse>> experience = experienceTask == null ? null : submit(experienceTask);
+        CompletableFuture<PageResponse<PostResponse>> posts = postsTask == null ? null : submit(postsTask);
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        SectionsResponse.SectionsResponseBuilder builder = SectionsResponse.builder();
+        if (resume != null) builder.resume(await("resume", resume, errors).flatMap(r -> r).orElse(null));
+        if (experience != null) builder.experience(await("experience", experience, errors).flatMap(e -> e).orElse(null));
+        if (posts != null) builder.posts(await("posts", posts, errors).orElse(null));
+
+        return builder.errors(errors.isEmpty() ? null : errors).build();
+    }
+
+    /** posts | posts:latest:N | posts:{category} | posts:{category}:N */
+    private Supplier<PageResponse<PostResponse>> postsTask(String[] tokens) {
+        String category = tokens.length > 1 && !"latest".equalsIgnoreCase(tokens[1]) ? tokens[1] : null;
+        int size = DEFAULT_POST_SIZE;
+        if (tokens.length > 2) {
+            try {
+                size = Integer.parseInt(tokens[2]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid post count: " + tokens[2]);
+            }
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_POST_SIZE);
+        return () -> postService.getPosts(category, 1, pageSize);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, sectionExecutor)
+                    .orTimeout(partTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> Optional<T> await(String part, CompletableFuture<T> future, Map<String, String> errors) {
+        try {
+            return Optional.ofNullable(future.join());
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof TimeoutException || cause instanceof SingleFlightTimeoutException) {
+                errors.put(part, "timeout");
+            } else if (cause instanceof RejectedExecutionException) {
+                errors.put(part, "busy");
+            } else {
+                errors.put(part, cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage());
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package foongdoll.portfolio.aboutfoongdoll.tenant.controller;
+
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
+import foongdoll.portfolio.aboutfoongdoll.filter.UuidAuthFilter;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PageResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostResponse;
+import foongdoll.portfolio.aboutfoongdoll.tenant.service.TenantPortfolioService;
+import foongdoll.portfolio.aboutfoongdoll.utils.ResponseVO;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 포트폴리오별 공개 조회: /api/{memberCode}/resume | experience | posts
+ * resume / experience 는 ?view= / ?fields= 로 보기와 필드를 고른다 (SectionView).
+ * 기존 /api/resume 등 단일 포트폴리오 경로는 그대로 둔다.
+ */
+@Observed(name = "app.controller")
+@RestController
+@RequestMapping("/api/{memberCode}")
+@RequiredArgsConstructor
+public class TenantController {
+
+    private static final Pattern MEMBER_CODE = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    // 다른 컨트롤러의 최상위 경로와 겹치는 이름은 memberCode 로 쓰지 않는다
+    private static final Set<String> RESERVED = Set.of(
+            "auth", "posts", "resume", "experience", "sections", "attachments");
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final TenantPortfolioService tenantPortfolioService;
+
+    @GetMapping("/resume")
+    public ResponseVO<SectionResponse> getResume(@PathVariable String memberCode,
+                                                 @RequestParam(value = "view", required = false) String view,
+                                                 @RequestParam(value = "fields", required = false) String fields,
+                                                 HttpServletRequest request) {
+        if (!isValid(memberCode)) return ResponseVO.fail("Invalid memberCode");
+        SectionView sectionView;
+        try {
+            sectionView = SectionView.of(view, fields, UuidAuthFilter.isAuthenticated(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseVO.fail(e.getMessage());
+        }
+        return tenantPortfolioService.getResume(memberCode, sectionView)
+                .map(ResponseVO::ok)
+                .orElseGet(() -> ResponseVO.fail("Resume not found"));
+    }
+
+    @GetMapping("/experience")
+    public ResponseVO<SectionResponse> getExperience(@PathVariable String memberCode,
+                                                     @RequestParam(value = "company", required = false) String companyCode,
+                                                     @RequestParam(value = "view", required = false) String view,
+                                                     @RequestParam(value = "fields", required = false) String fields,
+                                                     HttpServletRequest request) {
+        if (!isValid(memberCode)) return ResponseVO.fail("Invalid memberCode");
+        SectionView sectionView;
+        try {
+            sectionView = SectionView.of(view, fields, UuidAuthFilter.isAuthenticated(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseVO.fail(e.getMessage());
+        }
+        return tenantPortfolioService.getExperience(memberCode, companyCode, sectionView)
+                .map(ResponseVO::ok)
+                .orElseGet(() -> ResponseVO.fail("Experience not found"));
+    }
+
+    @GetMapping("/posts")
+    public ResponseVO<PageResponse<PostResponse>> getPosts(@PathVariable String memberCode,
+                                                           @RequestParam(value = "category", required = false) String category,
+                                                           @RequestParam(defaultValue = "1") int page,
+                                                           @RequestParam(defaultValue = "10") int size) {
+        if (!isValid(memberCode)) return ResponseVO.fail("Invalid memberCode");
+        return ResponseVO.ok(tenantPortfolioService.getPosts(memberCode, category,
+                Math.max(page, 1), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+    }
+
+    private static boolean isValid(String memberCode) {
+        return MEMBER_CODE.matcher(memberCode).matches() && !RESERVED.contains(memberCode);
+    }
+}
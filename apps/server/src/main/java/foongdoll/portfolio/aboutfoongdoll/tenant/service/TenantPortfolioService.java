@@ -0,0 +1,17 @@
+package foongdoll.portfolio.aboutfoongdoll.tenant.service;
+
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PageResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostResponse;
+
+import java.util.Optional;
+
+public interface TenantPortfolioService {
+
+    Optional<SectionResponse> getResume(String memberCode, SectionView view);
+
+    Optional<SectionResponse> getExperience(String memberCode, String companyCode, SectionView view);
+
+    PageResponse<PostResponse> getPosts(String memberCode, String category, int page, int size);
+}
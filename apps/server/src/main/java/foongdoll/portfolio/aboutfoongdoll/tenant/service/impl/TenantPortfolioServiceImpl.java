@@ -0,0 +1,82 @@
+package foongdoll.portfolio.aboutfoongdoll.tenant.service.impl;
+
+import foongdoll.portfolio.aboutfoongdoll.common.cache.TenantSectionCache;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionResponse;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.SectionView;
+import foongdoll.portfolio.aboutfoongdoll.common.event.ContentChangeEvent;
+import foongdoll.portfolio.aboutfoongdoll.experience.service.ExperienceService;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PageResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.dto.PostResponse;
+import foongdoll.portfolio.aboutfoongdoll.post.service.PostService;
+import foongdoll.portfolio.aboutfoongdoll.resume.service.ResumeService;
+import foongdoll.portfolio.aboutfoongdoll.tenant.service.TenantPortfolioService;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.Optional;
+
+/**
+ * 포트폴리오(memberCode) 단위 조회. 렌더링 결과는 TenantSectionCache 에 테넌트별로 저장한다.
+ * 캐시 키는 변경 이벤트 타입(post/resume/experience)으로 시작하므로 이벤트 하나로 해당 테넌트의 그 타입만 비운다.
+ * 섹션은 보기/필드 조합(SectionView.key)마다 따로 저장한다.
+ * 캐시 적중 시 트랜잭션을 열지 않도록 이 클래스는 @Transactional 을 두지 않는다.
+ */
+@Observed(name = "app.service")
+@Service
+@RequiredArgsConstructor
+public class TenantPortfolioServiceImpl implements TenantPortfolioService {
+
+    private final ResumeService resumeService;
+    private final ExperienceService experienceService;
+    private final PostService postService;
+    private final TenantSectionCache cache;
+
+    @Override
+    public Optional<SectionResponse> getResume(String memberCode, SectionView view) {
+        return cache.get(memberCode, ContentChangeEvent.RESUME + ":" + view.key(),
+                () -> resumeService.getResume(memberCode, view),
+                section -> section.map(TenantPortfolioServiceImpl::weigh).orElse(0L),
+                Optional::isPresent);
+    }
+
+    @Override
+    public Optional<SectionResponse> getExperience(String memberCode, String companyCode, SectionView view) {
+        String company = StringUtils.hasText(companyCode) ? companyCode : "";
+        return cache.get(memberCode, ContentChangeEvent.EXPERIENCE + ":" + company + ":" + view.key(),
+                () -> experienceService.getExperience(memberCode, companyCode, view),
+                section -> section.map(TenantPortfolioServiceImpl::weigh).orElse(0L),
+                Optional::isPresent);
+    }
+
+    @Override
+    public PageResponse<PostResponse> getPosts(String memberCode, String category, int page, int size) {
+        String normalized = StringUtils.hasText(category) ? category : "all";
+        return cache.get(memberCode, ContentChangeEvent.POST + ":" + normalized + ":" + page + ":" + size,
+                () -> postService.getPosts(memberCode, category, page, size),
+                TenantPortfolioServiceImpl::weigh,
+                result -> result.getTotalElements() > 0);
+    }
+
+    // ===================== 대략적인 힙 사용량 (문자열 UTF-16 기준) =====================
+
+    /** metadata 는 본문을 만든 원문 필드라 본문과 비슷한 크기로 본다 */
+    private static long weigh(SectionResponse section) {
+        long chars = length(section.getHeader()) + length(section.getContent()) + length(section.getFooter());
+        return chars * 2 * 2 + 256;
+    }
+
+    private static long weigh(PageResponse<PostResponse> page) {
+        long bytes = 128;
+        for (PostResponse p : page.getItems()) {
+            bytes += (length(p.getTitle()) + length(p.getCategory()) + length(p.getKeywords())
+                    + length(p.getSummary()) + length(p.getContent())) * 2L + 160;
+        }
+        return bytes;
+    }
+
+    private static long length(String s) {
+        return s == null ? 0 : s.length();
+    }
+}
@@ -0,0 +1,41 @@
+package foongdoll.portfolio.aboutfoongdoll.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 편집 가능한 필드들의 SHA-256 (hex).
+ * 필드마다 길이를 앞에 붙여 경계를 구분하므로 ("ab","c") 와 ("a","bc") 는 다른 값이 된다. null 은 빈 문자열과 구분.
+ * 저장된 해시와 비교해 실제 변경이 없으면 쓰기/이벤트를 건너뛰는 데 쓴다.
+ */
+public final class ContentHash {
+
+    private ContentHash() {
+    }
+
+    public static String of(String... fields) {
+        MessageDigest digest = sha256();
+        for (String field : fields) {
+            if (field == null) {
+                digest.update((byte) 0);
+                continue;
+            }
+            byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+            digest.update((byte) 1);
+            digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) ':');
+            digest.update(bytes);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package foongdoll.portfolio.aboutfoongdoll.utils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import foongdoll.portfolio.aboutfoongdoll.common.dto.PatchResult;
 import lombok.*;
 
 @Getter @Setter
@@ -22,6 +23,17 @@ public class ResponseVO<T> {
                 .build();
     }
 
+    /**
+     * 수정 응답 생성 (변경이 없었으면 message 가 "unchanged")
+     */
+    public static <T> ResponseVO<T> patched(PatchResult<T> result) {
+        return ResponseVO.<T>builder()
+                .success(true)
+                .message(result.changed() ? "success" : "unchanged")
+                .data(result.value())
+                .build();
+    }
+
     /**
      * 실패 응답 생성
      */
@@ -0,0 +1,70 @@
+-- 기존 ddl-auto=update 로 만들어진 스키마와 동일한 기준선.
+-- 이미 테이블이 있는 DB 는 baseline-on-migrate(version 1) 로 이 스크립트를 건너뛴다.
+
+CREATE TABLE IF NOT EXISTS users (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    username VARCHAR(50)  NOT NULL,
+    password VARCHAR(200) NOT NULL,
+    role     VARCHAR(20)  NOT NULL,
+    enabled  BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS post (
+    post_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    title        VARCHAR(200) NOT NULL,
+    category     VARCHAR(100),
+    keywords     VARCHAR(500),
+    content      LONGTEXT     NOT NULL,
+    summary      TEXT,
+    published_at DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (post_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS resume (
+    resume_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    member_code VARCHAR(255) NOT NULL,
+    name        VARCHAR(50)  NOT NULL,
+    gender      VARCHAR(10),
+    email       VARCHAR(100),
+    phone       VARCHAR(20),
+    address     VARCHAR(255),
+    summary     VARCHAR(500),
+    skills      LONGTEXT,
+    experiences LONGTEXT,
+    activities  LONGTEXT,
+    education   LONGTEXT,
+    PRIMARY KEY (resume_id),
+    CONSTRAINT uk_resume_member_code UNIQUE (member_code)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS company (
+    company_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    company_code VARCHAR(255) NOT NULL,
+    name         VARCHAR(100) NOT NULL,
+    address      VARCHAR(255),
+    phone        VARCHAR(20),
+    industry     VARCHAR(50),
+    department   VARCHAR(50),
+    position     VARCHAR(30),
+    salary       INT,
+    PRIMARY KEY (company_id),
+    CONSTRAINT uk_company_company_code UNIQUE (company_code)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS experience (
+    experience_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    experience_code VARCHAR(255) NOT NULL,
+    name            VARCHAR(100) NOT NULL,
+    company_id      BIGINT       NOT NULL,
+    period          VARCHAR(100),
+    role            VARCHAR(255),
+    tech_stack      LONGTEXT,
+    keywords        LONGTEXT,
+    details         LONGTEXT,
+    PRIMARY KEY (experience_id),
+    CONSTRAINT uk_experience_experience_code UNIQUE (experience_code),
+    CONSTRAINT fk_experience_company FOREIGN KEY (company_id) REFERENCES company (company_id)
+) ENGINE = InnoDB;
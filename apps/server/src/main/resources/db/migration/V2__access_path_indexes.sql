@@ -0,0 +1,8 @@
+-- 조회 경로별 인덱스
+-- PostRepository.findByCategory(category, Sort.by(DESC, "id")) : 필터 + 정렬을 인덱스 순서로 처리 (filesort 제거)
+CREATE INDEX idx_post_category_id ON post (category, post_id DESC);
+
+-- ExperienceRepository.findByCompanyCompanyCodeOrderByIdAsc : company_code(unique) -> company_id 조인 후 experience_id 순서
+CREATE INDEX idx_experience_company_id ON experience (company_id, experience_id);
+
+-- company_code / experience_code / member_code / username 단건 조회는 V1 의 unique 제약(인덱스)을 사용한다.
@@ -0,0 +1,17 @@
+-- 포스트 첨부파일 메타데이터. 실제 바이트는 app.attachments.dir 아래 content_hash(SHA-256) 경로에 한 번만 저장된다.
+-- 같은 파일을 여러 포스트에 올리면 행만 늘고 blob 은 공유한다 (post 삭제 후 참조가 없어지면 백그라운드에서 정리).
+CREATE TABLE IF NOT EXISTS post_attachment (
+    attachment_id BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id       BIGINT       NOT NULL,
+    content_hash  VARCHAR(64)  NOT NULL,
+    file_name     VARCHAR(255) NOT NULL,
+    content_type  VARCHAR(100) NOT NULL,
+    size_bytes    BIGINT       NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (attachment_id)
+) ENGINE = InnoDB;
+
+-- AttachmentRepository.findByPostIdOrderByIdAsc
+CREATE INDEX idx_post_attachment_post_id ON post_attachment (post_id, attachment_id);
+-- 해시로 메타 조회 / 참조 여부 확인 (blob 정리)
+CREATE INDEX idx_post_attachment_content_hash ON post_attachment (content_hash);
@@ -0,0 +1,16 @@
+-- 한 인스턴스에서 여러 포트폴리오를 호스팅하기 위한 소유자(member_code) 컬럼.
+-- 기존 데이터는 가장 먼저 만들어진 이력서의 소유자에게 귀속시킨다.
+ALTER TABLE post ADD COLUMN member_code VARCHAR(64) NULL;
+ALTER TABLE experience ADD COLUMN member_code VARCHAR(64) NULL;
+
+UPDATE post SET member_code = (SELECT r.member_code FROM resume r ORDER BY r.resume_id LIMIT 1)
+WHERE member_code IS NULL;
+UPDATE experience SET member_code = (SELECT r.member_code FROM resume r ORDER BY r.resume_id LIMIT 1)
+WHERE member_code IS NULL;
+
+-- PostRepository.findByMemberCode / findByMemberCodeAndCategory (id DESC 정렬까지 인덱스 순서로)
+CREATE INDEX idx_post_member_id ON post (member_code, post_id DESC);
+CREATE INDEX idx_post_member_category_id ON post (member_code, category, post_id DESC);
+
+-- ExperienceRepository.findByMemberCodeOrderByIdAsc
+CREATE INDEX idx_experience_member_id ON experience (member_code, experience_id);
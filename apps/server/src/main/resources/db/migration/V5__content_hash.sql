@@ -0,0 +1,4 @@
+-- 편집 필드 전체의 SHA-256. 수정 요청의 해시가 같으면 UPDATE 와 캐시 무효화를 건너뛴다.
+-- 기존 행은 NULL 이며 첫 수정 시 채워진다.
+ALTER TABLE post ADD COLUMN content_hash VARCHAR(64) NULL;
+ALTER TABLE resume ADD COLUMN content_hash VARCHAR(64) NULL;
@@ -0,0 +1,27 @@
+-- 변경 피드 (GET /api/changes). 포스트/이력서/경험 쓰기마다 같은 트랜잭션 안에서 한 행씩 기록된다.
+-- seq 는 change_seq 행을 잠그고 할당하므로 커밋 순서와 seq 순서가 같다 (소비자가 since 이후만 읽어도 빠지는 행이 없음).
+CREATE TABLE IF NOT EXISTS change_seq (
+    id            INT    NOT NULL,
+    last_seq      BIGINT NOT NULL,
+    truncated_seq BIGINT NOT NULL,  -- 보존 기간이 지나 잘려 나간 마지막 seq (since 가 이보다 작으면 전체 재동기화)
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO change_seq (id, last_seq, truncated_seq) VALUES (1, 0, 0);
+
+CREATE TABLE IF NOT EXISTS change_log (
+    seq          BIGINT      NOT NULL,
+    entity_type  VARCHAR(20) NOT NULL,
+    entity_key   VARCHAR(64) NOT NULL,
+    action       VARCHAR(16) NOT NULL,
+    company_code VARCHAR(64) NULL,
+    member_code  VARCHAR(64) NULL,
+    version      BIGINT      NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (seq)
+) ENGINE = InnoDB;
+
+-- 압축: 같은 엔티티의 더 새 행이 있는지 확인
+CREATE INDEX idx_change_log_entity ON change_log (entity_type, entity_key, seq);
+-- 보존 기간 정리
+CREATE INDEX idx_change_log_created_at ON change_log (created_at);
@@ -0,0 +1,2 @@
+-- 변경을 기록한 노드. 각 노드는 change_log 를 seq 순으로 읽어 다른 노드가 기록한 변경만 로컬 캐시에서 무효화한다.
+ALTER TABLE change_log ADD COLUMN origin_node VARCHAR(64) NULL;
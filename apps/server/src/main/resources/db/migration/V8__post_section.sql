@@ -0,0 +1,16 @@
+-- 긴 포스트를 제목(#) 단위로 나눠 저장한다. 저장 시점에 post.content 로부터 다시 만들어지며,
+-- 클라이언트는 목차(outline)와 첫 섹션만 먼저 받고 나머지는 스크롤하며 section_no 로 가져간다.
+CREATE TABLE IF NOT EXISTS post_section (
+    section_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id      BIGINT       NOT NULL,
+    section_no   INT          NOT NULL,
+    level        INT          NOT NULL,
+    title        VARCHAR(255),
+    anchor       VARCHAR(255),
+    content      LONGTEXT     NOT NULL,
+    char_length  INT          NOT NULL,
+    continuation BIT          NOT NULL,
+    PRIMARY KEY (section_id),
+    -- PostSectionRepository.findOutline / findByPostIdAndSectionNo / deleteByPostId
+    CONSTRAINT uk_post_section_post_no UNIQUE (post_id, section_no)
+) ENGINE = InnoDB;
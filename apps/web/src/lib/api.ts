@@ -1,10 +1,12 @@
 import axios, { type AxiosRequestConfig } from "axios";
 
+export const API_BASE_URL = "http://3.38.237.211:8080/api";
+// export const API_BASE_URL = "http://localhost:8080/api";
+
 // ✅ 공통 axios 호출 함수 3.38.237.211
 async function request<T = any>(config: AxiosRequestConfig): Promise<T> {
   const instance = axios.create({
-    baseURL: "http://3.38.237.211:8080/api", 
-    // baseURL: "http://localhost:8080/api", 
+    baseURL: API_BASE_URL,
     timeout: 10000,
     withCredentials: true,
     headers: {
@@ -0,0 +1,86 @@
+import { API_BASE_URL, get } from "./api";
+
+// 서버 /ws/changes 가 푸시하는 변경 이벤트
+export type ChangeType = "post" | "resume" | "experience";
+export type ChangeEvent = {
+  type: ChangeType;
+  action: "created" | "updated" | "deleted";
+  id?: number;
+  key?: string;
+  companyCode?: string;
+  version: number;
+};
+
+type Listener = (event: ChangeEvent) => void;
+
+const WS_URL = API_BASE_URL.replace(/^http/, "ws").replace(/\/api$/, "/ws/changes");
+const RECONNECT_MS = 3000;
+
+const listeners = new Set<Listener>();
+// 타입별 로컬 캐시: 소켓이 연결되어 있는 동안만 신뢰 (끊기면 놓친 이벤트가 있을 수 있음)
+const cache = new Map<ChangeType, Map<string, Promise<unknown>>>();
+
+let socket: WebSocket | null = null;
+let connected = false;
+
+function connect() {
+  if (typeof window === "undefined" || socket) return;
+
+  socket = new WebSocket(WS_URL);
+  socket.onopen = () => {
+    cache.clear();
+    connected = true;
+  };
+  socket.onmessage = (msg) => {
+    try {
+      const event = JSON.parse(msg.data) as ChangeEvent;
+      cache.get(event.type)?.clear();
+      listeners.forEach((l) => l(event));
+    } catch (e) {
+      console.warn("invalid change event", e);
+    }
+  };
+  socket.onclose = () => {
+    connected = false;
+    cache.clear();
+    socket = null;
+    window.setTimeout(connect, RECONNECT_MS);
+  };
+}
+
+/** 변경 이벤트 구독, 반환값으로 해제 */
+export function onContentChange(type: ChangeType, listener: () => void) {
+  connect();
+  const l: Listener = (event) => {
+    if (event.type === type) listener();
+  };
+  listeners.add(l);
+  return () => {
+    listeners.delete(l);
+  };
+}
+
+/** 변경 이벤트가 오기 전까지 같은 요청은 로컬 캐시에서 응답 */
+export function cachedGet<T = any>(type: ChangeType, url: string, params?: Record<string, unknown>): Promise<T> {
+  connect();
+  if (!connected || localStorage.getItem("token")) {
+    return get<T>(url, params);
+  }
+
+  const key = url + "?" + JSON.stringify(params ?? {});
+  let bucket = cache.get(type);
+  if (!bucket) {
+    bucket = new Map();
+    cache.set(type, bucket);
+  }
+
+  const hit = bucket.get(key);
+  if (hit) return hit as Promise<T>;
+
+  const pending = get<T>(url, params).catch((err) => {
+    bucket?.delete(key);
+    throw err;
+  });
+  bucket.set(key, pending);
+  return pending;
+}
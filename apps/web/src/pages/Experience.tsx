@@ -1,6 +1,6 @@
 // src/pages/Experience.tsx
 import { useCallback, useEffect, useState } from "react";
-import { get } from "../lib/api";
+import { cachedGet, onContentChange } from "../lib/changes";
 import type { ApiResponse, SectionPayload } from "../lib/types";
 
 /** ===== Types ===== */
@@ -195,7 +195,8 @@ const Experience = () => {
   const load = useCallback(async () => {
     setLoading(true);
     try {
-      const res = await get<ApiResponse<ExperienceSectionPayload>>("/experience");
+      // 화면은 metadata 로만 그리므로 HTML 본문은 받지 않는다
+      const res = await cachedGet<ApiResponse<ExperienceSectionPayload>>("experience", "/experience", { fields: "metadata" });
       if (res.success && res.data?.metadata?.experiences) {
         setRows(coerceList(res.data.metadata.experiences));
       } else {
@@ -210,6 +211,8 @@ const Experience = () => {
     load();
   }, [load]);
 
+  useEffect(() => onContentChange("experience", load), [load]);
+
   const toggle = (i: number) => setExpanded((v) => (v === i ? null : i));
 
   if (loading) {
@@ -1,7 +1,8 @@
 import { useCallback, useEffect, useMemo, useState } from "react";
 import { useSearchParams } from "react-router-dom";
 import ReactMarkdown from "react-markdown";
-import { get, post, put, del } from "../lib/api";
+import { post, put, del } from "../lib/api";
+import { cachedGet, onContentChange } from "../lib/changes";
 import type { ApiResponse } from "../lib/types";
 
 import remarkGfm from "remark-gfm";
@@ -127,7 +128,7 @@ const Post = () => {
     };
     if (requestCategory) params.category = requestCategory;
 
-    get<ApiResponse<ListResp>>("/posts", params)
+    cachedGet<ApiResponse<ListResp>>("post", "/posts", params)
       .then((res) => {
         if (cancelled) return;
         if (!res.success || !res.data) {
@@ -165,6 +166,8 @@ const Post = () => {
     };
   }, [fetchPosts, refreshKey]);
 
+  useEffect(() => onContentChange("post", () => setRefreshKey((k) => k + 1)), []);
+
   // ESC로 미리보기 닫기
   useEffect(() => {
     if (!previewOpen) return;
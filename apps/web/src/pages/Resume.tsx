@@ -2,7 +2,8 @@
 import { Mail, MapPin, Phone } from "lucide-react";
 import type { LucideIcon } from "lucide-react";
 import Card from "../components/ui/Card";
-import { del, get, post } from "../lib/api";
+import { del, post } from "../lib/api";
+import { cachedGet, onContentChange } from "../lib/changes";
 import type { ApiResponse, SectionPayload } from "../lib/types";
 
 type ResumeFormValues = {
@@ -92,7 +93,7 @@ const Resume = () => {
     setInfoMessage(null);
 
     try {
-      const response = await get<ApiResponse<ResumeSectionPayload>>("/resume");
+      const response = await cachedGet<ApiResponse<ResumeSectionPayload>>("resume", "/resume");
       if (response.success && response.data) {
         setSection(response.data);
         const metaForm = (response.data.metadata as ResumeMetadata | undefined)?.form;
@@ -117,6 +118,8 @@ const Resume = () => {
     loadResume();
   }, [loadResume]);
 
+  useEffect(() => onContentChange("resume", loadResume), [loadResume]);
+
   useEffect(() => {
     const syncToken = () => {
       if (typeof window === "undefined") return;